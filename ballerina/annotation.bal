@@ -14,6 +14,10 @@
 // specific language governing permissions and limitations
 // under the License.
 
+# Policy for runs of a scheduled task which start while a previous run is still active.
+# `Allow` runs them concurrently, `Forbid` skips the new run and `Replace` stops the previous run.
+public type ConcurrencyPolicy "Allow"|"Forbid"|"Replace";
+
 # Cron Job Schedule Configuration.
 #
 # + hours - Hours
@@ -21,19 +25,35 @@
 # + dayOfMonth - Day of Month
 # + minutes - Minutes
 # + daysOfWeek - Days of Week
+# + concurrencyPolicy - Policy for runs which start while a previous run is still active
+# + startingDeadlineSeconds - Seconds after the scheduled time within which a missed run can still be started
+# + activeDeadlineSeconds - Seconds a run can be active before it is terminated
+# + successfulJobsHistoryLimit - Number of successful runs retained in the cluster
+# + failedJobsHistoryLimit - Number of failed runs retained in the cluster
+# + timeZone - Time zone of the schedule. eg: `Asia/Colombo`
 public type ScheduleConfig record {|
      string minutes;
      string hours;
      string dayOfMonth;
      string monthOfYear;
      string daysOfWeek;
+     ConcurrencyPolicy concurrencyPolicy?;
+     int startingDeadlineSeconds?;
+     int activeDeadlineSeconds?;
+     int successfulJobsHistoryLimit?;
+     int failedJobsHistoryLimit?;
+     string timeZone?;
 |};
 
 # Task Configuration.
 #
 # + schedule - Task execution schedule
+# + parallelism - Maximum number of pods of the task running at a time
+# + completions - Number of successful pods required to complete the task. Each pod gets a unique completion index
 public type TaskConfig record{|
     ScheduleConfig schedule?;
+    int parallelism?;
+    int completions?;
 |};
 
 # @cloud:Task annotation to configure cron job.
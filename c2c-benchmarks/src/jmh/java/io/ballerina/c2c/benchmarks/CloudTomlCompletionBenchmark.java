@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.benchmarks;
+
+import io.ballerina.c2c.tooling.completion.CloudTomlCompletionTrie;
+import io.ballerina.c2c.tooling.completion.CloudTomlSnippetManager;
+import org.ballerinalang.langserver.commons.toml.common.completion.TomlCompletionUtil;
+import org.ballerinalang.langserver.commons.toml.visitor.TomlNode;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.eclipse.lsp4j.CompletionItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Cloud.toml completion lookups of a table, a table array and the top level against the schema trie
+ * cached by the {@link CloudTomlSnippetManager}, which serve every completion request after the first one.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CloudTomlCompletionBenchmark {
+
+    private static final String TABLE = "cloud.deployment";
+    private static final String TABLE_ARRAY = "cloud.config.maps";
+
+    @Benchmark
+    public Map<TomlNode, Map<String, CompletionItem>> table(CompletionState state) {
+        return state.snippetManager.getCompletionTrie().getSnippets(TABLE);
+    }
+
+    @Benchmark
+    public Map<TomlNode, Map<String, CompletionItem>> tableArray(CompletionState state) {
+        return state.snippetManager.getCompletionTrie().getSnippets(TABLE_ARRAY);
+    }
+
+    @Benchmark
+    public Map<String, CompletionItem> topLevel(CompletionState state) {
+        CloudTomlCompletionTrie trie = state.snippetManager.getCompletionTrie();
+        Map<String, CompletionItem> completions = new HashMap<>();
+        TomlCompletionUtil.addTopLevelNodeCompletions(trie.getTables(), completions);
+        return completions;
+    }
+
+    /**
+     * Snippet manager of a language server with the schema trie already built by a previous request.
+     */
+    @State(Scope.Benchmark)
+    public static class CompletionState {
+
+        private CloudTomlSnippetManager snippetManager;
+
+        @Setup
+        public void setup() {
+            snippetManager = CloudTomlSnippetManager.getInstance(new LanguageServerContextImpl());
+            if (snippetManager.getCompletionTrie().getSnippets(TABLE).isEmpty() ||
+                    snippetManager.getCompletionTrie().getSnippets(TABLE_ARRAY).isEmpty()) {
+                throw new IllegalStateException("schema does not define " + TABLE + " and " + TABLE_ARRAY);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.benchmarks;
+
+import io.ballerina.c2c.CloudTomlResolver;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.KubernetesContext;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.toml.api.Toml;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing and resolution of Cloud.toml files with an increasing number of envs, config maps and
+ * secrets into the deployment model.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CloudTomlResolverBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int entries;
+
+    @Param({"1024"})
+    private int fileSize;
+
+    private Path fileDir;
+    private String cloudToml;
+    private KubernetesDataHolder dataHolder;
+
+    @Setup
+    public void setup() {
+        fileDir = SyntheticPackage.createTempDirectory("c2c-cloud-toml");
+        cloudToml = SyntheticPackage.getCloudToml(fileDir, entries, fileSize);
+        dataHolder = KubernetesContext.getInstance().getDataHolder();
+        dataHolder.setSourceRoot(fileDir);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SyntheticPackage.delete(fileDir);
+    }
+
+    @Benchmark
+    public Toml parse() {
+        return Toml.read(cloudToml);
+    }
+
+    @Benchmark
+    public DeploymentModel parseAndResolve() throws KubernetesPluginException {
+        dataHolder.setBallerinaCloud(Toml.read(cloudToml));
+        dataHolder.getConfigMapModelSet().clear();
+        dataHolder.getSecretModelSet().clear();
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("bench-deployment");
+        new CloudTomlResolver().resolveToml(deploymentModel);
+        return deploymentModel;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.benchmarks;
+
+import io.ballerina.c2c.exceptions.DockerGenException;
+import io.ballerina.c2c.models.DockerModel;
+import io.ballerina.c2c.utils.DockerGenerator;
+import org.ballerinalang.model.elements.PackageID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of the Dockerfile and the copying of the dependency jars into the docker artifact
+ * directory for packages with hundreds of dependency jars. The image is not built.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DockerfileGenerationBenchmark {
+
+    private static final String JAR_FILE_NAME = "bench-bench-0.1.0.jar";
+
+    @Param({"100", "500"})
+    private int jars;
+
+    @Param({"65536"})
+    private int jarSize;
+
+    private Path root;
+    private Path executableJar;
+    private Path outputDir;
+    private DockerGenerator dockerGenerator;
+    private final PrintStream outStream = new PrintStream(OutputStream.nullOutputStream());
+
+    @Setup
+    public void setup() {
+        root = SyntheticPackage.createTempDirectory("c2c-docker");
+        String content = "x".repeat(jarSize);
+        Set<Path> dependencyJars = new TreeSet<>();
+        for (int i = 0; i < jars; i++) {
+            Path jar = root.resolve("jars").resolve("dependency-" + i + ".jar");
+            SyntheticPackage.write(jar, content);
+            dependencyJars.add(jar);
+        }
+        executableJar = root.resolve(JAR_FILE_NAME);
+        SyntheticPackage.write(executableJar, content);
+        dependencyJars.add(executableJar);
+        outputDir = root.resolve("docker");
+
+        DockerModel dockerModel = new DockerModel();
+        dockerModel.setName("bench");
+        dockerModel.setTag("v1");
+        dockerModel.setBuildImage(false);
+        dockerModel.setJarFileName(JAR_FILE_NAME);
+        dockerModel.setPkgId(new PackageID(new Name("bench"), new Name("bench"), new Name("0.1.0")));
+        dockerModel.addDependencyJarPaths(dependencyJars);
+        dockerGenerator = new DockerGenerator(dockerModel);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SyntheticPackage.delete(root);
+    }
+
+    @Benchmark
+    public Path createArtifacts() throws DockerGenException {
+        dockerGenerator.createArtifacts(outStream, "[bench]", executableJar, outputDir);
+        return outputDir;
+    }
+}
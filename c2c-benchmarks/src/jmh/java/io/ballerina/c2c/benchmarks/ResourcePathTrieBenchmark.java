@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.benchmarks;
+
+import io.ballerina.c2c.util.ListenerInfo;
+import io.ballerina.c2c.util.ResourceInfo;
+import io.ballerina.c2c.util.ResourcePathTrie;
+import io.ballerina.c2c.util.ServiceInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a {@link ResourcePathTrie} and matching probe paths against it for projects with many services.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResourcePathTrieBenchmark {
+
+    private static final int RESOURCES_PER_SERVICE = 100;
+    private static final int PORTS = 5;
+    private static final int LOOKUPS = 1000;
+
+    @Benchmark
+    public ResourcePathTrie build(TrieState state) {
+        return new ResourcePathTrie(state.services);
+    }
+
+    @Benchmark
+    public int lookup(TrieState state) {
+        int found = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (state.trie.hasResource(state.ports[i], state.paths[i])) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Services with path param resources spread over a few listeners, and the probe paths to match against them.
+     */
+    @State(Scope.Benchmark)
+    public static class TrieState {
+
+        @Param({"5", "50"})
+        private int serviceCount;
+
+        private List<ServiceInfo> services;
+        private ResourcePathTrie trie;
+        private int[] ports;
+        private String[] paths;
+
+        @Setup
+        public void setup() {
+            services = new ArrayList<>();
+            for (int i = 0; i < serviceCount; i++) {
+                int port = 9090 + i % PORTS;
+                ServiceInfo serviceInfo = new ServiceInfo(new ListenerInfo("listener" + port, port), null,
+                        "/service" + i);
+                for (int j = 0; j < RESOURCES_PER_SERVICE; j++) {
+                    serviceInfo.addResource(new ResourceInfo(null, "get", "resource" + j + "/[string id]"));
+                }
+                services.add(serviceInfo);
+            }
+            trie = new ResourcePathTrie(services);
+            ports = new int[LOOKUPS];
+            paths = new String[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                int service = i % serviceCount;
+                ports[i] = 9090 + service % PORTS;
+                paths[i] = "/service" + service + "/resource" + (i % RESOURCES_PER_SERVICE) + "/" + i;
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.benchmarks;
+
+import io.ballerina.c2c.util.C2CVisitor;
+import io.ballerina.c2c.util.ModuleLevelVariableExtractor;
+import io.ballerina.c2c.util.ProjectServiceInfo;
+import io.ballerina.c2c.util.ServiceInfo;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the service extraction of {@link C2CVisitor} and of the {@link ProjectServiceInfo} of cloud-util, which
+ * the analysis task and the Cloud.toml validation use, over packages of increasing size. The packages are compiled
+ * once during the setup, so only the syntax tree traversal and the semantic model lookups are measured.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceAnalysisBenchmark {
+
+    @Param({"1", "16", "128"})
+    private int services;
+
+    @Param({"4"})
+    private int resources;
+
+    private Path root;
+    private Project project;
+    private final List<ModuleSources> modules = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        root = SyntheticPackage.createPackage(SyntheticPackage.createTempDirectory("c2c-analysis"), services,
+                resources);
+        project = BuildProject.load(root);
+        for (Module module : project.currentPackage().modules()) {
+            ModuleSources sources = new ModuleSources(module.getCompilation().getSemanticModel());
+            for (DocumentId documentId : module.documentIds()) {
+                Node rootNode = module.document(documentId).syntaxTree().rootNode();
+                rootNode.accept(new ModuleLevelVariableExtractor(sources.moduleLevelVariables));
+                sources.rootNodes.add(rootNode);
+            }
+            modules.add(sources);
+        }
+        if (new ProjectServiceInfo(project).getServiceList().size() != services) {
+            throw new IllegalStateException("unexpected number of services in the synthetic package");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        SyntheticPackage.delete(root);
+    }
+
+    @Benchmark
+    public List<ServiceInfo> projectServiceInfo() {
+        return new ProjectServiceInfo(project).getServiceList();
+    }
+
+    @Benchmark
+    public List<ServiceInfo> c2cVisitor() {
+        List<ServiceInfo> serviceList = new ArrayList<>();
+        for (ModuleSources module : modules) {
+            for (Node rootNode : module.rootNodes) {
+                C2CVisitor visitor = new C2CVisitor(module.moduleLevelVariables, module.semanticModel,
+                        new ArrayList<>());
+                rootNode.accept(visitor);
+                serviceList.addAll(visitor.getServices());
+            }
+        }
+        return serviceList;
+    }
+
+    /**
+     * Compiled sources of a module.
+     */
+    private static class ModuleSources {
+
+        private final SemanticModel semanticModel;
+        private final Map<String, Node> moduleLevelVariables = new HashMap<>();
+        private final List<Node> rootNodes = new ArrayList<>();
+
+        private ModuleSources(SemanticModel semanticModel) {
+            this.semanticModel = semanticModel;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Generates Ballerina packages and Cloud.toml files of a given size for the benchmarks.
+ *
+ * @since 2.0.0
+ */
+public class SyntheticPackage {
+
+    static final int BASE_PORT = 9000;
+    private static final int SERVICES_PER_MODULE = 8;
+
+    private SyntheticPackage() {
+    }
+
+    /**
+     * Write a package with the given number of http services, each on its own listener. The services are spread over
+     * modules of eight services each, one service per file.
+     *
+     * @param root      directory to write the package into
+     * @param services  number of services
+     * @param resources number of resources per service
+     * @return source root of the package
+     */
+    static Path createPackage(Path root, int services, int resources) {
+        write(root.resolve("Ballerina.toml"), "[package]\norg = \"bench\"\nname = \"bench\"\nversion = \"0.1.0\"\n");
+        write(root.resolve("main.bal"), "public function main() {\n}\n");
+        for (int i = 0; i < services; i++) {
+            Path moduleDir = root.resolve("modules").resolve("m" + (i / SERVICES_PER_MODULE));
+            write(moduleDir.resolve("service" + i + ".bal"), getService(i, resources));
+        }
+        return root;
+    }
+
+    private static String getService(int index, int resources) {
+        StringBuilder source = new StringBuilder("import ballerina/http;\n\n");
+        source.append("listener http:Listener ep").append(index).append(" = new (").append(BASE_PORT + index)
+                .append(");\n\n");
+        source.append("service /svc").append(index).append(" on ep").append(index).append(" {\n");
+        for (int j = 0; j < resources; j++) {
+            source.append("    resource function get res").append(j).append("/[string id]() returns string {\n")
+                    .append("        return id;\n")
+                    .append("    }\n\n");
+        }
+        source.append("    resource function get healthz() returns string {\n")
+                .append("        return \"ok\";\n")
+                .append("    }\n");
+        return source.append("}\n").toString();
+    }
+
+    /**
+     * Get a Cloud.toml with the given number of envs, secret envs, config maps and secret files. The config map and
+     * secret files are written to the given directory.
+     *
+     * @param fileDir  directory to write the referenced files into
+     * @param entries  number of entries of each kind
+     * @param fileSize size of each referenced file in bytes
+     * @return Cloud.toml content
+     */
+    static String getCloudToml(Path fileDir, int entries, int fileSize) {
+        StringBuilder toml = new StringBuilder();
+        toml.append("[container.image]\nrepository = \"bench\"\nname = \"bench\"\ntag = \"v1\"\n\n");
+        toml.append("[cloud.deployment]\nmin_memory = \"100Mi\"\nmax_memory = \"512Mi\"\nmin_cpu = \"200m\"\n")
+                .append("max_cpu = \"1000m\"\n\n");
+        toml.append(getProbes(BASE_PORT, "/svc0/healthz"));
+        String content = "x".repeat(fileSize);
+        for (int i = 0; i < entries; i++) {
+            toml.append("[[cloud.config.envs]]\nkey_ref = \"ENV_").append(i).append("\"\nname = \"env").append(i)
+                    .append("\"\nconfig_name = \"bench-config\"\n\n");
+            toml.append("[[cloud.secret.envs]]\nkey_ref = \"SECRET_").append(i).append("\"\nname = \"secret")
+                    .append(i).append("\"\nsecret_name = \"bench-secret\"\n\n");
+            Path configFile = fileDir.resolve("config" + i + ".txt");
+            write(configFile, content);
+            toml.append("[[cloud.config.maps]]\nfile = \"").append(toTomlPath(configFile))
+                    .append("\"\nmount_path = \"/home/ballerina/config").append(i).append("\"\n\n");
+            Path secretFile = fileDir.resolve("secret" + i + ".txt");
+            write(secretFile, content);
+            toml.append("[[cloud.secret.files]]\nfile = \"").append(toTomlPath(secretFile))
+                    .append("\"\nmount_path = \"/home/ballerina/secret").append(i).append("\"\n\n");
+        }
+        return toml.toString();
+    }
+
+    static String getProbes(int port, String path) {
+        return "[cloud.deployment.probes.readiness]\nport = " + port + "\npath = \"" + path + "\"\n\n" +
+                "[cloud.deployment.probes.liveness]\nport = " + port + "\npath = \"" + path + "\"\n\n";
+    }
+
+    static Path createTempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void delete(Path path) {
+        try (Stream<Path> paths = Files.walk(path)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toTomlPath(Path path) {
+        return path.toAbsolutePath().toString().replace("\\", "/");
+    }
+
+    static void write(Path path, String content) {
+        try {
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
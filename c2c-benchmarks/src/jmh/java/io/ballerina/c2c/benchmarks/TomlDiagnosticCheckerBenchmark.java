@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.benchmarks;
+
+import io.ballerina.c2c.diagnostics.TomlDiagnosticChecker;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of the Cloud.toml against the services of packages of increasing size. The probes point
+ * to the last service, so the resource paths of every service are considered.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TomlDiagnosticCheckerBenchmark {
+
+    @Param({"1", "16", "128"})
+    private int services;
+
+    private Path root;
+    private Project project;
+    private Toml toml;
+
+    @Setup
+    public void setup() {
+        root = SyntheticPackage.createPackage(SyntheticPackage.createTempDirectory("c2c-toml-check"), services, 4);
+        project = BuildProject.load(root);
+        project.currentPackage().getCompilation();
+        int last = services - 1;
+        toml = Toml.read(SyntheticPackage.getProbes(SyntheticPackage.BASE_PORT + last, "/svc" + last + "/healthz") +
+                "[cloud.deployment]\nmax_cpu = \"1000m\"\nmax_pool_size = 4\n");
+    }
+
+    @TearDown
+    public void tearDown() {
+        SyntheticPackage.delete(root);
+    }
+
+    @Benchmark
+    public List<Diagnostic> validateTomlWithSource() {
+        return new TomlDiagnosticChecker(project).validateTomlWithSource(toml);
+    }
+}
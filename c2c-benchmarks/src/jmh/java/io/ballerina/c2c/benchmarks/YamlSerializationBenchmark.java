@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.benchmarks;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
+import io.fabric8.kubernetes.api.model.PodTemplateSpec;
+import io.fabric8.kubernetes.api.model.PodTemplateSpecBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.fabric8.kubernetes.api.model.autoscaling.v1.HorizontalPodAutoscalerBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.CronJobBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudgetBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link KubernetesUtils#asYaml(Object)} for every resource type generated by the plugin, and for config
+ * maps and secrets of up to a few megabytes.
+ *
+ * @since 2.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class YamlSerializationBenchmark {
+
+    private static final String NAME = "bench";
+    private static final Map<String, String> SELECTOR = Collections.singletonMap("app", NAME);
+    private static final int ENV_COUNT = 20;
+
+    @Benchmark
+    public String resource(ResourceState state) throws KubernetesPluginException {
+        return KubernetesUtils.asYaml(state.resource);
+    }
+
+    @Benchmark
+    public String configMap(DataState state) throws KubernetesPluginException {
+        return KubernetesUtils.asYaml(state.configMap);
+    }
+
+    @Benchmark
+    public String secret(DataState state) throws KubernetesPluginException {
+        return KubernetesUtils.asYaml(state.secret);
+    }
+
+    /**
+     * A resource of each kind generated by the plugin.
+     */
+    @State(Scope.Benchmark)
+    public static class ResourceState {
+
+        @Param({"Deployment", "StatefulSet", "Service", "HorizontalPodAutoscaler", "Job", "CronJob",
+                "PersistentVolumeClaim", "PodDisruptionBudget"})
+        private String kind;
+
+        private Object resource;
+
+        @Setup
+        public void setup() {
+            resource = createResource(kind);
+        }
+    }
+
+    /**
+     * A config map and a secret holding files of the given size.
+     */
+    @State(Scope.Benchmark)
+    public static class DataState {
+
+        @Param({"1024", "1048576", "4194304"})
+        private int dataSize;
+
+        private Object configMap;
+        private Object secret;
+
+        @Setup
+        public void setup() {
+            String content = getContent(dataSize);
+            configMap = new ConfigMapBuilder()
+                    .withNewMetadata().withName(NAME + "-config").endMetadata()
+                    .withData(Collections.singletonMap("data.txt", content))
+                    .build();
+            String encoded = Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8));
+            secret = new SecretBuilder()
+                    .withNewMetadata().withName(NAME + "-secret").endMetadata()
+                    .withData(Collections.singletonMap("data.txt", encoded))
+                    .build();
+        }
+    }
+
+    private static String getContent(int size) {
+        // Config files mounted through config maps are mostly multi-line properties or toml files.
+        StringBuilder content = new StringBuilder(size);
+        while (content.length() < size) {
+            content.append("key").append(content.length()).append(" = \"value\"\n");
+        }
+        return content.substring(0, size);
+    }
+
+    private static Object createResource(String kind) {
+        switch (kind) {
+            case "Deployment":
+                return new DeploymentBuilder()
+                        .withNewMetadata().withName(NAME + "-deployment").withLabels(SELECTOR).endMetadata()
+                        .withNewSpec().withReplicas(1).withNewSelector().withMatchLabels(SELECTOR).endSelector()
+                        .withTemplate(getPodTemplate()).endSpec()
+                        .build();
+            case "StatefulSet":
+                return new StatefulSetBuilder()
+                        .withNewMetadata().withName(NAME + "-statefulset").withLabels(SELECTOR).endMetadata()
+                        .withNewSpec().withReplicas(1).withServiceName(NAME + "-svc").withNewSelector()
+                        .withMatchLabels(SELECTOR).endSelector().withTemplate(getPodTemplate()).endSpec()
+                        .build();
+            case "Service":
+                return new ServiceBuilder()
+                        .withNewMetadata().withName(NAME + "-svc").withLabels(SELECTOR).endMetadata()
+                        .withNewSpec().addNewPort().withName("port-1-bench").withPort(9090)
+                        .withTargetPort(new IntOrString(9090)).withProtocol("TCP").endPort()
+                        .withSelector(SELECTOR).withType("ClusterIP").endSpec()
+                        .build();
+            case "HorizontalPodAutoscaler":
+                return new HorizontalPodAutoscalerBuilder()
+                        .withNewMetadata().withName(NAME + "-hpa").withLabels(SELECTOR).endMetadata()
+                        .withNewSpec().withMinReplicas(1).withMaxReplicas(2)
+                        .withTargetCPUUtilizationPercentage(50).withNewScaleTargetRef().withApiVersion("apps/v1")
+                        .withKind("Deployment").withName(NAME + "-deployment").endScaleTargetRef().endSpec()
+                        .build();
+            case "Job":
+                return new JobBuilder()
+                        .withNewMetadata().withName(NAME + "-job").endMetadata()
+                        .withNewSpec().withBackoffLimit(3).withTemplate(getPodTemplate()).endSpec()
+                        .build();
+            case "CronJob":
+                return new CronJobBuilder()
+                        .withNewMetadata().withName(NAME + "-cronjob").endMetadata()
+                        .withNewSpec().withSchedule("*/5 * * * *").withNewJobTemplate().withNewSpec()
+                        .withTemplate(getPodTemplate()).endSpec().endJobTemplate().endSpec()
+                        .build();
+            case "PersistentVolumeClaim":
+                return new PersistentVolumeClaimBuilder()
+                        .withNewMetadata().withName(NAME + "-pvc").endMetadata()
+                        .withNewSpec().withAccessModes("ReadWriteOnce").withNewResources()
+                        .addToRequests("storage", new Quantity("1Gi")).endResources().endSpec()
+                        .build();
+            case "PodDisruptionBudget":
+                return new PodDisruptionBudgetBuilder()
+                        .withNewMetadata().withName(NAME + "-pdb").endMetadata()
+                        .withNewSpec().withMinAvailable(new IntOrString(1)).withNewSelector()
+                        .withMatchLabels(SELECTOR).endSelector().endSpec()
+                        .build();
+            default:
+                throw new IllegalArgumentException("unknown resource kind: " + kind);
+        }
+    }
+
+    private static PodTemplateSpec getPodTemplate() {
+        List<EnvVar> envVars = new ArrayList<>();
+        for (int i = 0; i < ENV_COUNT; i++) {
+            envVars.add(new EnvVarBuilder().withName("ENV_" + i).withNewValueFrom().withNewConfigMapKeyRef()
+                    .withKey("key" + i).withName(NAME + "-config").endConfigMapKeyRef().endValueFrom().build());
+        }
+        Map<String, Quantity> limits = new LinkedHashMap<>();
+        limits.put("memory", new Quantity("512Mi"));
+        limits.put("cpu", new Quantity("1000m"));
+        Container container = new ContainerBuilder()
+                .withName(NAME).withImage("bench/bench:v1").withImagePullPolicy("IfNotPresent")
+                .addNewPort().withContainerPort(9090).withProtocol("TCP").endPort()
+                .withEnv(envVars)
+                .withNewResources().withLimits(limits).endResources()
+                .withNewReadinessProbe().withNewHttpGet().withPath("/svc0/healthz").withPort(new IntOrString(9090))
+                .endHttpGet().withInitialDelaySeconds(30).endReadinessProbe()
+                .addNewVolumeMount().withName(NAME + "-config-volume").withMountPath("/home/ballerina/conf")
+                .endVolumeMount()
+                .build();
+        return new PodTemplateSpecBuilder()
+                .withNewMetadata().withLabels(SELECTOR).endMetadata()
+                .withNewSpec().withContainers(container).addNewVolume().withName(NAME + "-config-volume")
+                .withNewConfigMap().withName(NAME + "-config").endConfigMap().endVolume().endSpec()
+                .build();
+    }
+}
@@ -17,6 +17,7 @@
  */
 package io.ballerina.c2c.tooling.codeaction;
 
+import io.ballerina.c2c.tooling.metrics.ToolingMetrics;
 import io.ballerina.projects.util.ProjectConstants;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.CodeActionContext;
@@ -52,6 +53,11 @@ public class CloudCodeActionExtension implements CodeActionExtension {
     @Override
     public List<? extends CodeAction> execute(CodeActionParams inputParams, CodeActionContext context,
                                               LanguageServerContext serverContext) {
-        return K8sCodeActionRouter.getAvailableCodeActions(context);
+        long start = System.nanoTime();
+        try {
+            return K8sCodeActionRouter.getAvailableCodeActions(context);
+        } finally {
+            ToolingMetrics.recordLatency("codeAction", System.nanoTime() - start);
+        }
     }
 }
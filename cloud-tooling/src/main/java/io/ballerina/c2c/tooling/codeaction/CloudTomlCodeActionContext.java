@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tooling.codeaction;
+
+import io.ballerina.c2c.tooling.toml.ProbeStore;
+import io.ballerina.c2c.tooling.toml.TomlProbesVisitor;
+import io.ballerina.toml.syntax.tree.SyntaxTree;
+import org.ballerinalang.langserver.commons.CodeActionContext;
+
+/**
+ * Holds the Cloud.toml data shared by the code action providers of a single code action request.
+ * <p>
+ * The syntax tree and the probes are resolved on first use, so a request with several diagnostics reads them once.
+ *
+ * @since 2.0.0
+ */
+public class CloudTomlCodeActionContext {
+
+    private final CodeActionContext context;
+    private SyntaxTree syntaxTree;
+    private ProbeStore probeStore;
+
+    public CloudTomlCodeActionContext(CodeActionContext context) {
+        this.context = context;
+    }
+
+    public CodeActionContext context() {
+        return context;
+    }
+
+    /**
+     * Returns the syntax tree of the Cloud.toml of the project.
+     *
+     * @return {@link SyntaxTree}
+     */
+    public SyntaxTree syntaxTree() {
+        if (syntaxTree == null) {
+            //Code Actions gets called only from Cloud.toml in a project.
+            syntaxTree = context.workspace().project(context.filePath()).orElseThrow().currentPackage().cloudToml()
+                    .orElseThrow().tomlDocument().syntaxTree();
+        }
+        return syntaxTree;
+    }
+
+    /**
+     * Returns the probes defined in the Cloud.toml of the project.
+     *
+     * @return {@link ProbeStore}
+     */
+    public ProbeStore probeStore() {
+        if (probeStore == null) {
+            TomlProbesVisitor probesVisitor = new TomlProbesVisitor();
+            syntaxTree().rootNode().accept(probesVisitor);
+            probeStore = probesVisitor.getStore();
+        }
+        return probeStore;
+    }
+}
@@ -22,8 +22,12 @@ import io.ballerina.c2c.tooling.codeaction.providers.kubernetes.InvalidReadiness
 import io.ballerina.c2c.tooling.codeaction.providers.kubernetes.InvalidReadinessResource;
 import io.ballerina.c2c.tooling.codeaction.providers.kubernetes.InvalidReadinessServicePath;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents the holder for Kubernetes related Code Action providers.
@@ -38,6 +42,7 @@ public class K8sCodeActionHolder {
             new InvalidReadinessPort(),
             new InvalidReadinessResource(),
             new InvalidReadinessServicePath());
+    private static final Map<String, List<K8sDiagnosticsBasedCodeAction>> codeActionsByCode = indexByCode();
 
     private K8sCodeActionHolder() {
     }
@@ -45,4 +50,24 @@ public class K8sCodeActionHolder {
     public static List<K8sDiagnosticsBasedCodeAction> getAllCodeActions() {
         return codeActionList;
     }
+
+    /**
+     * Returns the providers registered for a diagnostic code.
+     *
+     * @param code diagnostic code
+     * @return providers handling the code
+     */
+    public static List<K8sDiagnosticsBasedCodeAction> getCodeActions(String code) {
+        return codeActionsByCode.getOrDefault(code, Collections.emptyList());
+    }
+
+    private static Map<String, List<K8sDiagnosticsBasedCodeAction>> indexByCode() {
+        Map<String, List<K8sDiagnosticsBasedCodeAction>> actions = new HashMap<>();
+        for (K8sDiagnosticsBasedCodeAction action : codeActionList) {
+            for (String code : action.getDiagnosticCodes()) {
+                actions.computeIfAbsent(code, key -> new ArrayList<>()).add(action);
+            }
+        }
+        return actions;
+    }
 }
@@ -15,6 +15,7 @@
  */
 package io.ballerina.c2c.tooling.codeaction;
 
+import io.ballerina.c2c.tooling.metrics.ToolingMetrics;
 import org.ballerinalang.langserver.commons.CodeActionContext;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.Diagnostic;
@@ -30,6 +31,8 @@ import java.util.List;
  */
 public class K8sCodeActionRouter {
 
+    private static final String CODE_ACTION_METRIC_PREFIX = "codeAction.";
+
     /**
      * Returns a list of supported code actions.
      *
@@ -40,19 +43,34 @@ public class K8sCodeActionRouter {
         List<CodeAction> codeActions = new ArrayList<>();
         List<Diagnostic> cursorDiagnostics = ctx.cursorDiagnostics();
         if (!cursorDiagnostics.isEmpty()) {
+            CloudTomlCodeActionContext cloudTomlContext = new CloudTomlCodeActionContext(ctx);
             for (Diagnostic diagnostic : cursorDiagnostics) {
-                codeActions.addAll(handleDiagnostics(diagnostic, ctx));
+                codeActions.addAll(handleDiagnostics(diagnostic, cloudTomlContext));
             }
         }
         return codeActions;
     }
 
-    private static List<CodeAction> handleDiagnostics(Diagnostic diagnostic, CodeActionContext ctx) {
-        for (K8sDiagnosticsBasedCodeAction action : K8sCodeActionHolder.getAllCodeActions()) {
-            if (action.validate(diagnostic, ctx)) {
-                return action.handle(diagnostic, ctx);
+    private static List<CodeAction> handleDiagnostics(Diagnostic diagnostic, CloudTomlCodeActionContext ctx) {
+        for (K8sDiagnosticsBasedCodeAction action : getCodeActions(diagnostic)) {
+            if (action.validate(diagnostic, ctx.context())) {
+                long start = System.nanoTime();
+                try {
+                    return action.handle(diagnostic, ctx);
+                } finally {
+                    ToolingMetrics.recordLatency(CODE_ACTION_METRIC_PREFIX + action.getClass().getSimpleName(),
+                            System.nanoTime() - start);
+                }
             }
         }
         return Collections.emptyList();
     }
+
+    private static List<K8sDiagnosticsBasedCodeAction> getCodeActions(Diagnostic diagnostic) {
+        if (diagnostic.getCode() == null || !diagnostic.getCode().isLeft()) {
+            // Diagnostics without a code are matched against all the providers.
+            return K8sCodeActionHolder.getAllCodeActions();
+        }
+        return K8sCodeActionHolder.getCodeActions(diagnostic.getCode().getLeft());
+    }
 }
@@ -28,6 +28,13 @@ import java.util.List;
  */
 public interface K8sDiagnosticsBasedCodeAction {
 
+    /**
+     * Returns the codes of the diagnostics handled by the provider.
+     *
+     * @return diagnostic codes
+     */
+    List<String> getDiagnosticCodes();
+
     /**
      * Checks if the provider matches the diagnostic in the users code.
      *
@@ -40,5 +47,5 @@ public interface K8sDiagnosticsBasedCodeAction {
      *
      * @return list of code actions to resolve the diagnostic.
      */
-    List<CodeAction> handle(Diagnostic diagnostic, CodeActionContext ctx);
+    List<CodeAction> handle(Diagnostic diagnostic, CloudTomlCodeActionContext ctx);
 }
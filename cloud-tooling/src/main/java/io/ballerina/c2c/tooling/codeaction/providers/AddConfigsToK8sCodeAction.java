@@ -15,6 +15,7 @@
  */
 package io.ballerina.c2c.tooling.codeaction.providers;
 
+import io.ballerina.c2c.tooling.metrics.ToolingMetrics;
 import io.ballerina.c2c.tooling.toml.CommonUtil;
 import io.ballerina.c2c.tooling.toml.TomlSyntaxTreeUtil;
 import io.ballerina.compiler.syntax.tree.BindingPatternNode;
@@ -72,6 +73,15 @@ public class AddConfigsToK8sCodeAction implements RangeBasedCodeActionProvider {
     @Override
     public List<CodeAction> getCodeActions(CodeActionContext context,
                                            RangeBasedPositionDetails positionDetails) {
+        long start = System.nanoTime();
+        try {
+            return getActions(context, positionDetails);
+        } finally {
+            ToolingMetrics.recordLatency("codeAction.AddConfigsToK8sCodeAction", System.nanoTime() - start);
+        }
+    }
+
+    private List<CodeAction> getActions(CodeActionContext context, RangeBasedPositionDetails positionDetails) {
         NonTerminalNode matchedNode = positionDetails.matchedCodeActionNode();
         if (!isConfigurableVariable(matchedNode)) {
             return Collections.emptyList();
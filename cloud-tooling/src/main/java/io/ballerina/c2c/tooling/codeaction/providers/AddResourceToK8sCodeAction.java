@@ -15,9 +15,10 @@
  */
 package io.ballerina.c2c.tooling.codeaction.providers;
 
+import io.ballerina.c2c.tooling.index.ProjectServiceIndex;
+import io.ballerina.c2c.tooling.metrics.ToolingMetrics;
 import io.ballerina.c2c.tooling.toml.CommonUtil;
 import io.ballerina.c2c.tooling.toml.TomlSyntaxTreeUtil;
-import io.ballerina.c2c.util.ProjectServiceInfo;
 import io.ballerina.c2c.util.ServiceInfo;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.Node;
@@ -68,6 +69,15 @@ public class AddResourceToK8sCodeAction implements RangeBasedCodeActionProvider
     @Override
     public List<CodeAction> getCodeActions(CodeActionContext context,
                                            RangeBasedPositionDetails positionDetails) {
+        long start = System.nanoTime();
+        try {
+            return getActions(context, positionDetails);
+        } finally {
+            ToolingMetrics.recordLatency("codeAction.AddResourceToK8sCodeAction", System.nanoTime() - start);
+        }
+    }
+
+    private List<CodeAction> getActions(CodeActionContext context, RangeBasedPositionDetails positionDetails) {
         NonTerminalNode matchedNode = positionDetails.matchedCodeActionNode();
         if (matchedNode.kind() != SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
             return Collections.emptyList();
@@ -89,17 +99,19 @@ public class AddResourceToK8sCodeAction implements RangeBasedCodeActionProvider
         DocumentNode documentNode = tomlSyntaxTree.rootNode();
 
         List<ProbeType> probs = getAvailableProbes(documentNode);
+        if (probs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) matchedNode;
+        String resourcePath = toAbsoluteServicePath(functionDefinitionNode.relativeResourcePath());
+        ServiceDeclarationNode serviceDeclarationNode = (ServiceDeclarationNode) functionDefinitionNode.parent();
+        String servicePath = toAbsoluteServicePath(serviceDeclarationNode.absoluteResourcePath());
+        int port = getPortOfService(project, servicePath);
+        if (port == 0) {
+            return Collections.emptyList();
+        }
         List<CodeAction> codeActionList = new ArrayList<>();
         for (ProbeType probe : probs) {
-            FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) matchedNode;
-            String resourcePath = toAbsoluteServicePath(functionDefinitionNode.relativeResourcePath());
-
-            ServiceDeclarationNode serviceDeclarationNode = (ServiceDeclarationNode) functionDefinitionNode.parent();
-            String servicePath = toAbsoluteServicePath(serviceDeclarationNode.absoluteResourcePath());
-            int port = getPortOfService(project, servicePath);
-            if (port == 0) {
-                continue;
-            }
             String importText = generateProbeText(probe, port, servicePath, resourcePath);
             int endLine = documentNode.members().get(documentNode.members().size() - 1).lineRange().endLine().line();
             Position position = new Position(endLine + 1, 0);
@@ -132,8 +144,7 @@ public class AddResourceToK8sCodeAction implements RangeBasedCodeActionProvider
     }
 
     private int getPortOfService(Project project, String servicePath) {
-        ProjectServiceInfo projectServiceInfo = new ProjectServiceInfo(project);
-        List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
+        List<ServiceInfo> serviceList = ProjectServiceIndex.getInstance(project).getServices(project);
         for (ServiceInfo serviceInfo : serviceList) {
             if (serviceInfo.getServicePath().equals(servicePath)) {
                 return serviceInfo.getListener().getPort();
@@ -17,10 +17,11 @@
  */
 package io.ballerina.c2c.tooling.codeaction.providers.kubernetes;
 
+import io.ballerina.c2c.tooling.index.ProjectServiceIndex;
 import io.ballerina.c2c.tooling.toml.CommonUtil;
 import io.ballerina.c2c.tooling.toml.Probe;
 import io.ballerina.c2c.tooling.toml.TomlSyntaxTreeUtil;
-import io.ballerina.c2c.util.ProjectServiceInfo;
+import io.ballerina.c2c.util.ResourcePathTrie;
 import io.ballerina.c2c.util.ServiceInfo;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
@@ -41,7 +42,6 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Abstract class for handling Invalid resource related code actions.
@@ -51,35 +51,31 @@ import java.util.Optional;
 public abstract class AbstractInvalidResourceCodeAction extends ProbeBasedDiagnosticAction {
 
     public List<CodeAction> addResourceToService(Diagnostic diagnostic, CodeActionContext ctx, Probe probe) {
-        Optional<Project> project = ctx.workspace().project(ctx.filePath());
-        ProjectServiceInfo projectServiceInfo = new ProjectServiceInfo(project.orElseThrow());
-        List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
+        Project project = ctx.workspace().project(ctx.filePath()).orElseThrow();
+        ResourcePathTrie resourceTrie = ProjectServiceIndex.getInstance(project).getResourcePathTrie(project);
         List<CodeAction> codeActionList = new ArrayList<>();
-        for (ServiceInfo service : serviceList) {
+        for (ServiceInfo service : resourceTrie.getServices(probe.getPort().getValue())) {
             String filePath = service.getNode().syntaxTree().filePath();
-            int port = service.getListener().getPort();
-            if (probe.getPort().getValue() == port) {
-                Path balFilePath = ctx.workspace().projectRoot(ctx.filePath()).resolve(filePath);
-                NodeList<Node> members = service.getNode().members();
-                Node lastResource = members.get(members.size() - 1);
-                Position position = new Position(lastResource.lineRange().endLine().line() + 1, 0);
+            Path balFilePath = ctx.workspace().projectRoot(ctx.filePath()).resolve(filePath);
+            NodeList<Node> members = service.getNode().members();
+            Node lastResource = members.get(members.size() - 1);
+            Position position = new Position(lastResource.lineRange().endLine().line() + 1, 0);
 
-                CodeAction action = new CodeAction();
-                action.setKind(CodeActionKind.QuickFix);
-                String importText = generateProbeFunctionText(service, probe);
-                List<TextEdit> edits = Collections.singletonList(
-                        new TextEdit(new Range(position, position), importText));
-                action.setEdit(new WorkspaceEdit(Collections.singletonList(Either.forLeft(
-                        new TextDocumentEdit(
-                                new VersionedTextDocumentIdentifier(balFilePath.toUri().toString(), null),
-                                edits)))));
-                action.setTitle("Add Resource to Service");
-                List<Diagnostic> cursorDiagnostics = new ArrayList<>();
-                cursorDiagnostics.add(diagnostic);
-                action.setDiagnostics(cursorDiagnostics);
-                codeActionList.add(action);
-                break;
-            }
+            CodeAction action = new CodeAction();
+            action.setKind(CodeActionKind.QuickFix);
+            String importText = generateProbeFunctionText(service, probe);
+            List<TextEdit> edits = Collections.singletonList(
+                    new TextEdit(new Range(position, position), importText));
+            action.setEdit(new WorkspaceEdit(Collections.singletonList(Either.forLeft(
+                    new TextDocumentEdit(
+                            new VersionedTextDocumentIdentifier(balFilePath.toUri().toString(), null),
+                            edits)))));
+            action.setTitle("Add Resource to Service");
+            List<Diagnostic> cursorDiagnostics = new ArrayList<>();
+            cursorDiagnostics.add(diagnostic);
+            action.setDiagnostics(cursorDiagnostics);
+            codeActionList.add(action);
+            break;
         }
 
         return codeActionList;
@@ -17,9 +17,10 @@
  */
 package io.ballerina.c2c.tooling.codeaction.providers.kubernetes;
 
+import io.ballerina.c2c.tooling.index.ProjectServiceIndex;
 import io.ballerina.c2c.tooling.toml.Probe;
 import io.ballerina.c2c.tooling.toml.TomlSyntaxTreeUtil;
-import io.ballerina.c2c.util.ProjectServiceInfo;
+import io.ballerina.c2c.util.ResourcePathTrie;
 import io.ballerina.c2c.util.ServiceInfo;
 import io.ballerina.projects.Project;
 import org.ballerinalang.langserver.commons.CodeActionContext;
@@ -37,7 +38,6 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Abstract class for handling Invalid service path related code actions.
@@ -47,40 +47,36 @@ import java.util.Optional;
 public abstract class AbstractInvalidServiceCodeAction extends ProbeBasedDiagnosticAction {
 
     public List<CodeAction> fixServicePath(Diagnostic diagnostic, CodeActionContext ctx, Probe probe) {
-        Optional<Project> project = ctx.workspace().project(ctx.filePath());
-        ProjectServiceInfo projectServiceInfo = new ProjectServiceInfo(project.orElseThrow());
-        List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
+        Project project = ctx.workspace().project(ctx.filePath()).orElseThrow();
+        ResourcePathTrie resourceTrie = ProjectServiceIndex.getInstance(project).getResourcePathTrie(project);
         List<CodeAction> codeActionList = new ArrayList<>();
         // TODO: Listener Exists No attatched service -> Generate a service using the listener
-        for (ServiceInfo service : serviceList) {
-            int port = service.getListener().getPort();
-            if (probe.getPort().getValue() == port) {
-                String servicePath = "/" + TomlSyntaxTreeUtil.trimResourcePath(service.getServicePath());
-                io.ballerina.toml.syntax.tree.Node node = probe.getPath().getNode();
-                Position startingPos = new Position(node.lineRange().startLine().line(),
-                        node.lineRange().startLine().offset());
-                Position endingPos = new Position(node.lineRange().endLine().line(),
-                        node.lineRange().endLine().offset());
+        for (ServiceInfo service : resourceTrie.getServices(probe.getPort().getValue())) {
+            String servicePath = "/" + TomlSyntaxTreeUtil.trimResourcePath(service.getServicePath());
+            io.ballerina.toml.syntax.tree.Node node = probe.getPath().getNode();
+            Position startingPos = new Position(node.lineRange().startLine().line(),
+                    node.lineRange().startLine().offset());
+            Position endingPos = new Position(node.lineRange().endLine().line(),
+                    node.lineRange().endLine().offset());
 
-                CodeAction action = new CodeAction();
-                action.setKind(CodeActionKind.QuickFix);
+            CodeAction action = new CodeAction();
+            action.setKind(CodeActionKind.QuickFix);
 
-                TextEdit removeContent = new TextEdit(new Range(startingPos, endingPos), "");
-                TextEdit addContent = new TextEdit(new Range(startingPos, startingPos), servicePath);
-                List<TextEdit> edits = new ArrayList<>();
-                edits.add(removeContent);
-                edits.add(addContent);
+            TextEdit removeContent = new TextEdit(new Range(startingPos, endingPos), "");
+            TextEdit addContent = new TextEdit(new Range(startingPos, startingPos), servicePath);
+            List<TextEdit> edits = new ArrayList<>();
+            edits.add(removeContent);
+            edits.add(addContent);
 
-                action.setEdit(new WorkspaceEdit(Collections.singletonList(Either.forLeft(
-                        new TextDocumentEdit(new VersionedTextDocumentIdentifier(ctx.fileUri(), null),
-                                edits)))));
-                action.setTitle("Modify service path");
-                List<Diagnostic> cursorDiagnostics = new ArrayList<>();
-                cursorDiagnostics.add(diagnostic);
-                action.setDiagnostics(cursorDiagnostics);
-                codeActionList.add(action);
-                break;
-            }
+            action.setEdit(new WorkspaceEdit(Collections.singletonList(Either.forLeft(
+                    new TextDocumentEdit(new VersionedTextDocumentIdentifier(ctx.fileUri(), null),
+                            edits)))));
+            action.setTitle("Modify service path");
+            List<Diagnostic> cursorDiagnostics = new ArrayList<>();
+            cursorDiagnostics.add(diagnostic);
+            action.setDiagnostics(cursorDiagnostics);
+            codeActionList.add(action);
+            break;
         }
 
         return codeActionList;
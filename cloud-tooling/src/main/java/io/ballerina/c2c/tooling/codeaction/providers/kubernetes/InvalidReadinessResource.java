@@ -15,13 +15,16 @@
  */
 package io.ballerina.c2c.tooling.codeaction.providers.kubernetes;
 
+import io.ballerina.c2c.tooling.codeaction.CloudTomlCodeActionContext;
 import io.ballerina.c2c.tooling.toml.Probe;
 import io.ballerina.c2c.tooling.toml.ProbeStore;
+import io.ballerina.c2c.util.ProbeValidator;
 import org.ballerinalang.langserver.commons.CodeActionContext;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.Diagnostic;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,15 +35,21 @@ import java.util.Optional;
  */
 public class InvalidReadinessResource extends AbstractInvalidResourceCodeAction {
 
+    @Override
+    public List<String> getDiagnosticCodes() {
+        return Collections.singletonList(ProbeValidator.INVALID_RESOURCE_PATH);
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, CodeActionContext ctx) {
         return diagnostic.getMessage().equals("Invalid Readiness Probe Resource Path");
     }
 
     @Override
-    public List<CodeAction> handle(Diagnostic diagnostic, CodeActionContext ctx) {
+    public List<CodeAction> handle(Diagnostic diagnostic, CloudTomlCodeActionContext ctx) {
         ProbeStore store = super.getProbe(ctx);
         Optional<Probe> readinessProbe = store.getReadiness();
-        return readinessProbe.map(probe -> addResourceToService(diagnostic, ctx, probe)).orElseGet(ArrayList::new);
+        return readinessProbe.map(probe -> addResourceToService(diagnostic, ctx.context(), probe))
+                .orElseGet(ArrayList::new);
     }
 }
@@ -17,12 +17,9 @@
  */
 package io.ballerina.c2c.tooling.codeaction.providers.kubernetes;
 
+import io.ballerina.c2c.tooling.codeaction.CloudTomlCodeActionContext;
 import io.ballerina.c2c.tooling.codeaction.K8sDiagnosticsBasedCodeAction;
 import io.ballerina.c2c.tooling.toml.ProbeStore;
-import io.ballerina.c2c.tooling.toml.TomlProbesVisitor;
-import io.ballerina.toml.syntax.tree.DocumentNode;
-import io.ballerina.toml.syntax.tree.SyntaxTree;
-import org.ballerinalang.langserver.commons.CodeActionContext;
 
 /**
  * Abstract class for handling probe related code actions.
@@ -31,13 +28,7 @@ import org.ballerinalang.langserver.commons.CodeActionContext;
  */
 public abstract class ProbeBasedDiagnosticAction implements K8sDiagnosticsBasedCodeAction {
 
-    protected ProbeStore getProbe(CodeActionContext ctx) {
-        //Code Actions gets called only from Cloud.toml in a project.
-        SyntaxTree syntaxTree = ctx.workspace().project(ctx.filePath()).orElseThrow().currentPackage().cloudToml()
-                .orElseThrow().tomlDocument().syntaxTree();
-        DocumentNode node = syntaxTree.rootNode();
-        TomlProbesVisitor probesVisitor = new TomlProbesVisitor();
-        node.accept(probesVisitor);
-        return probesVisitor.getStore();
+    protected ProbeStore getProbe(CloudTomlCodeActionContext ctx) {
+        return ctx.probeStore();
     }
 }
@@ -15,14 +15,14 @@
  */
 package io.ballerina.c2c.tooling.command;
 
+import io.ballerina.c2c.tooling.metrics.ToolingMetrics;
 import io.ballerina.c2c.tooling.toml.CommonUtil;
+import io.ballerina.c2c.util.CloudTomlSchema;
 import io.ballerina.projects.CloudToml;
 import io.ballerina.projects.Project;
 import io.ballerina.toml.syntax.tree.DocumentMemberDeclarationNode;
 import io.ballerina.toml.syntax.tree.SyntaxKind;
 import io.ballerina.toml.validator.BoilerplateGenerator;
-import io.ballerina.toml.validator.schema.Schema;
-import org.apache.commons.io.IOUtils;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.ExecuteCommandContext;
 import org.ballerinalang.langserver.commons.command.CommandArgument;
@@ -40,16 +40,11 @@ import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.LanguageClient;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.Optional;
 
 /**
@@ -69,6 +64,15 @@ public class CreateCloudTomlExecutor implements LSCommandExecutor {
      */
     @Override
     public Object execute(ExecuteCommandContext context) {
+        long start = System.nanoTime();
+        try {
+            return createCloudToml(context);
+        } finally {
+            ToolingMetrics.recordLatency("command." + COMMAND, System.nanoTime() - start);
+        }
+    }
+
+    private Object createCloudToml(ExecuteCommandContext context) {
         String content = generateContent();
         List<CommandArgument> arguments = context.getArguments();
         if (arguments.size() != 1) {
@@ -120,13 +124,17 @@ public class CreateCloudTomlExecutor implements LSCommandExecutor {
                         "# Uncomment Any field below if you want to override the default value." +
                         CommonUtil.LINE_SEPARATOR);
 
-        BoilerplateGenerator generator = new BoilerplateGenerator(Schema.from(getValidationSchema()));
+        BoilerplateGenerator generator = new BoilerplateGenerator(CloudTomlSchema.getSchema());
         Map<String, DocumentMemberDeclarationNode> nodes = generator.getNodes();
         
         // TODO Remove this from the Toml boilerplate side.
         // https://github.com/ballerina-platform/ballerina-lang/issues/34086
         nodes.remove("cloud.config.secrets");
         nodes.remove("cloud.config.files");
+
+        // Keep the boilerplate limited to the most used configurations.
+        nodes.remove("cloud.deployment.warmup");
+        nodes.remove("cloud.deployment.warmup.resources");
         
         for (DocumentMemberDeclarationNode node : nodes.values()) {
             if (node.kind() != SyntaxKind.KEY_VALUE) {
@@ -164,20 +172,4 @@ public class CreateCloudTomlExecutor implements LSCommandExecutor {
         }
         return applyWorkspaceEditParams;
     }
-
-    private String getValidationSchema() {
-        try {
-            InputStream inputStream =
-                    getClass().getClassLoader().getResourceAsStream("c2c-schema.json");
-            if (inputStream == null) {
-                throw new MissingResourceException("Schema Not found", "c2c-schema.json", "");
-            }
-            StringWriter writer = new StringWriter();
-            IOUtils.copy(inputStream, writer, StandardCharsets.UTF_8.name());
-            return writer.toString();
-        } catch (IOException e) {
-            throw new MissingResourceException("Schema Not found", "c2c-schema.json", "");
-        }
-    }
 }
-
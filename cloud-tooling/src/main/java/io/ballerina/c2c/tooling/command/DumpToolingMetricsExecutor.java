@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.tooling.command;
+
+import io.ballerina.c2c.tooling.metrics.ToolingMetrics;
+import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.ExecuteCommandContext;
+import org.ballerinalang.langserver.commons.command.CommandArgument;
+import org.ballerinalang.langserver.commons.command.spi.LSCommandExecutor;
+
+/**
+ * Debug command executor dumping the metrics of the cloud tooling language server features.
+ * <p>
+ * The recorded metrics are cleared after the dump when the command is given a {@code reset} argument with the value
+ * {@code true}, so a test can measure a single scenario.
+ *
+ * @since 2.0.0
+ */
+@JavaSPIService("org.ballerinalang.langserver.commons.command.spi.LSCommandExecutor")
+public class DumpToolingMetricsExecutor implements LSCommandExecutor {
+
+    public static final String COMMAND = "ballerina.c2c.metrics.dump";
+    private static final String RESET_ARG = "reset";
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param context
+     */
+    @Override
+    public Object execute(ExecuteCommandContext context) {
+        String metrics = ToolingMetrics.dump();
+        for (CommandArgument arg : context.getArguments()) {
+            if (RESET_ARG.equals(arg.key()) && Boolean.parseBoolean(arg.valueAs(String.class))) {
+                ToolingMetrics.reset();
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCommand() {
+        return COMMAND;
+    }
+}
@@ -17,6 +17,7 @@
  */
 package io.ballerina.c2c.tooling.completion;
 
+import io.ballerina.c2c.tooling.metrics.ToolingMetrics;
 import io.ballerina.projects.util.ProjectConstants;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.CompletionContext;
@@ -52,7 +53,12 @@ public class CloudCompletionExtension implements CompletionExtension {
     @Override
     public List<CompletionItem> execute(CompletionParams inputParams, CompletionContext context,
                                         LanguageServerContext serverContext) throws Throwable {
-        CloudTomlCompletionContext cloudContext = new CloudTomlCompletionContext(context, serverContext);
-        return CloudTomlCompletionUtil.getCompletionItems(cloudContext, serverContext);
+        long start = System.nanoTime();
+        try {
+            CloudTomlCompletionContext cloudContext = new CloudTomlCompletionContext(context, serverContext);
+            return CloudTomlCompletionUtil.getCompletionItems(cloudContext, serverContext);
+        } finally {
+            ToolingMetrics.recordLatency("completion", System.nanoTime() - start);
+        }
     }
 }
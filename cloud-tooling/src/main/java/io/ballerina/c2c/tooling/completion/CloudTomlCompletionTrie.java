@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tooling.completion;
+
+import org.ballerinalang.langserver.commons.toml.visitor.TomlNode;
+import org.eclipse.lsp4j.CompletionItem;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Key path trie of the tables and table arrays of the Cloud.toml schema.
+ * <p>
+ * Each node of the trie is a segment of a dotted table name and holds the completion snippets of the tables ending at
+ * that segment, so the snippets of the table at the cursor are found with a lookup instead of a walk over the schema.
+ *
+ * @since 2.0.0
+ */
+public class CloudTomlCompletionTrie {
+
+    private final TrieNode root = new TrieNode();
+    private final Map<TomlNode, Map<String, CompletionItem>> snippets;
+
+    public CloudTomlCompletionTrie(Map<TomlNode, Map<String, CompletionItem>> snippets) {
+        this.snippets = Collections.unmodifiableMap(new LinkedHashMap<>(snippets));
+        for (Map.Entry<TomlNode, Map<String, CompletionItem>> entry : this.snippets.entrySet()) {
+            TrieNode node = root;
+            for (String segment : entry.getKey().getKey().split("\\.")) {
+                node = node.children.computeIfAbsent(segment, key -> new TrieNode());
+            }
+            node.snippets.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Get the snippets of the tables and table arrays with the given dotted name.
+     *
+     * @param tableName dotted name of the table
+     * @return copy of the snippets of the matching tables, or an empty map if the schema does not define the table
+     */
+    public Map<TomlNode, Map<String, CompletionItem>> getSnippets(String tableName) {
+        TrieNode node = root;
+        for (String segment : tableName.split("\\.")) {
+            node = node.children.get(segment.trim());
+            if (node == null) {
+                return Collections.emptyMap();
+            }
+        }
+        Map<TomlNode, Map<String, CompletionItem>> tableSnippets = new LinkedHashMap<>();
+        node.snippets.forEach((table, items) -> tableSnippets.put(table, new LinkedHashMap<>(items)));
+        return tableSnippets;
+    }
+
+    /**
+     * Get all the tables and table arrays of the schema.
+     *
+     * @return tables of the schema
+     */
+    public Set<TomlNode> getTables() {
+        return snippets.keySet();
+    }
+
+    /**
+     * Node of the trie representing a single segment of a dotted table name.
+     */
+    private static class TrieNode {
+
+        private final Map<String, TrieNode> children = new HashMap<>();
+        private final Map<TomlNode, Map<String, CompletionItem>> snippets = new LinkedHashMap<>();
+    }
+}
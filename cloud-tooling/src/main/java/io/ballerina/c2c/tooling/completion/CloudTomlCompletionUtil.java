@@ -15,6 +15,7 @@
  */
 package io.ballerina.c2c.tooling.completion;
 
+import io.ballerina.c2c.tooling.toml.TomlSyntaxTreeUtil;
 import io.ballerina.toml.syntax.tree.DocumentNode;
 import io.ballerina.toml.syntax.tree.Node;
 import io.ballerina.toml.syntax.tree.NonTerminalNode;
@@ -69,25 +70,28 @@ public class CloudTomlCompletionUtil {
 
         //Get possible completions based on schema
         Map<String, CompletionItem> completions;
-        Map<TomlNode, Map<String, CompletionItem>> snippets =
-                CloudTomlSnippetManager.getInstance(serverContext).getCompletionProposals();
+        CloudTomlCompletionTrie trie = CloudTomlSnippetManager.getInstance(serverContext).getCompletionTrie();
 
-        //Filter proposed snippets based on the reference node.
+        //Filter proposed snippets of the table at the cursor.
         while (reference != null) {
             switch (reference.kind()) {
                 case TABLE:
-                    completions =
-                            TomlCompletionUtil.getFilteredCompletions(Either.forLeft((TableNode) reference), snippets);
+                    TableNode tableNode = (TableNode) reference;
+                    Map<TomlNode, Map<String, CompletionItem>> tableSnippets =
+                            trie.getSnippets(TomlSyntaxTreeUtil.toDottedString(tableNode.identifier().value()));
+                    completions = TomlCompletionUtil.getFilteredCompletions(Either.forLeft(tableNode), tableSnippets);
                     return new ArrayList<>(completions.values());
                 case TABLE_ARRAY:
-                    completions =
-                            TomlCompletionUtil.getFilteredCompletions(Either.forRight((TableArrayNode) reference),
-                                    snippets);
+                    TableArrayNode tableArrayNode = (TableArrayNode) reference;
+                    Map<TomlNode, Map<String, CompletionItem>> tableArraySnippets =
+                            trie.getSnippets(TomlSyntaxTreeUtil.toDottedString(tableArrayNode.identifier().value()));
+                    completions = TomlCompletionUtil.getFilteredCompletions(Either.forRight(tableArrayNode),
+                            tableArraySnippets);
                     return new ArrayList<>(completions.values());
                 case MODULE_PART:
                     completions = new HashMap<>();
                     TomlCompletionUtil.removeExistingTableKeys(TomlCompletionUtil.addTopLevelNodeCompletions(
-                            snippets.keySet(), completions), (DocumentNode) reference);
+                            trie.getTables(), completions), (DocumentNode) reference);
                     return new ArrayList<>(completions.values());
                 default:
                     break;
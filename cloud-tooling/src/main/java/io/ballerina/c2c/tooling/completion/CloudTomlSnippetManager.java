@@ -18,13 +18,10 @@
 
 package io.ballerina.c2c.tooling.completion;
 
-import org.apache.commons.io.IOUtils;
+import io.ballerina.c2c.util.CloudTomlSchema;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.toml.AbstractTomlSnippetManager;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-
 /**
  * Maintains all the supported snippets for Cloud Toml.
  *
@@ -35,6 +32,8 @@ public class CloudTomlSnippetManager extends AbstractTomlSnippetManager {
     private static final LanguageServerContext.Key<CloudTomlSnippetManager> CLOUD_TOML_SNIPPET_MANAGER_KEY =
             new LanguageServerContext.Key<>();
 
+    private volatile CloudTomlCompletionTrie completionTrie;
+
     private CloudTomlSnippetManager(LanguageServerContext context) {
         context.put(CLOUD_TOML_SNIPPET_MANAGER_KEY, this);
     }
@@ -54,10 +53,25 @@ public class CloudTomlSnippetManager extends AbstractTomlSnippetManager {
 
     @Override
     public String getValidationSchema() {
-        try {
-            return IOUtils.resourceToString("c2c-schema.json", StandardCharsets.UTF_8, getClass().getClassLoader());
-        } catch (IOException e) {
-            throw new RuntimeException("Schema Not found");
+        return CloudTomlSchema.getSchemaContent();
+    }
+
+    /**
+     * Returns the completion trie of the schema, which is built from the completion proposals on first use.
+     *
+     * @return {@link CloudTomlCompletionTrie}
+     */
+    public CloudTomlCompletionTrie getCompletionTrie() {
+        CloudTomlCompletionTrie trie = completionTrie;
+        if (trie == null) {
+            synchronized (this) {
+                trie = completionTrie;
+                if (trie == null) {
+                    trie = new CloudTomlCompletionTrie(getCompletionProposals());
+                    completionTrie = trie;
+                }
+            }
         }
+        return trie;
     }
 }
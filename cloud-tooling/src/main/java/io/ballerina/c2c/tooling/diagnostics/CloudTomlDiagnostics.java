@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tooling.diagnostics;
+
+import io.ballerina.c2c.tooling.index.ProjectServiceIndex;
+import io.ballerina.c2c.tooling.metrics.ToolingMetrics;
+import io.ballerina.c2c.util.CloudTomlSchema;
+import io.ballerina.c2c.util.ProbeValidator;
+import io.ballerina.c2c.util.ResourcePathTrie;
+import io.ballerina.projects.CloudToml;
+import io.ballerina.projects.Project;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.toml.validator.TomlValidator;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Validates the Cloud.toml of a project without compiling the project.
+ * <p>
+ * The Cloud.toml is validated against the schema and its probes against the services of the project service index.
+ * The diagnostics of a probe table are cached with the source of the table and the resource paths they were
+ * validated against, so only the probes affected by an edit are validated again. The cache is weakly keyed by the
+ * project, so it is dropped along with the project.
+ *
+ * @since 2.0.0
+ */
+public class CloudTomlDiagnostics {
+
+    private static final Map<Project, CloudTomlDiagnostics> INSTANCES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<ProbeValidator.ProbeType, ProbeEntry> probes = new EnumMap<>(ProbeValidator.ProbeType.class);
+
+    private CloudTomlDiagnostics() {
+    }
+
+    public static CloudTomlDiagnostics getInstance(Project project) {
+        return INSTANCES.computeIfAbsent(project, key -> new CloudTomlDiagnostics());
+    }
+
+    /**
+     * Get the diagnostics of the Cloud.toml of the project.
+     *
+     * @param project current snapshot of the project
+     * @return diagnostics of the Cloud.toml, or an empty list if the project has no Cloud.toml
+     */
+    public synchronized List<Diagnostic> getDiagnostics(Project project) {
+        Optional<CloudToml> cloudToml = project.currentPackage().cloudToml();
+        if (cloudToml.isEmpty()) {
+            probes.clear();
+            return Collections.emptyList();
+        }
+        TextDocument textDocument = cloudToml.get().tomlDocument().textDocument();
+        Toml toml = Toml.read(textDocument.toString());
+        new TomlValidator(CloudTomlSchema.getSchema()).validate(toml);
+        List<Diagnostic> diagnostics = new ArrayList<>(toml.diagnostics());
+
+        ResourcePathTrie resourceTrie = ProjectServiceIndex.getInstance(project).getResourcePathTrie(project);
+        for (ProbeValidator.ProbeType type : ProbeValidator.ProbeType.values()) {
+            Optional<Toml> probe = toml.getTable(type.getTableName());
+            if (probe.isEmpty()) {
+                probes.remove(type);
+                continue;
+            }
+            String source = getSource(textDocument, probe.get().rootNode().location().lineRange());
+            ProbeEntry entry = probes.get(type);
+            boolean cached = entry != null && entry.resourceTrie == resourceTrie && entry.source.equals(source);
+            ToolingMetrics.recordCacheLookup("probeDiagnostics", cached);
+            if (!cached) {
+                entry = new ProbeEntry(source, resourceTrie,
+                        ProbeValidator.validateProbe(probe.get(), type, resourceTrie));
+                probes.put(type, entry);
+            }
+            diagnostics.addAll(entry.diagnostics);
+        }
+        return diagnostics;
+    }
+
+    private static String getSource(TextDocument textDocument, LineRange lineRange) {
+        int start = textDocument.textPositionFrom(lineRange.startLine());
+        int end = textDocument.textPositionFrom(lineRange.endLine());
+        return lineRange.startLine().line() + ":" + textDocument.toString().substring(start, end);
+    }
+
+    /**
+     * Diagnostics of a probe table along with the inputs they were computed from.
+     */
+    private static class ProbeEntry {
+
+        private final String source;
+        private final ResourcePathTrie resourceTrie;
+        private final List<Diagnostic> diagnostics;
+
+        private ProbeEntry(String source, ResourcePathTrie resourceTrie, List<Diagnostic> diagnostics) {
+            this.source = source;
+            this.resourceTrie = resourceTrie;
+            this.diagnostics = diagnostics;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tooling.diagnostics;
+
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.DocumentServiceContext;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.commons.eventsync.EventKind;
+import org.ballerinalang.langserver.commons.eventsync.spi.EventSubscriber;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the Cloud.toml diagnostics of a project when one of its documents changes.
+ * <p>
+ * The diagnostics are computed from the project service index instead of a compilation, so probe errors show up while
+ * the Cloud.toml is being edited. Changes are debounced per project so a burst of edits is validated once.
+ * <p>
+ * The compiler publishes its own diagnostics for the Cloud.toml, which include checks that need a compilation. Hence
+ * the diagnostics are published along with the compiler diagnostics of the last compilation, and published again
+ * once the compilation of the edited project is available.
+ *
+ * @since 2.0.0
+ */
+@JavaSPIService("org.ballerinalang.langserver.commons.eventsync.spi.EventSubscriber")
+public class CloudTomlDiagnosticsSubscriber implements EventSubscriber {
+
+    public static final String NAME = "Cloud.toml diagnostics subscriber";
+    private static final long DEBOUNCE_DELAY_MS = 25;
+    // A second thread keeps the diagnostics of an edit flowing while another project waits for its compilation.
+    private static final ScheduledExecutorService EXECUTOR = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "cloud-toml-diagnostics");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Map<Path, ScheduledFuture<?>> PENDING = new ConcurrentHashMap<>();
+    private static final Map<Project, List<Diagnostic>> COMPILER_DIAGNOSTICS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public EventKind eventKind() {
+        return EventKind.PROJECT_UPDATE;
+    }
+
+    @Override
+    public void onEvent(ExtendedLanguageClient client, DocumentServiceContext context,
+                        LanguageServerContext languageServerContext) {
+        WorkspaceManager workspace = context.workspace();
+        Path filePath = context.filePath();
+        Optional<Project> project = workspace.project(filePath);
+        if (project.isEmpty() || !isCloudProject(project.get())) {
+            return;
+        }
+        Path sourceRoot = project.get().sourceRoot();
+        PENDING.compute(sourceRoot, (root, pending) -> {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            PublishTask task = new PublishTask(client, workspace, filePath, root);
+            task.future = EXECUTOR.schedule(task, DEBOUNCE_DELAY_MS, TimeUnit.MILLISECONDS);
+            return task.future;
+        });
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    private static List<Diagnostic> merge(List<Diagnostic> diagnostics, List<Diagnostic> compilerDiagnostics) {
+        List<Diagnostic> merged = new ArrayList<>(diagnostics);
+        for (Diagnostic diagnostic : compilerDiagnostics) {
+            if (!merged.contains(diagnostic)) {
+                merged.add(diagnostic);
+            }
+        }
+        return merged;
+    }
+
+    private static boolean isCloudProject(Project project) {
+        String cloud = project.buildOptions().cloud();
+        return "k8s".equals(cloud) || "docker".equals(cloud);
+    }
+
+    private static Diagnostic toLspDiagnostic(io.ballerina.tools.diagnostics.Diagnostic diagnostic) {
+        LineRange lineRange = diagnostic.location().lineRange();
+        Range range = new Range(new Position(lineRange.startLine().line(), lineRange.startLine().offset()),
+                new Position(lineRange.endLine().line(), lineRange.endLine().offset()));
+        Diagnostic lspDiagnostic = new Diagnostic(range, diagnostic.message());
+        lspDiagnostic.setCode(diagnostic.diagnosticInfo().code());
+        switch (diagnostic.diagnosticInfo().severity()) {
+            case ERROR:
+                lspDiagnostic.setSeverity(DiagnosticSeverity.Error);
+                break;
+            case WARNING:
+                lspDiagnostic.setSeverity(DiagnosticSeverity.Warning);
+                break;
+            case INFO:
+                lspDiagnostic.setSeverity(DiagnosticSeverity.Information);
+                break;
+            default:
+                lspDiagnostic.setSeverity(DiagnosticSeverity.Hint);
+                break;
+        }
+        return lspDiagnostic;
+    }
+
+    /**
+     * Publishes the diagnostics of a single edit. A task stops publishing once a newer edit of the project is
+     * scheduled.
+     */
+    private static class PublishTask implements Runnable {
+
+        private final ExtendedLanguageClient client;
+        private final WorkspaceManager workspace;
+        private final Path filePath;
+        private final Path sourceRoot;
+        private volatile ScheduledFuture<?> future;
+
+        private PublishTask(ExtendedLanguageClient client, WorkspaceManager workspace, Path filePath,
+                            Path sourceRoot) {
+            this.client = client;
+            this.workspace = workspace;
+            this.filePath = filePath;
+            this.sourceRoot = sourceRoot;
+        }
+
+        @Override
+        public void run() {
+            try {
+                publish();
+            } finally {
+                PENDING.remove(sourceRoot, future);
+            }
+        }
+
+        private void publish() {
+            Optional<Project> project = workspace.project(filePath);
+            if (project.isEmpty() || project.get().currentPackage().cloudToml().isEmpty()) {
+                return;
+            }
+            List<Diagnostic> diagnostics = new ArrayList<>();
+            for (io.ballerina.tools.diagnostics.Diagnostic diagnostic :
+                    CloudTomlDiagnostics.getInstance(project.get()).getDiagnostics(project.get())) {
+                diagnostics.add(toLspDiagnostic(diagnostic));
+            }
+            String uri = project.get().sourceRoot().resolve(ProjectConstants.CLOUD_TOML).toUri().toString();
+            publishIfLatest(uri, merge(diagnostics,
+                    COMPILER_DIAGNOSTICS.getOrDefault(project.get(), Collections.emptyList())));
+
+            Optional<PackageCompilation> compilation = workspace.waitAndGetPackageCompilation(filePath);
+            if (compilation.isEmpty() || !isLatest()) {
+                return;
+            }
+            List<Diagnostic> compilerDiagnostics = new ArrayList<>();
+            for (io.ballerina.tools.diagnostics.Diagnostic diagnostic :
+                    compilation.get().diagnosticResult().diagnostics()) {
+                if (!ProjectConstants.CLOUD_TOML.equals(diagnostic.location().lineRange().filePath())) {
+                    continue;
+                }
+                Diagnostic lspDiagnostic = toLspDiagnostic(diagnostic);
+                if (!diagnostics.contains(lspDiagnostic)) {
+                    compilerDiagnostics.add(lspDiagnostic);
+                }
+            }
+            COMPILER_DIAGNOSTICS.put(project.get(), compilerDiagnostics);
+            publishIfLatest(uri, merge(diagnostics, compilerDiagnostics));
+        }
+
+        private boolean isLatest() {
+            return PENDING.get(sourceRoot) == future;
+        }
+
+        private void publishIfLatest(String uri, List<Diagnostic> diagnostics) {
+            if (isLatest()) {
+                client.publishDiagnostics(new PublishDiagnosticsParams(uri, diagnostics));
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tooling.index;
+
+import io.ballerina.c2c.tooling.metrics.ToolingMetrics;
+import io.ballerina.c2c.util.C2CVisitor;
+import io.ballerina.c2c.util.ModuleLevelVariableExtractor;
+import io.ballerina.c2c.util.ResourcePathTrie;
+import io.ballerina.c2c.util.ServiceInfo;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Project;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps the services of a project indexed across language server requests.
+ * <p>
+ * The workspace manager replaces the syntax tree of a document only when its content changes, so the syntax tree
+ * instance is used as the version of the document. Only the documents whose syntax tree changed since the last request
+ * are visited again. A change to the module level variables re-indexes every document of that module, as the ports of
+ * the services may be resolved from a variable declared in another document.
+ * <p>
+ * The indexes are weakly keyed by the project, so the index of a project is dropped once the workspace manager
+ * closes the project.
+ *
+ * @since 2.0.0
+ */
+public class ProjectServiceIndex {
+
+    private static final Map<Project, ProjectServiceIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final String SERVICE_INDEX_METRIC = "serviceIndex";
+    private static final String RESOURCE_PATH_TRIE_METRIC = "resourcePathTrie";
+
+    private final Map<DocumentId, DocumentEntry> documents = new HashMap<>();
+    private final Map<ModuleId, Map<String, String>> moduleVariables = new HashMap<>();
+    private List<ServiceInfo> services = Collections.emptyList();
+    private ResourcePathTrie resourcePathTrie = null;
+
+    private ProjectServiceIndex() {
+    }
+
+    public static ProjectServiceIndex getInstance(Project project) {
+        return INDEXES.computeIfAbsent(project, key -> new ProjectServiceIndex());
+    }
+
+    /**
+     * Get the services of the project, re-indexing the documents changed since the last call.
+     *
+     * @param project current snapshot of the project
+     * @return services of the project in module and document order. The same list is returned until a document of
+     * the project changes
+     */
+    public synchronized List<ServiceInfo> getServices(Project project) {
+        Set<DocumentId> currentDocuments = new HashSet<>();
+        List<Module> modules = new ArrayList<>();
+        boolean changed = false;
+        for (Module module : project.currentPackage().modules()) {
+            Collection<DocumentId> documentIds = module.documentIds();
+            currentDocuments.addAll(documentIds);
+            changed |= refreshModule(module, documentIds);
+            modules.add(module);
+        }
+        changed |= documents.keySet().retainAll(currentDocuments);
+        ToolingMetrics.recordCacheLookup(SERVICE_INDEX_METRIC, !changed);
+        if (!changed) {
+            return services;
+        }
+        List<ServiceInfo> serviceList = new ArrayList<>();
+        for (Module module : modules) {
+            for (DocumentId documentId : module.documentIds()) {
+                serviceList.addAll(documents.get(documentId).services);
+            }
+        }
+        services = Collections.unmodifiableList(serviceList);
+        resourcePathTrie = null;
+        return services;
+    }
+
+    /**
+     * Get the resource path trie of the services of the project, which is rebuilt only when the services change.
+     *
+     * @param project current snapshot of the project
+     * @return resource path trie of the project
+     */
+    public synchronized ResourcePathTrie getResourcePathTrie(Project project) {
+        List<ServiceInfo> serviceList = getServices(project);
+        ToolingMetrics.recordCacheLookup(RESOURCE_PATH_TRIE_METRIC, resourcePathTrie != null);
+        if (resourcePathTrie == null) {
+            resourcePathTrie = new ResourcePathTrie(serviceList);
+        }
+        return resourcePathTrie;
+    }
+
+    private boolean refreshModule(Module module, Collection<DocumentId> documentIds) {
+        List<DocumentId> changedDocuments = new ArrayList<>();
+        Map<String, Node> moduleLevelVariables = new HashMap<>();
+        for (DocumentId documentId : documentIds) {
+            SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+            DocumentEntry entry = documents.get(documentId);
+            if (entry == null || entry.syntaxTree != syntaxTree) {
+                entry = new DocumentEntry(syntaxTree);
+                syntaxTree.rootNode().accept(new ModuleLevelVariableExtractor(entry.moduleLevelVariables));
+                documents.put(documentId, entry);
+                changedDocuments.add(documentId);
+            }
+            moduleLevelVariables.putAll(entry.moduleLevelVariables);
+        }
+
+        Map<String, String> variableSources = new HashMap<>();
+        moduleLevelVariables.forEach((name, node) -> variableSources.put(name, node.toSourceCode()));
+        if (!variableSources.equals(moduleVariables.put(module.moduleId(), variableSources))) {
+            changedDocuments = new ArrayList<>(documentIds);
+        }
+        if (changedDocuments.isEmpty()) {
+            return false;
+        }
+
+        ToolingMetrics.recordProjectTraversal(SERVICE_INDEX_METRIC);
+        SemanticModel semanticModel = module.getCompilation().getSemanticModel();
+        for (DocumentId documentId : changedDocuments) {
+            DocumentEntry entry = documents.get(documentId);
+            C2CVisitor visitor = new C2CVisitor(moduleLevelVariables, semanticModel, new ArrayList<>());
+            entry.syntaxTree.rootNode().accept(visitor);
+            entry.services = visitor.getServices();
+        }
+        return true;
+    }
+
+    /**
+     * Indexed data of a single document.
+     */
+    private static class DocumentEntry {
+
+        private final SyntaxTree syntaxTree;
+        private final Map<String, Node> moduleLevelVariables = new HashMap<>();
+        private List<ServiceInfo> services = Collections.emptyList();
+
+        private DocumentEntry(SyntaxTree syntaxTree) {
+            this.syntaxTree = syntaxTree;
+        }
+    }
+}
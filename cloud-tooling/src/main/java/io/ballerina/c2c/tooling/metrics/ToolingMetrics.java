@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.tooling.metrics;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the metrics of the language server features of the cloud tooling.
+ * <p>
+ * Latencies are recorded per request in a histogram with fixed millisecond buckets. Caches record their hits and
+ * misses, and the project service index records every traversal of the documents of a project. The metrics can be
+ * dumped with the {@code ballerina.c2c.metrics.dump} command, or logged to the standard error when the language
+ * server exits by setting the {@value #DUMP_PROPERTY} system property.
+ *
+ * @since 2.0.0
+ */
+public class ToolingMetrics {
+
+    public static final String DUMP_PROPERTY = "c2c.tooling.metrics.dump";
+    static final long[] BUCKET_BOUNDS_MILLIS = {1, 5, 10, 50, 100, 500, 1000};
+    // The standard output carries the messages of the language server, hence the metrics are logged to the error.
+    private static final PrintStream ERR = System.err;
+
+    private static final Map<String, Latency> LATENCIES = new ConcurrentHashMap<>();
+    private static final Map<String, CacheStats> CACHES = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> TRAVERSALS = new ConcurrentHashMap<>();
+
+    static {
+        if (Boolean.getBoolean(DUMP_PROPERTY)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> ERR.println(dump())));
+        }
+    }
+
+    private ToolingMetrics() {
+    }
+
+    /**
+     * Record the latency of a single request.
+     *
+     * @param name         name of the feature or provider
+     * @param elapsedNanos time taken by the request
+     */
+    public static void recordLatency(String name, long elapsedNanos) {
+        LATENCIES.computeIfAbsent(name, key -> new Latency()).record(elapsedNanos);
+    }
+
+    /**
+     * Record a lookup of a cache.
+     *
+     * @param name name of the cache
+     * @param hit  whether the lookup was served from the cache
+     */
+    public static void recordCacheLookup(String name, boolean hit) {
+        CACHES.computeIfAbsent(name, key -> new CacheStats()).record(hit);
+    }
+
+    /**
+     * Record a traversal of the documents of a project.
+     *
+     * @param name name of the component traversing the project
+     */
+    public static void recordProjectTraversal(String name) {
+        TRAVERSALS.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Get the recorded latencies sorted by name.
+     *
+     * @return latencies by name
+     */
+    public static Map<String, Latency> getLatencies() {
+        return Collections.unmodifiableMap(new TreeMap<>(LATENCIES));
+    }
+
+    /**
+     * Get the recorded cache lookups sorted by cache name.
+     *
+     * @return cache statistics by name
+     */
+    public static Map<String, CacheStats> getCacheStats() {
+        return Collections.unmodifiableMap(new TreeMap<>(CACHES));
+    }
+
+    /**
+     * Get the number of project traversals sorted by name.
+     *
+     * @return project traversals by name
+     */
+    public static Map<String, Long> getProjectTraversals() {
+        Map<String, Long> traversals = new TreeMap<>();
+        TRAVERSALS.forEach((name, count) -> traversals.put(name, count.get()));
+        return Collections.unmodifiableMap(traversals);
+    }
+
+    public static void reset() {
+        LATENCIES.clear();
+        CACHES.clear();
+        TRAVERSALS.clear();
+    }
+
+    /**
+     * Dump the recorded metrics in a human readable format.
+     *
+     * @return recorded metrics
+     */
+    public static String dump() {
+        StringBuilder builder = new StringBuilder("c2c tooling metrics").append(System.lineSeparator());
+        builder.append("latencies (count, avg ms, max ms, histogram ms):").append(System.lineSeparator());
+        getLatencies().forEach((name, latency) -> builder.append("  ").append(name).append(": ")
+                .append(latency.getCount()).append(", ")
+                .append(toMillis(latency.getTotalNanos() / Math.max(1, latency.getCount()))).append(", ")
+                .append(toMillis(latency.getMaxNanos())).append(", ")
+                .append(latency.getHistogram()).append(System.lineSeparator()));
+        builder.append("caches (hits, misses, hit ratio):").append(System.lineSeparator());
+        getCacheStats().forEach((name, cache) -> builder.append("  ").append(name).append(": ")
+                .append(cache.getHits()).append(", ").append(cache.getMisses()).append(", ")
+                .append(String.format(Locale.ROOT, "%.2f", cache.getHitRatio())).append(System.lineSeparator()));
+        builder.append("project traversals:").append(System.lineSeparator());
+        getProjectTraversals().forEach((name, count) -> builder.append("  ").append(name).append(": ")
+                .append(count).append(System.lineSeparator()));
+        return builder.toString();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * Latency of the requests of a feature.
+     */
+    public static class Latency {
+
+        private final long[] buckets = new long[BUCKET_BOUNDS_MILLIS.length + 1];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private synchronized void record(long elapsedNanos) {
+            count++;
+            totalNanos += elapsedNanos;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && elapsedMillis >= BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket]++;
+        }
+
+        public synchronized long getCount() {
+            return count;
+        }
+
+        public synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public synchronized long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Get the number of requests in each bucket of the histogram. A bucket is keyed by its exclusive upper
+         * bound in milliseconds, such as {@code <5}, and the last bucket holds the requests exceeding every bound.
+         *
+         * @return request counts by bucket
+         */
+        public synchronized Map<String, Long> getHistogram() {
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                histogram.put("<" + BUCKET_BOUNDS_MILLIS[i], buckets[i]);
+            }
+            histogram.put(">=" + BUCKET_BOUNDS_MILLIS[BUCKET_BOUNDS_MILLIS.length - 1],
+                    buckets[BUCKET_BOUNDS_MILLIS.length]);
+            return histogram;
+        }
+    }
+
+    /**
+     * Hits and misses of a cache.
+     */
+    public static class CacheStats {
+
+        private long hits;
+        private long misses;
+
+        private synchronized void record(boolean hit) {
+            if (hit) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+
+        public synchronized long getHits() {
+            return hits;
+        }
+
+        public synchronized long getMisses() {
+            return misses;
+        }
+
+        public synchronized double getHitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+}
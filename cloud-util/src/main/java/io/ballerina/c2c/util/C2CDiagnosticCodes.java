@@ -53,6 +53,16 @@ public enum C2CDiagnosticCodes {
     PATH_CONTENT_READ_FAILED_WARN("C2C_006", "unable to read contents of the file `%s`", WARNING),
     FAILED_VARIABLE_RETRIEVAL("C2C_016", "unable to retrieve the value of variable `%s`", WARNING),
     INVALID_CONFIG_FILE_NAME_TAKEN("C2C_017", "duplicate file under the same config map", ERROR),
+    INVALID_WARMUP_PORT("C2C_018", "unable to detect port for warm-up resource `%s`.", ERROR),
+    INVALID_JAVA_VERSION("C2C_019", "Cloud.toml error unsupported java version `%s`. supported versions are 11, 17 " +
+            "and 21", ERROR),
+    INVALID_ROLLING_UPDATE("C2C_020", "Cloud.toml error `max_surge` and `max_unavailable` of the rolling update " +
+            "cannot both be zero", ERROR),
+    VALUE_INT_ONLY_SUPPORTED("C2C_021", "`%s` of the task only supports integer literals", WARNING),
+    TASK_RUNS_OVERLAP("C2C_022", "task is scheduled every %d minute(s) which is shorter than its active " +
+            "deadline of %d seconds. consecutive runs of the task could overlap", WARNING),
+    INVALID_PROGRESS_DEADLINE("C2C_023", "Cloud.toml error `progress_deadline_seconds` of the rolling update (%d) " +
+            "should be greater than `min_ready_seconds` (%d)", ERROR),
     ;
 
     private final String code;
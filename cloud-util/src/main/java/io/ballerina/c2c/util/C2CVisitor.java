@@ -81,6 +81,7 @@ public class C2CVisitor extends NodeVisitor {
 
     private final List<ServiceInfo> services = new ArrayList<>();
     private final List<ClientInfo> clientInfos = new ArrayList<>();
+    private final List<ClientTargetInfo> clientTargets = new ArrayList<>();
     private final Map<String, Node> moduleLevelVariables;
     private final SemanticModel semanticModel;
     private final List<Diagnostic> diagnostics;
@@ -145,6 +146,12 @@ public class C2CVisitor extends NodeVisitor {
         ImplicitNewExpressionNode newExprInit = (ImplicitNewExpressionNode) refNode;
         newExprInit.parenthesizedArgList().ifPresent(parenthesizedArgList -> {
             SeparatedNodeList<FunctionArgumentNode> argList = parenthesizedArgList.arguments();
+            if (argList.size() > 0 && typedBindingPatternNode.bindingPattern().kind() ==
+                    SyntaxKind.CAPTURE_BINDING_PATTERN) {
+                String name = ((CaptureBindingPatternNode) typedBindingPatternNode.bindingPattern())
+                        .variableName().text();
+                getClientUrl(argList.get(0)).ifPresent(url -> clientTargets.add(new ClientTargetInfo(name, url)));
+            }
             if (argList.size() <= 1) {
                 return;
             }
@@ -157,6 +164,31 @@ public class C2CVisitor extends NodeVisitor {
         });
     }
 
+    private Optional<String> getClientUrl(FunctionArgumentNode functionArgumentNode) {
+        //http:Client nettyEP = check new("https://netty:8688")
+        if (functionArgumentNode.kind() != SyntaxKind.POSITIONAL_ARG) {
+            return Optional.empty();
+        }
+        ExpressionNode expression = ((PositionalArgumentNode) functionArgumentNode).expression();
+        if (expression.kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
+            //configurable string url = "https://netty:8688";
+            Node node = this.moduleLevelVariables.get(((SimpleNameReferenceNode) expression).name().text());
+            if (node == null || node.kind() != SyntaxKind.MODULE_VAR_DECL) {
+                return Optional.empty();
+            }
+            Optional<ExpressionNode> initializer = ((ModuleVariableDeclarationNode) node).initializer();
+            if (initializer.isEmpty()) {
+                return Optional.empty();
+            }
+            expression = initializer.get();
+        }
+        if (expression.kind() != SyntaxKind.STRING_LITERAL) {
+            return Optional.empty();
+        }
+        String text = ((BasicLiteralNode) expression).literalToken().text();
+        return Optional.of(text.substring(1, text.length() - 1));
+    }
+
     private boolean isSupportedClientVariable(TypeDescriptorNode typeDescriptorNode) {
         if (typeDescriptorNode.kind() == SyntaxKind.UNION_TYPE_DESC) {
             UnionTypeDescriptorNode unionType = (UnionTypeDescriptorNode) typeDescriptorNode;
@@ -228,16 +260,59 @@ public class C2CVisitor extends NodeVisitor {
         }
         MappingConstructorExpressionNode mappingConstructorExpressionNode = annotationNode.annotValue().get();
         SeparatedNodeList<MappingFieldNode> fields = mappingConstructorExpressionNode.fields();
+        Integer parallelism = null;
+        Integer completions = null;
         for (MappingFieldNode field : fields) {
             if (field.kind() != SyntaxKind.SPECIFIC_FIELD) {
                 continue;
             }
             SpecificFieldNode specificField = (SpecificFieldNode) field;
-            if ("schedule".equals(getNameOfIdentifier(specificField.fieldName()))) {
-                Optional<ExpressionNode> expressionNode = specificField.valueExpr();
-                expressionNode.ifPresent(this::processTaskScheduleBlock);
+            String fieldName = getNameOfIdentifier(specificField.fieldName());
+            Optional<ExpressionNode> expressionNode = specificField.valueExpr();
+            if (expressionNode.isEmpty()) {
+                continue;
+            }
+            if ("schedule".equals(fieldName)) {
+                processTaskScheduleBlock(expressionNode.get());
+            } else if ("parallelism".equals(fieldName)) {
+                parallelism = extractInt(fieldName, expressionNode.get());
+            } else if ("completions".equals(fieldName)) {
+                completions = extractInt(fieldName, expressionNode.get());
             }
         }
+        // The schedule block replaces the task. Hence the job settings are set once all the fields are processed.
+        this.task.setParallelism(parallelism);
+        this.task.setCompletions(completions);
+    }
+
+    private Integer extractInt(String fieldName, ExpressionNode expressionNode) {
+        if (expressionNode.kind() == SyntaxKind.NUMERIC_LITERAL) {
+            Integer value = parseIntLiteral(((BasicLiteralNode) expressionNode).literalToken().text());
+            if (value != null) {
+                return value;
+            }
+        }
+        this.diagnostics.add(C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.VALUE_INT_ONLY_SUPPORTED,
+                expressionNode.location(), fieldName));
+        return null;
+    }
+
+    /**
+     * Parses a decimal or hexadecimal int literal.
+     *
+     * @param text literal text
+     * @return int value or null if the literal is not an int which fits in to 32 bits
+     */
+    private static Integer parseIntLiteral(String text) {
+        String literal = text.trim().replace("_", "");
+        try {
+            if (literal.startsWith("0x") || literal.startsWith("0X")) {
+                return Integer.parseInt(literal.substring(2), 16);
+            }
+            return Integer.parseInt(literal);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     private String getNameOfIdentifier(Node node) {
@@ -254,6 +329,13 @@ public class C2CVisitor extends NodeVisitor {
         MappingConstructorExpressionNode expressionNode1 = (MappingConstructorExpressionNode) expressionNode;
         SeparatedNodeList<MappingFieldNode> scheduleFields = expressionNode1.fields();
         String minutes = null, hours = null, dayOfMonth = null, monthOfYear = null, daysOfWeek = null;
+        String concurrencyPolicy = null;
+        String timeZone = null;
+        Integer startingDeadlineSeconds = null;
+        Integer activeDeadlineSeconds = null;
+        Integer successfulJobsHistoryLimit = null;
+        Integer failedJobsHistoryLimit = null;
+        ExpressionNode activeDeadlineNode = null;
         for (MappingFieldNode timeField : scheduleFields) {
             if (timeField.kind() == SyntaxKind.SPECIFIC_FIELD) {
                 SpecificFieldNode timeSpecificField = (SpecificFieldNode) timeField;
@@ -275,12 +357,44 @@ public class C2CVisitor extends NodeVisitor {
                     case "daysOfWeek":
                         daysOfWeek = extractString(timeSpecificField.valueExpr().get());
                         break;
+                    case "concurrencyPolicy":
+                        concurrencyPolicy = extractString(timeSpecificField.valueExpr().get());
+                        break;
+                    case "timeZone":
+                        timeZone = extractString(timeSpecificField.valueExpr().get());
+                        break;
+                    case "startingDeadlineSeconds":
+                        startingDeadlineSeconds = extractInt(identifier, timeSpecificField.valueExpr().get());
+                        break;
+                    case "activeDeadlineSeconds":
+                        activeDeadlineNode = timeSpecificField.valueExpr().get();
+                        activeDeadlineSeconds = extractInt(identifier, activeDeadlineNode);
+                        break;
+                    case "successfulJobsHistoryLimit":
+                        successfulJobsHistoryLimit = extractInt(identifier, timeSpecificField.valueExpr().get());
+                        break;
+                    case "failedJobsHistoryLimit":
+                        failedJobsHistoryLimit = extractInt(identifier, timeSpecificField.valueExpr().get());
+                        break;
                     default:
                         break;
                 }
             }
         }
-        this.task = new ScheduledTask(minutes, hours, dayOfMonth, monthOfYear, daysOfWeek);
+        ScheduledTask scheduledTask = new ScheduledTask(minutes, hours, dayOfMonth, monthOfYear, daysOfWeek);
+        scheduledTask.setConcurrencyPolicy(concurrencyPolicy);
+        scheduledTask.setTimeZone(timeZone);
+        scheduledTask.setStartingDeadlineSeconds(startingDeadlineSeconds == null ? null :
+                startingDeadlineSeconds.longValue());
+        scheduledTask.setActiveDeadlineSeconds(activeDeadlineSeconds == null ? null :
+                activeDeadlineSeconds.longValue());
+        scheduledTask.setSuccessfulJobsHistoryLimit(successfulJobsHistoryLimit);
+        scheduledTask.setFailedJobsHistoryLimit(failedJobsHistoryLimit);
+        if (activeDeadlineSeconds != null) {
+            // Cloud.toml can override the deadline. Hence the overlap is checked once the effective value is known.
+            scheduledTask.setActiveDeadlineLocation(activeDeadlineNode.location());
+        }
+        this.task = scheduledTask;
     }
 
     private String extractString(ExpressionNode expressionNode) {
@@ -340,8 +454,12 @@ public class C2CVisitor extends NodeVisitor {
                 FunctionArgumentNode secondParamExpression = refNode.parenthesizedArgList().arguments().get(1);
                 Optional<HttpsConfig> config = extractKeyStores(secondParamExpression);
                 config.ifPresent(listenerInfo::setConfig);
+                listenerInfo.setHttp2(isHttp2Config(secondParamExpression));
             }
         }
+        if (listenerInfo != null) {
+            getListenerModuleName(typeSymbol).ifPresent(listenerInfo::setListenerType);
+        }
         ServiceInfo
                 serviceInfo = new ServiceInfo(listenerInfo, serviceDeclarationNode, servicePath);
         NodeList<Node> function = serviceDeclarationNode.members();
@@ -398,6 +516,35 @@ public class C2CVisitor extends NodeVisitor {
         return Optional.empty();
     }
 
+    private boolean isHttp2Config(FunctionArgumentNode functionArgumentNode) {
+        //new http:Listener(9090, {httpVersion: http:HTTP_2_0})
+        if (functionArgumentNode.kind() != SyntaxKind.POSITIONAL_ARG) {
+            return false;
+        }
+        ExpressionNode expression = ((PositionalArgumentNode) functionArgumentNode).expression();
+        if (expression.kind() != SyntaxKind.MAPPING_CONSTRUCTOR) {
+            return false;
+        }
+        for (MappingFieldNode mappingFieldNode : ((MappingConstructorExpressionNode) expression).fields()) {
+            if (mappingFieldNode.kind() != SyntaxKind.SPECIFIC_FIELD) {
+                continue;
+            }
+            SpecificFieldNode specificFieldNode = (SpecificFieldNode) mappingFieldNode;
+            if (!"httpVersion".equals(getNameOfIdentifier(specificFieldNode.fieldName())) ||
+                    specificFieldNode.valueExpr().isEmpty()) {
+                continue;
+            }
+            ExpressionNode valueExpr = specificFieldNode.valueExpr().get();
+            if (valueExpr.kind() == SyntaxKind.QUALIFIED_NAME_REFERENCE) {
+                return "HTTP_2_0".equals(((QualifiedNameReferenceNode) valueExpr).identifier().text());
+            }
+            if (valueExpr.kind() == SyntaxKind.STRING_LITERAL) {
+                return "\"2.0\"".equals(((BasicLiteralNode) valueExpr).literalToken().text());
+            }
+        }
+        return false;
+    }
+
     private Optional<HttpsConfig> processFieldsInHttpConfig(MappingConstructorExpressionNode mapping) {
         SeparatedNodeList<MappingFieldNode> fields = mapping.fields();
         for (MappingFieldNode mappingFieldNode : fields) {
@@ -627,24 +774,31 @@ public class C2CVisitor extends NodeVisitor {
         return Optional.empty();
     }
 
-    private boolean isC2CNativelySupportedListener(TypeSymbol typeSymbol) {
+    private Optional<String> getListenerModuleName(TypeSymbol typeSymbol) {
         //To process http:Listener|error recursively.
         if (typeSymbol.typeKind() == TypeDescKind.UNION) {
             UnionTypeSymbol unionTypeSymbol = (UnionTypeSymbol) typeSymbol;
             List<TypeSymbol> typeSymbols = unionTypeSymbol.memberTypeDescriptors();
             for (TypeSymbol symbol : typeSymbols) {
                 if (symbol.typeKind() != TypeDescKind.ERROR) {
-                    return isC2CNativelySupportedListener(symbol);
+                    return getListenerModuleName(symbol);
                 }
             }
         }
         if (typeSymbol.typeKind() == TypeDescKind.TYPE_REFERENCE) {
             Optional<ModuleSymbol> module = typeSymbol.getModule();
-            if (module.isEmpty() || module.get().getName().isEmpty()) {
-                return false;
+            if (module.isEmpty()) {
+                return Optional.empty();
             }
-            String moduleName = module.get().getName().get();
-            switch (moduleName) {
+            return module.get().getName();
+        }
+        return Optional.empty();
+    }
+
+    private boolean isC2CNativelySupportedListener(TypeSymbol typeSymbol) {
+        Optional<String> listenerModuleName = getListenerModuleName(typeSymbol);
+        if (listenerModuleName.isPresent()) {
+            switch (listenerModuleName.get()) {
                 case "http":
                 case "grpc":
                 case "graphql":
@@ -672,6 +826,9 @@ public class C2CVisitor extends NodeVisitor {
             } else if (serviceNode.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
                 IdentifierToken token = (IdentifierToken) serviceNode;
                 absoluteServicePath.append(token.text());
+            } else if (serviceNode.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM ||
+                    serviceNode.kind() == SyntaxKind.RESOURCE_PATH_REST_PARAM) {
+                absoluteServicePath.append(serviceNode.toSourceCode().trim());
             }
         }
         return absoluteServicePath.toString();
@@ -702,6 +859,7 @@ public class C2CVisitor extends NodeVisitor {
         if (parenthesizedArgList.arguments().size() > 1) {
             Optional<HttpsConfig> config = extractKeyStores(parenthesizedArgList.arguments().get(1));
             config.ifPresent(listener::setConfig);
+            listener.setHttp2(isHttp2Config(parenthesizedArgList.arguments().get(1)));
         }
         return Optional.of(listener);
     }
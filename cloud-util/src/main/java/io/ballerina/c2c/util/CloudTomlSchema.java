@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.util;
+
+import io.ballerina.toml.validator.schema.Schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.MissingResourceException;
+
+/**
+ * Holds the Cloud.toml validation schema, which is loaded and parsed once per class loader.
+ * <p>
+ * The parsed schema is only read by the validator, the boilerplate generator and the completion providers, so the
+ * same instance is shared between the compiler plugin and the language server extensions.
+ *
+ * @since 2.0.0
+ */
+public class CloudTomlSchema {
+
+    public static final String SCHEMA_FILE = "c2c-schema.json";
+
+    private CloudTomlSchema() {
+    }
+
+    /**
+     * Get the content of the schema file.
+     *
+     * @return schema json
+     */
+    public static String getSchemaContent() {
+        return Holder.CONTENT;
+    }
+
+    /**
+     * Get the parsed schema.
+     *
+     * @return parsed schema
+     */
+    public static Schema getSchema() {
+        return Holder.SCHEMA;
+    }
+
+    private static String loadSchema() {
+        try (InputStream inputStream = CloudTomlSchema.class.getClassLoader().getResourceAsStream(SCHEMA_FILE)) {
+            if (inputStream == null) {
+                throw new MissingResourceException("Schema Not found", SCHEMA_FILE, "");
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new MissingResourceException("Schema Not found", SCHEMA_FILE, "");
+        }
+    }
+
+    /**
+     * Loads the schema on first use.
+     */
+    private static class Holder {
+
+        private static final String CONTENT = loadSchema();
+        private static final Schema SCHEMA = Schema.from(CONTENT);
+    }
+}
@@ -33,6 +33,8 @@ public class ListenerInfo {
     private String name;
     private int port;
     private HttpsConfig config;
+    private String listenerType;
+    private boolean http2;
 
     public ListenerInfo(String name, int port) {
         this.name = name;
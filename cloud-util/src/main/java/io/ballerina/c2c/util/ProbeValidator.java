@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.util;
+
+import io.ballerina.toml.api.Toml;
+import io.ballerina.toml.semantic.ast.TomlLongValueNode;
+import io.ballerina.toml.semantic.ast.TomlStringValueNode;
+import io.ballerina.toml.semantic.ast.TomlValueNode;
+import io.ballerina.toml.semantic.diagnostics.TomlDiagnostic;
+import io.ballerina.toml.semantic.diagnostics.TomlNodeLocation;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Validates the probes of a Cloud.toml against the services of the project.
+ * <p>
+ * Used by the compiler plugin during compilation and by the language server extension while the Cloud.toml is edited.
+ *
+ * @since 2.0.0
+ */
+public class ProbeValidator {
+
+    public static final String INVALID_PORT = "C2C001";
+    public static final String INVALID_PATH = "C2C002";
+    public static final String INVALID_SERVICE_PATH = "C2C003";
+    public static final String INVALID_RESOURCE_PATH = "C2C004";
+
+    private ProbeValidator() {
+    }
+
+    /**
+     * Validate the readiness and liveness probes of the Cloud.toml.
+     *
+     * @param toml        Cloud.toml
+     * @param serviceList services of the project
+     * @return diagnostics of the probes
+     */
+    public static List<Diagnostic> validateProbes(Toml toml, List<ServiceInfo> serviceList) {
+        return validateProbes(toml, new ResourcePathTrie(serviceList));
+    }
+
+    /**
+     * Validate the readiness and liveness probes of the Cloud.toml.
+     *
+     * @param toml         Cloud.toml
+     * @param resourceTrie resource paths of the project
+     * @return diagnostics of the probes
+     */
+    public static List<Diagnostic> validateProbes(Toml toml, ResourcePathTrie resourceTrie) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        for (ProbeType type : ProbeType.values()) {
+            Optional<Toml> probe = toml.getTable(type.getTableName());
+            probe.ifPresent(value -> diagnostics.addAll(validateProbe(value, type, resourceTrie)));
+        }
+        return diagnostics;
+    }
+
+    /**
+     * Validate a single probe table of the Cloud.toml.
+     *
+     * @param probe        probe table
+     * @param type         type of the probe
+     * @param resourceTrie resource paths of the project
+     * @return diagnostics of the probe
+     */
+    public static List<Diagnostic> validateProbe(Toml probe, ProbeType type, ResourcePathTrie resourceTrie) {
+        if (probe.get("port").isEmpty() || probe.get("path").isEmpty()) {
+            return Collections.emptyList();
+        }
+        TomlValueNode portNode = probe.get("port").get();
+        TomlValueNode pathNode = probe.get("path").get();
+        if (!(portNode instanceof TomlLongValueNode) || !(pathNode instanceof TomlStringValueNode)) {
+            return Collections.emptyList();
+        }
+        long port = ((TomlLongValueNode) portNode).getValue();
+        String path = ((TomlStringValueNode) pathNode).getValue();
+
+        if (!resourceTrie.hasPort(port)) {
+            List<Diagnostic> diagnosticInfos = new ArrayList<>();
+            diagnosticInfos.add(getTomlDiagnostic(portNode.location(), INVALID_PORT, "error.invalid.port",
+                    DiagnosticSeverity.ERROR, "Invalid " + type.getValue() + " Port"));
+            diagnosticInfos.add(getTomlDiagnostic(pathNode.location(), INVALID_PATH, "error.invalid.path",
+                    DiagnosticSeverity.ERROR, "Invalid " + type.getValue() + " Path"));
+            return diagnosticInfos;
+        }
+        if (!resourceTrie.hasServicePath(port, path)) {
+            return Collections.singletonList(getTomlDiagnostic(pathNode.location(), INVALID_SERVICE_PATH,
+                    "error.invalid.service.path", DiagnosticSeverity.ERROR,
+                    "Invalid " + type.getValue() + " Service Path"));
+        }
+        if (!resourceTrie.hasResource(port, path)) {
+            return Collections.singletonList(getTomlDiagnostic(pathNode.location(), INVALID_RESOURCE_PATH,
+                    "error.invalid.resource.path", DiagnosticSeverity.ERROR,
+                    "Invalid " + type.getValue() + " Resource Path"));
+        }
+        return Collections.emptyList();
+    }
+
+    private static TomlDiagnostic getTomlDiagnostic(TomlNodeLocation location, String code, String template,
+                                                    DiagnosticSeverity severity, String message) {
+        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(code, template, severity);
+        return new TomlDiagnostic(location, diagnosticInfo, message);
+    }
+
+    /**
+     * Probes supported in the Cloud.toml.
+     */
+    public enum ProbeType {
+        READINESS("Readiness Probe", "cloud.deployment.probes.readiness"),
+        LIVENESS("Liveness Probe", "cloud.deployment.probes.liveness");
+
+        private final String value;
+        private final String tableName;
+
+        ProbeType(String value, String tableName) {
+            this.value = value;
+            this.tableName = tableName;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+    }
+}
@@ -42,6 +42,7 @@ public class ProjectServiceInfo {
 
     private final List<ServiceInfo> serviceList;
     private final List<ClientInfo> clientList;
+    private final List<ClientTargetInfo> clientTargetList;
     private Task task = null;
 
     public ProjectServiceInfo(Project project) {
@@ -51,6 +52,7 @@ public class ProjectServiceInfo {
     public ProjectServiceInfo(Project project, List<Diagnostic> diagnostics) {
         this.serviceList = new ArrayList<>();
         this.clientList = new ArrayList<>();
+        this.clientTargetList = new ArrayList<>();
         Package currentPackage = project.currentPackage();
         Iterable<Module> modules = currentPackage.modules();
         for (Module module : modules) {
@@ -75,6 +77,7 @@ public class ProjectServiceInfo {
                 node.accept(visitor);
                 serviceList.addAll(visitor.getServices());
                 clientList.addAll(visitor.getClientInfos());
+                clientTargetList.addAll(visitor.getClientTargets());
                 this.task = visitor.getTask();
             }
         }
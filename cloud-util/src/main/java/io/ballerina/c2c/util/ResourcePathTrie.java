@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routing trie of the http resources of a project, with a root per listener port.
+ * <p>
+ * Each node is a segment of the absolute resource path. Literal segments are matched by name, a path parameter such as
+ * {@code [string id]} matches any single segment and a rest parameter such as {@code [string... ids]} matches all the
+ * remaining segments, including none.
+ *
+ * @since 2.0.0
+ */
+public class ResourcePathTrie {
+
+    private static final String REST_PARAM_MARKER = "...";
+
+    private final Map<Integer, PortEntry> ports = new HashMap<>();
+
+    public ResourcePathTrie(List<ServiceInfo> serviceList) {
+        for (ServiceInfo serviceInfo : serviceList) {
+            if (serviceInfo.getListener() == null) {
+                continue;
+            }
+            PortEntry portEntry = ports.computeIfAbsent(serviceInfo.getListener().getPort(), port -> new PortEntry());
+            portEntry.services.add(serviceInfo);
+            PathNode serviceNode = portEntry.root;
+            for (String segment : split(serviceInfo.getServicePath())) {
+                serviceNode = serviceNode.getOrCreateChild(segment);
+            }
+            serviceNode.service = true;
+            for (ResourceInfo resourceInfo : serviceInfo.getResourceInfo()) {
+                PathNode resourceNode = serviceNode;
+                if (!".".equals(resourceInfo.getPath().trim())) {
+                    for (String segment : split(resourceInfo.getPath())) {
+                        resourceNode = resourceNode.getOrCreateChild(segment);
+                    }
+                }
+                resourceNode.resource = true;
+            }
+        }
+    }
+
+    /**
+     * Check whether a service listens on the given port.
+     *
+     * @param port listener port
+     * @return true if a service listens on the port
+     */
+    public boolean hasPort(long port) {
+        return ports.containsKey(toPortKey(port));
+    }
+
+    /**
+     * Get the services listening on the given port.
+     *
+     * @param port listener port
+     * @return services of the port in declaration order
+     */
+    public List<ServiceInfo> getServices(long port) {
+        PortEntry portEntry = ports.get(toPortKey(port));
+        return portEntry == null ? Collections.emptyList() : Collections.unmodifiableList(portEntry.services);
+    }
+
+    /**
+     * Check whether the path is within the base path of a service listening on the given port.
+     *
+     * @param port listener port
+     * @param path absolute path
+     * @return true if a service on the port has a base path that is a prefix of the path
+     */
+    public boolean hasServicePath(long port, String path) {
+        PortEntry portEntry = ports.get(toPortKey(port));
+        if (portEntry == null) {
+            return false;
+        }
+        PathNode node = portEntry.root;
+        if (node.service) {
+            return true;
+        }
+        for (String segment : split(path)) {
+            node = node.literals.get(segment);
+            if (node == null) {
+                return false;
+            }
+            if (node.service) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the path is served by a resource of a service listening on the given port.
+     *
+     * @param port listener port
+     * @param path absolute path
+     * @return true if a resource on the port matches the path
+     */
+    public boolean hasResource(long port, String path) {
+        PortEntry portEntry = ports.get(toPortKey(port));
+        return portEntry != null && matches(portEntry.root, split(path), 0);
+    }
+
+    private static boolean matches(PathNode node, List<String> segments, int index) {
+        if (node.restParam != null && node.restParam.resource) {
+            return true;
+        }
+        if (index == segments.size()) {
+            return node.resource;
+        }
+        PathNode literal = node.literals.get(segments.get(index));
+        if (literal != null && matches(literal, segments, index + 1)) {
+            return true;
+        }
+        return node.pathParam != null && matches(node.pathParam, segments, index + 1);
+    }
+
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.trim().split("/")) {
+            segment = segment.trim();
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static Integer toPortKey(long port) {
+        return port < Integer.MIN_VALUE || port > Integer.MAX_VALUE ? null : (int) port;
+    }
+
+    /**
+     * Root of the trie and the services of a single port.
+     */
+    private static class PortEntry {
+
+        private final PathNode root = new PathNode();
+        private final List<ServiceInfo> services = new ArrayList<>();
+    }
+
+    /**
+     * Segment of a resource path.
+     */
+    private static class PathNode {
+
+        private final Map<String, PathNode> literals = new HashMap<>();
+        private PathNode pathParam;
+        private PathNode restParam;
+        private boolean service;
+        private boolean resource;
+
+        private PathNode getOrCreateChild(String segment) {
+            if (segment.startsWith("[")) {
+                if (segment.contains(REST_PARAM_MARKER)) {
+                    if (restParam == null) {
+                        restParam = new PathNode();
+                    }
+                    return restParam;
+                }
+                if (pathParam == null) {
+                    pathParam = new PathNode();
+                }
+                return pathParam;
+            }
+            // Remove the escape characters of quoted identifiers.
+            return literals.computeIfAbsent(segment.replace("\\", ""), key -> new PathNode());
+        }
+    }
+}
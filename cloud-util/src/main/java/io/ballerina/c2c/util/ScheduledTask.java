@@ -17,17 +17,32 @@
  */
 package io.ballerina.c2c.util;
 
+import io.ballerina.tools.diagnostics.Location;
+
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Represents a Scheduled Task config of code to cloud annotation.
  *
  * @since 2.0.0
  */
 public class ScheduledTask extends Task {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final String EVERY = "*";
+
     private final String minutes;
     private final String hours;
     private final String dayOfMonth;
     private final String monthOfYear;
     private final String daysOfWeek;
+    private String concurrencyPolicy;
+    private Long startingDeadlineSeconds;
+    private Long activeDeadlineSeconds;
+    private Integer successfulJobsHistoryLimit;
+    private Integer failedJobsHistoryLimit;
+    private String timeZone;
+    private Location activeDeadlineLocation;
 
     public ScheduledTask(String minutes, String hours, String dayOfMonth, String monthOfYear, String daysOfWeek) {
         this.minutes = minutes;
@@ -41,4 +56,133 @@ public class ScheduledTask extends Task {
         return minutes + " " + hours + " " + dayOfMonth + " "
                 + monthOfYear + " " + daysOfWeek;
     }
+
+    /**
+     * Returns the shortest interval between two consecutive runs of the schedule. Runs on consecutive days are only
+     * considered when the task runs every day.
+     *
+     * @return shortest interval in minutes or -1 if it cannot be derived from the schedule
+     */
+    public int getMinimumInterval() {
+        List<Integer> runs = new ArrayList<>();
+        try {
+            boolean[] runMinutes = parseField(minutes, 59);
+            boolean[] runHours = parseField(hours, 23);
+            for (int hour = 0; hour < runHours.length; hour++) {
+                for (int minute = 0; minute < runMinutes.length; minute++) {
+                    if (runHours[hour] && runMinutes[minute]) {
+                        runs.add(hour * 60 + minute);
+                    }
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+        int interval = Integer.MAX_VALUE;
+        for (int i = 1; i < runs.size(); i++) {
+            interval = Math.min(interval, runs.get(i) - runs.get(i - 1));
+        }
+        if (!runs.isEmpty() && EVERY.equals(dayOfMonth) && EVERY.equals(monthOfYear) && EVERY.equals(daysOfWeek)) {
+            interval = Math.min(interval, runs.get(0) + MINUTES_PER_DAY - runs.get(runs.size() - 1));
+        }
+        return interval == Integer.MAX_VALUE ? -1 : interval;
+    }
+
+    /**
+     * Parse a numeric cron field. Supports `*`, values, ranges, steps and lists of them.
+     *
+     * @param field cron field
+     * @param max   maximum value of the field
+     * @return values matched by the field indexed by the value
+     */
+    private static boolean[] parseField(String field, int max) {
+        if (field == null) {
+            throw new IllegalArgumentException("missing cron field");
+        }
+        boolean[] values = new boolean[max + 1];
+        for (String part : field.trim().split(",")) {
+            int step = 1;
+            int slash = part.indexOf('/');
+            String range = part;
+            if (slash != -1) {
+                step = Integer.parseInt(part.substring(slash + 1));
+                range = part.substring(0, slash);
+            }
+            int start;
+            int end;
+            if (EVERY.equals(range)) {
+                start = 0;
+                end = max;
+            } else if (range.contains("-")) {
+                start = Integer.parseInt(range.substring(0, range.indexOf('-')));
+                end = Integer.parseInt(range.substring(range.indexOf('-') + 1));
+            } else {
+                start = Integer.parseInt(range);
+                end = slash != -1 ? max : start;
+            }
+            if (step < 1 || start < 0 || end > max || start > end) {
+                throw new IllegalArgumentException("invalid cron field: " + field);
+            }
+            for (int value = start; value <= end; value += step) {
+                values[value] = true;
+            }
+        }
+        return values;
+    }
+
+    public String getConcurrencyPolicy() {
+        return concurrencyPolicy;
+    }
+
+    public void setConcurrencyPolicy(String concurrencyPolicy) {
+        this.concurrencyPolicy = concurrencyPolicy;
+    }
+
+    public Long getStartingDeadlineSeconds() {
+        return startingDeadlineSeconds;
+    }
+
+    public void setStartingDeadlineSeconds(Long startingDeadlineSeconds) {
+        this.startingDeadlineSeconds = startingDeadlineSeconds;
+    }
+
+    public Long getActiveDeadlineSeconds() {
+        return activeDeadlineSeconds;
+    }
+
+    public void setActiveDeadlineSeconds(Long activeDeadlineSeconds) {
+        this.activeDeadlineSeconds = activeDeadlineSeconds;
+    }
+
+    public Integer getSuccessfulJobsHistoryLimit() {
+        return successfulJobsHistoryLimit;
+    }
+
+    public void setSuccessfulJobsHistoryLimit(Integer successfulJobsHistoryLimit) {
+        this.successfulJobsHistoryLimit = successfulJobsHistoryLimit;
+    }
+
+    public Integer getFailedJobsHistoryLimit() {
+        return failedJobsHistoryLimit;
+    }
+
+    public void setFailedJobsHistoryLimit(Integer failedJobsHistoryLimit) {
+        this.failedJobsHistoryLimit = failedJobsHistoryLimit;
+    }
+
+    public String getTimeZone() {
+        return timeZone;
+    }
+
+    public void setTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    public Location getActiveDeadlineLocation() {
+        return activeDeadlineLocation;
+    }
+
+    public void setActiveDeadlineLocation(Location activeDeadlineLocation) {
+        this.activeDeadlineLocation = activeDeadlineLocation;
+    }
 }
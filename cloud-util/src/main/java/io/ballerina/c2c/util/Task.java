@@ -23,5 +23,22 @@ package io.ballerina.c2c.util;
  * @since 2.0.0
  */
 public class Task {
+    private Integer parallelism;
+    private Integer completions;
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public Integer getCompletions() {
+        return completions;
+    }
+
+    public void setCompletions(Integer completions) {
+        this.completions = completions;
+    }
 }
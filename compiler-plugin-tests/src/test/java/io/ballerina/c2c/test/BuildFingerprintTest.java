@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.BuildFingerprint;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test skipping the artifact generation when the inputs of the build are unchanged.
+ */
+public class BuildFingerprintTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "settings", "multi-yaml");
+    private static final Path PROJECT_DIR_PATH = Paths.get("build", "c2c-fingerprint", "multi-yaml");
+    private static final Path K8S_TARGET_PATH = PROJECT_DIR_PATH.resolve("target").resolve(KUBERNETES)
+            .resolve("hello");
+    private static final Path DOCKER_TARGET_PATH = PROJECT_DIR_PATH.resolve("target").resolve(DOCKER)
+            .resolve("hello");
+    private static final Path GRAPH_NODES_PATH = PROJECT_DIR_PATH.resolve("target").resolve("graph")
+            .resolve("nodes");
+    private static final String CLOUD_TOML = "\n[cloud.deployment.dependencies]\n" +
+            "co_locate = \"zone\"\n" +
+            "graph_dir = \"target/graph\"\n" +
+            "\n[cloud.profiles.prod.cloud.deployment]\n" +
+            "replicas = 2\n";
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        KubernetesTestUtils.copyProject(SOURCE_DIR_PATH, PROJECT_DIR_PATH, CLOUD_TOML);
+    }
+
+    @Test
+    public void testUpToDate() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(PROJECT_DIR_PATH), 0);
+        Assert.assertTrue(Files.exists(DOCKER_TARGET_PATH.resolve(BuildFingerprint.FINGERPRINT_FILE)));
+        FileTime deploymentTime = getModifiedTime(K8S_TARGET_PATH.resolve("hello_deployment.yaml"));
+        FileTime dockerfileTime = getModifiedTime(DOCKER_TARGET_PATH.resolve("Dockerfile"));
+
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(PROJECT_DIR_PATH), 0);
+        Assert.assertEquals(getModifiedTime(K8S_TARGET_PATH.resolve("hello_deployment.yaml")), deploymentTime);
+        Assert.assertEquals(getModifiedTime(DOCKER_TARGET_PATH.resolve("Dockerfile")), dockerfileTime);
+    }
+
+    @Test(dependsOnMethods = "testUpToDate")
+    public void testRegenerateOnReferencedFileChange() throws IOException, InterruptedException {
+        FileTime deploymentTime = getModifiedTime(K8S_TARGET_PATH.resolve("hello_deployment.yaml"));
+        Files.write(PROJECT_DIR_PATH.resolve("conf").resolve("data.txt"),
+                "Consectetur adipiscing elit.".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(PROJECT_DIR_PATH), 0);
+        Assert.assertNotEquals(getModifiedTime(K8S_TARGET_PATH.resolve("hello_deployment.yaml")), deploymentTime);
+        String configMap = new String(Files.readAllBytes(K8S_TARGET_PATH.resolve("hello_config_map.yaml")),
+                StandardCharsets.UTF_8);
+        Assert.assertTrue(configMap.contains("Consectetur adipiscing elit."));
+    }
+
+    @Test(dependsOnMethods = "testUpToDate")
+    public void testRegenerateOnDeletedArtifacts() throws IOException, InterruptedException,
+            KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(K8S_TARGET_PATH);
+
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(PROJECT_DIR_PATH), 0);
+        Assert.assertTrue(Files.exists(K8S_TARGET_PATH.resolve("hello_deployment.yaml")));
+    }
+
+    @Test(dependsOnMethods = "testUpToDate")
+    public void testRegenerateOnGraphNodeChange() throws IOException, InterruptedException {
+        // A package called by this one is built after it, adding its node to the shared graph.
+        Assert.assertTrue(Files.exists(GRAPH_NODES_PATH.resolve("hello.json")));
+        FileTime deploymentTime = getModifiedTime(K8S_TARGET_PATH.resolve("hello_deployment.yaml"));
+        Files.writeString(GRAPH_NODES_PATH.resolve("callee.json"), "{\"name\": \"callee\", " +
+                "\"serviceName\": \"callee-svc\", \"namespace\": \"default\", \"ports\": [9090], \"clients\": []}");
+
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(PROJECT_DIR_PATH), 0);
+        Assert.assertNotEquals(getModifiedTime(K8S_TARGET_PATH.resolve("hello_deployment.yaml")), deploymentTime);
+        String graph = Files.readString(GRAPH_NODES_PATH.getParent().resolve("dependency-graph.json"));
+        Assert.assertTrue(graph.contains("callee-svc"));
+    }
+
+    @Test(dependsOnMethods = "testUpToDate")
+    public void testRegenerateOnDeletedKustomize() throws IOException, InterruptedException,
+            KubernetesPluginException {
+        Path kustomizePath = K8S_TARGET_PATH.resolveSibling("hello-kustomize");
+        Assert.assertTrue(Files.isDirectory(kustomizePath));
+        KubernetesUtils.deleteDirectory(kustomizePath);
+
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(PROJECT_DIR_PATH), 0);
+        Assert.assertTrue(Files.exists(kustomizePath.resolve("overlays").resolve("prod")
+                .resolve("kustomization.yaml")));
+    }
+
+    private FileTime getModifiedTime(Path path) throws IOException {
+        return Files.getLastModifiedTime(path);
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(PROJECT_DIR_PATH);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.ChangeSetModel;
+import io.ballerina.c2c.models.ResourceStateModel;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.ballerina.c2c.KubernetesConstants.CHANGE_SET_APPLY_FILE;
+import static io.ballerina.c2c.KubernetesConstants.CHANGE_SET_FILE;
+import static io.ballerina.c2c.KubernetesConstants.CHANGE_SET_PRUNE_FILE;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test the change set of the kubernetes resources generated since the previous build.
+ */
+public class ChangeSetTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "settings", "multi-yaml");
+    private static final Path PROJECT_DIR_PATH = Paths.get("build", "c2c-change-set", "multi-yaml");
+    private static final Path CHANGE_SET_PATH = PROJECT_DIR_PATH.resolve("target").resolve(KUBERNETES)
+            .resolve("hello-changes");
+    private static final String CONFIG_MAPS = "[[cloud.config.maps]]\n" +
+            "    file=\"./conf/data.txt\"\n" +
+            "    mount_path=\"/home/ballerina/data\"\n";
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        KubernetesTestUtils.copyProject(SOURCE_DIR_PATH, PROJECT_DIR_PATH, "changeSet=true\n");
+    }
+
+    @Test
+    public void testFirstBuild() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(PROJECT_DIR_PATH), 0);
+        ChangeSetModel changeSet = readChangeSet();
+        Assert.assertTrue(getKinds(changeSet.getAdded()).contains("Deployment"));
+        Assert.assertTrue(changeSet.getModified().isEmpty());
+        Assert.assertTrue(changeSet.getDeleted().isEmpty());
+        Assert.assertTrue(changeSet.getUnchanged().isEmpty());
+        Assert.assertTrue(Files.size(CHANGE_SET_PATH.resolve(CHANGE_SET_APPLY_FILE)) > 0);
+    }
+
+    @Test(dependsOnMethods = "testFirstBuild")
+    public void testRemovedConfigMap() throws IOException, InterruptedException {
+        Path cloudToml = PROJECT_DIR_PATH.resolve("Cloud.toml");
+        String content = new String(Files.readAllBytes(cloudToml), StandardCharsets.UTF_8);
+        Files.write(cloudToml, content.replace(CONFIG_MAPS, "").getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(PROJECT_DIR_PATH), 0);
+        ChangeSetModel changeSet = readChangeSet();
+        Assert.assertTrue(changeSet.getAdded().isEmpty());
+        Assert.assertEquals(getKinds(changeSet.getModified()), List.of("Deployment"));
+        Assert.assertEquals(getKinds(changeSet.getDeleted()), List.of("ConfigMap"));
+        Assert.assertTrue(getKinds(changeSet.getUnchanged()).contains("Service"));
+        String prune = new String(Files.readAllBytes(CHANGE_SET_PATH.resolve(CHANGE_SET_PRUNE_FILE)),
+                StandardCharsets.UTF_8);
+        Assert.assertTrue(prune.contains("kind: \"ConfigMap\""));
+    }
+
+    private ChangeSetModel readChangeSet() throws IOException {
+        return new ObjectMapper().readValue(CHANGE_SET_PATH.resolve(CHANGE_SET_FILE).toFile(), ChangeSetModel.class);
+    }
+
+    private List<String> getKinds(List<ResourceStateModel> resources) {
+        return resources.stream().map(ResourceStateModel::getKind).collect(Collectors.toList());
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(PROJECT_DIR_PATH);
+    }
+}
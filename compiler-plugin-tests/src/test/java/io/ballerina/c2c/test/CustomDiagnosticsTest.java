@@ -15,16 +15,33 @@
  */
 package io.ballerina.c2c.test;
 
+import io.ballerina.c2c.tooling.diagnostics.CloudTomlDiagnostics;
+import io.ballerina.c2c.tooling.diagnostics.CloudTomlDiagnosticsSubscriber;
+import io.ballerina.projects.CloudToml;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.ballerinalang.langserver.commons.DocumentServiceContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.lang.reflect.Proxy;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 import static io.ballerina.c2c.test.utils.KubernetesTestUtils.getC2CDiagnostics;
 
@@ -67,6 +84,29 @@ public class CustomDiagnosticsTest {
                 "value for key 'max_cpu' expected to match the regex: ^([+-]?[0-9.]+)([eEinumkKMGTP]*[-+]?[0-9]*)$");
     }
 
+    @Test
+    public void testInvalidProfile() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "invalid-profile");
+        BuildProject project = BuildProject.load(projectPath);
+        Collection<Diagnostic> diagnostics =
+                getC2CDiagnostics(project.currentPackage().getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 2);
+        Map<String, Diagnostic> profileDiagnostics = new HashMap<>();
+        for (Diagnostic diagnostic : diagnostics) {
+            Assert.assertEquals(diagnostic.diagnosticInfo().code(), "C2C007");
+            profileDiagnostics.put(diagnostic.message(), diagnostic);
+        }
+        Diagnostic schemaError = profileDiagnostics.get("profile 'prod': value for key 'min_cpu' expected to " +
+                "match the regex: ^([+-]?[0-9.]+)([eEinumkKMGTP]*[-+]?[0-9]*)$");
+        Assert.assertNotNull(schemaError);
+        Assert.assertEquals(schemaError.diagnosticInfo().severity(), DiagnosticSeverity.ERROR);
+        // The source checks run on the merged Cloud.toml of the profile as well.
+        Diagnostic poolSizeWarning = profileDiagnostics.get("profile 'staging': max_pool_size 64 is far off the " +
+                "CPU budget of 1 CPU(s). recommended pool size is 2");
+        Assert.assertNotNull(poolSizeWarning);
+        Assert.assertEquals(poolSizeWarning.diagnosticInfo().severity(), DiagnosticSeverity.WARNING);
+    }
+
     @Test
     public void testInvalidSyntax() {
         Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "invalid-syntax");
@@ -89,6 +129,104 @@ public class CustomDiagnosticsTest {
         Assert.assertEquals(iterator.next().message(), "Invalid Liveness Probe Path");
     }
 
+    @Test
+    public void testLiveProbeDiagnostics() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "missing-port");
+        BuildProject project = BuildProject.load(projectPath);
+        CloudTomlDiagnostics cloudTomlDiagnostics = CloudTomlDiagnostics.getInstance(project);
+        List<Diagnostic> diagnostics = cloudTomlDiagnostics.getDiagnostics(project);
+        Assert.assertEquals(diagnostics.size(), 2);
+        Assert.assertEquals(diagnostics.get(0).message(), "Invalid Liveness Probe Port");
+        Assert.assertEquals(diagnostics.get(1).message(), "Invalid Liveness Probe Path");
+        Assert.assertEquals(diagnostics.get(0).diagnosticInfo().code(), "C2C001");
+        Assert.assertSame(cloudTomlDiagnostics.getDiagnostics(project).get(0), diagnostics.get(0));
+    }
+
+    @Test
+    public void testLiveProbeDiagnosticsAfterEdit() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "missing-port");
+        BuildProject project = BuildProject.load(projectPath);
+        CloudTomlDiagnostics cloudTomlDiagnostics = CloudTomlDiagnostics.getInstance(project);
+        Assert.assertEquals(cloudTomlDiagnostics.getDiagnostics(project).size(), 2);
+
+        editCloudToml(project, "port = 9091", "port = 9090");
+        List<Diagnostic> diagnostics = cloudTomlDiagnostics.getDiagnostics(project);
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.get(0).message(), "Invalid Liveness Probe Path");
+
+        editCloudToml(project, "/helloWorld/readyz", "/helloWorld/sayHello");
+        Assert.assertTrue(cloudTomlDiagnostics.getDiagnostics(project).isEmpty());
+    }
+
+    @Test
+    public void testCloudTomlDiagnosticsSubscriber() throws InterruptedException {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "pool-size-mismatch").toAbsolutePath();
+        BuildProject project = BuildProject.load(projectPath);
+        editCloudToml(project, "max_pool_size = 64", "max_pool_size = 64\n\n" +
+                "[cloud.deployment.probes.liveness]\nport = 9091\npath = \"/helloWorld/sayHello\"");
+
+        BlockingQueue<PublishDiagnosticsParams> published = new LinkedBlockingQueue<>();
+        ExtendedLanguageClient client = proxy(ExtendedLanguageClient.class, (method, args) -> {
+            if ("publishDiagnostics".equals(method)) {
+                published.add((PublishDiagnosticsParams) args[0]);
+            }
+            return null;
+        });
+        WorkspaceManager workspace = proxy(WorkspaceManager.class, (method, args) -> {
+            if ("project".equals(method)) {
+                return Optional.of(project);
+            } else if ("waitAndGetPackageCompilation".equals(method)) {
+                return Optional.of(project.currentPackage().getCompilation());
+            }
+            return null;
+        });
+        Path cloudTomlPath = projectPath.resolve("Cloud.toml");
+        DocumentServiceContext context = proxy(DocumentServiceContext.class, (method, args) -> {
+            if ("workspace".equals(method)) {
+                return workspace;
+            } else if ("filePath".equals(method)) {
+                return cloudTomlPath;
+            }
+            return null;
+        });
+        String poolSizeWarning = "max_pool_size 64 is far off the CPU budget of 1 CPU(s). recommended pool size is 2";
+        CloudTomlDiagnosticsSubscriber subscriber = new CloudTomlDiagnosticsSubscriber();
+
+        // The probe is validated without a compilation. The pool size check is only done by the compiler.
+        subscriber.onEvent(client, context, null);
+        PublishDiagnosticsParams params = published.poll(60, TimeUnit.SECONDS);
+        Assert.assertNotNull(params);
+        Assert.assertEquals(params.getUri(), cloudTomlPath.toUri().toString());
+        Assert.assertEquals(getMessages(params), List.of("Invalid Liveness Probe Port"));
+        Assert.assertEquals(getMessages(published.poll(60, TimeUnit.SECONDS)),
+                List.of("Invalid Liveness Probe Port", poolSizeWarning));
+
+        // The compiler diagnostics are kept while the edit is validated again.
+        editCloudToml(project, "port = 9091", "port = 9090");
+        subscriber.onEvent(client, context, null);
+        Assert.assertEquals(getMessages(published.poll(60, TimeUnit.SECONDS)), List.of(poolSizeWarning));
+        Assert.assertEquals(getMessages(published.poll(60, TimeUnit.SECONDS)), List.of(poolSizeWarning));
+    }
+
+    private static void editCloudToml(BuildProject project, String target, String replacement) {
+        CloudToml cloudToml = project.currentPackage().cloudToml().orElseThrow();
+        String content = cloudToml.tomlDocument().textDocument().toString();
+        cloudToml.modify().withContent(content.replace(target, replacement)).apply();
+    }
+
+    private static List<String> getMessages(PublishDiagnosticsParams params) {
+        Assert.assertNotNull(params);
+        return params.getDiagnostics().stream()
+                .map(org.eclipse.lsp4j.Diagnostic::getMessage)
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, BiFunction<String, Object[], Object> handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (instance, method, args) -> handler.apply(method.getName(), args));
+    }
+
     @Test
     public void testInvalidServicePath() {
         Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "invalid-service-path");
@@ -109,6 +247,41 @@ public class CustomDiagnosticsTest {
         Assert.assertEquals(diagnostics.iterator().next().message(), "Invalid Liveness Probe Resource Path");
     }
 
+    @Test
+    public void testPoolSizeMismatch() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "pool-size-mismatch");
+        BuildProject project = BuildProject.load(projectPath);
+        Collection<Diagnostic> diagnostics =
+                getC2CDiagnostics(project.currentPackage().getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Diagnostic diagnostic = diagnostics.iterator().next();
+        Assert.assertEquals(diagnostic.diagnosticInfo().severity(), DiagnosticSeverity.WARNING);
+        Assert.assertEquals(diagnostic.message(),
+                "max_pool_size 64 is far off the CPU budget of 1 CPU(s). recommended pool size is 2");
+    }
+
+    @Test
+    public void testTaskRunsOverlap() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "task-overlap");
+        BuildProject project = BuildProject.load(projectPath);
+        Collection<Diagnostic> diagnostics =
+                getC2CDiagnostics(project.currentPackage().getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 1);
+        Diagnostic diagnostic = diagnostics.iterator().next();
+        Assert.assertEquals(diagnostic.diagnosticInfo().severity(), DiagnosticSeverity.WARNING);
+        Assert.assertEquals(diagnostic.message(), "task is scheduled every 5 minute(s) which is shorter than its " +
+                "active deadline of 900 seconds. consecutive runs of the task could overlap");
+    }
+
+    @Test
+    public void testTaskRunsOverlapOverriddenByCloudToml() {
+        Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "task-overlap-override");
+        BuildProject project = BuildProject.load(projectPath);
+        Collection<Diagnostic> diagnostics =
+                getC2CDiagnostics(project.currentPackage().getCompilation().diagnosticResult().diagnostics());
+        Assert.assertEquals(diagnostics.size(), 0);
+    }
+
     @Test
     public void testDefaultConfigValueError() {
         Path projectPath = Paths.get("src", "test", "resources", "diagnostics", "default-config-value");
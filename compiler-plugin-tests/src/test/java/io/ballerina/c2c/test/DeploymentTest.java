@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimSpec;
+import io.fabric8.kubernetes.api.model.PodAffinityTerm;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
+import io.fabric8.kubernetes.api.model.Volume;
+import io.fabric8.kubernetes.api.model.VolumeMount;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTerm;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentSpec;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudget;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.DOCKER;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test cases for generated deployments.
+ */
+public class DeploymentTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "deployment");
+    private static final Path PROJECTS_DIR_PATH = Paths.get("build", "c2c-deployment");
+    private static final String PACKAGE_NAME = "hello_api";
+
+    @Test
+    public void testWarmUpWithServiceResources() throws IOException, InterruptedException {
+        Container container = getContainer("warmup");
+        Assert.assertNotNull(container.getLifecycle().getPreStop());
+        List<String> command = container.getLifecycle().getPostStart().getExec().getCommand();
+        Assert.assertEquals(command.size(), 3);
+        Assert.assertEquals(command.get(0), "sh");
+        String script = command.get(2);
+        Assert.assertTrue(script.contains("nc -z localhost 9090"));
+        Assert.assertTrue(script.contains("end=$(($(date +%s) + 120)); "));
+        Assert.assertTrue(script.contains("for i in $(seq 50); do [ $(date +%s) -lt $end ] || break; " +
+                "wget -q -T 5 -O /dev/null 'http://localhost:9090/helloWorld/sayHello'; done;"));
+        // Resources with path params are not safe to be invoked.
+        Assert.assertFalse(script.contains("/helloWorld/users"));
+        Assert.assertTrue(script.endsWith("exit 0"));
+    }
+
+    @Test
+    public void testWarmUpWithTomlResources() throws IOException, InterruptedException {
+        Container container = getContainer("warmup-resources");
+        String script = container.getLifecycle().getPostStart().getExec().getCommand().get(2);
+        Assert.assertTrue(script.contains("for i in $(seq 30); do nc -z localhost 9090"));
+        Assert.assertTrue(script.contains("end=$(($(date +%s) + 45)); "));
+        // The quote of the path is escaped for the single quoted url.
+        Assert.assertTrue(script.contains("for i in $(seq 200); do [ $(date +%s) -lt $end ] || break; " +
+                "wget -q -T 5 -O /dev/null 'http://localhost:9090/helloWorld/users/o'\\''neil'; done;"));
+        Assert.assertFalse(script.contains("/helloWorld/sayHello"));
+    }
+
+    @Test
+    public void testSinglePlatformNodeSelector() throws IOException, InterruptedException {
+        Deployment deployment = getDeployment("single-platform");
+        Assert.assertEquals(deployment.getSpec().getTemplate().getSpec().getNodeSelector().get("kubernetes.io/arch"),
+                "arm64");
+    }
+
+    @Test
+    public void testCoLocateWithCalledService() throws IOException, InterruptedException {
+        // Node of a previously built package which exposes hello-svc on port 9090.
+        Path projectPath = SOURCE_DIR_PATH.resolve("co-locate");
+        Path graphDir = projectPath.resolve("target").resolve("graph");
+        Files.createDirectories(graphDir.resolve("nodes"));
+        Files.writeString(graphDir.resolve("nodes").resolve("hello.json"), "{\"name\": \"hello\", " +
+                "\"serviceName\": \"hello-svc\", \"namespace\": \"default\", \"ports\": [9090], \"clients\": []}");
+
+        Deployment deployment = (Deployment) getItem(getK8sItems(projectPath, "co_locate"), "Deployment");
+        List<WeightedPodAffinityTerm> terms = deployment.getSpec().getTemplate().getSpec().getAffinity()
+                .getPodAffinity().getPreferredDuringSchedulingIgnoredDuringExecution();
+        Assert.assertEquals(terms.size(), 1);
+        PodAffinityTerm term = terms.get(0).getPodAffinityTerm();
+        Assert.assertEquals(term.getLabelSelector().getMatchLabels().get("app"), "hello");
+        Assert.assertEquals(term.getTopologyKey(), "topology.kubernetes.io/zone");
+        Assert.assertTrue(Files.exists(graphDir.resolve("dependency-graph.json")));
+        Assert.assertTrue(Files.exists(graphDir.resolve("nodes").resolve("co_locate.json")));
+    }
+
+    @Test
+    public void testDefaultGraphDir() throws IOException, InterruptedException, KubernetesPluginException {
+        Path projectPath = Paths.get("build", "c2c-graph", "co-locate");
+        KubernetesUtils.deleteDirectory(projectPath);
+        FileUtils.copyDirectory(SOURCE_DIR_PATH.resolve("co-locate").toFile(), projectPath.toFile());
+        Files.writeString(projectPath.resolve("Cloud.toml"), "[settings]\nbuildImage = false\n");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+
+        Path kubernetesPath = projectPath.resolve("target").resolve(KUBERNETES);
+        Path graphDir = kubernetesPath.resolve("co_locate-graph");
+        Assert.assertTrue(Files.exists(graphDir.resolve("dependency-graph.json")));
+        Assert.assertTrue(Files.exists(graphDir.resolve("nodes").resolve("co_locate.json")));
+        Assert.assertFalse(Files.exists(kubernetesPath.resolve("co_locate").resolve("dependency-graph.json")));
+        Assert.assertFalse(Files.exists(kubernetesPath.resolve("co_locate").resolve("nodes")));
+        KubernetesUtils.deleteDirectory(projectPath);
+    }
+
+    @Test
+    public void testSpreadReplicas() throws IOException, InterruptedException {
+        List<HasMetadata> k8sItems = getK8sItems("spread");
+        Deployment deployment = (Deployment) getItem(k8sItems, "Deployment");
+        PodSpec podSpec = deployment.getSpec().getTemplate().getSpec();
+        List<TopologySpreadConstraint> constraints = podSpec.getTopologySpreadConstraints();
+        Assert.assertEquals(constraints.size(), 2);
+        Assert.assertEquals(constraints.get(0).getTopologyKey(), "topology.kubernetes.io/zone");
+        Assert.assertEquals(constraints.get(1).getTopologyKey(), "kubernetes.io/hostname");
+        Assert.assertEquals(constraints.get(0).getWhenUnsatisfiable(), "ScheduleAnyway");
+        PodAffinityTerm antiAffinityTerm = podSpec.getAffinity().getPodAntiAffinity()
+                .getPreferredDuringSchedulingIgnoredDuringExecution().get(0).getPodAffinityTerm();
+        Assert.assertEquals(antiAffinityTerm.getLabelSelector().getMatchLabels().get("app"), PACKAGE_NAME);
+
+        PodDisruptionBudget podDisruptionBudget = (PodDisruptionBudget) getItem(k8sItems, "PodDisruptionBudget");
+        Assert.assertEquals(podDisruptionBudget.getSpec().getMaxUnavailable().getIntVal().intValue(), 1);
+        Assert.assertEquals(podDisruptionBudget.getSpec().getSelector().getMatchLabels().get("app"), PACKAGE_NAME);
+    }
+
+    @Test
+    public void testLatencyProfile() throws IOException, InterruptedException {
+        Deployment deployment = getDeployment("latency-profile");
+        Assert.assertNull(deployment.getSpec().getTemplate().getSpec().getPriorityClassName());
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        ResourceRequirements resources = container.getResources();
+        Assert.assertEquals(resources.getLimits().get("cpu").toString(), "2");
+        Assert.assertEquals(resources.getRequests().get("cpu").toString(), "2");
+        Assert.assertEquals(resources.getRequests().get("memory").toString(), "512Mi");
+
+        Path dockerFile = PROJECTS_DIR_PATH.resolve("latency-profile").resolve("target").resolve(DOCKER)
+                .resolve(PACKAGE_NAME).resolve("Dockerfile");
+        String dockerFileContent = Files.readString(dockerFile);
+        Assert.assertTrue(dockerFileContent.contains("-XX:MaxRAMPercentage=75.0 -XX:+AlwaysPreTouch"));
+        Assert.assertTrue(dockerFileContent.contains("-XX:+UseG1GC -XX:MaxGCPauseMillis=50"));
+    }
+
+    @Test
+    public void testZeroCapacityLossRollingUpdate() throws IOException, InterruptedException {
+        Deployment deployment = getDeployment("rolling-update");
+        DeploymentSpec spec = deployment.getSpec();
+        Assert.assertEquals(spec.getStrategy().getType(), "RollingUpdate");
+        // The preset surge scales with the replicas of the autoscaler while no replica is taken down before its
+        // replacement is ready.
+        Assert.assertEquals(spec.getStrategy().getRollingUpdate().getMaxSurge().getStrVal(), "25%");
+        Assert.assertEquals(spec.getStrategy().getRollingUpdate().getMaxUnavailable().getIntVal().intValue(), 0);
+        Assert.assertEquals(spec.getMinReadySeconds().intValue(), 10);
+        Assert.assertEquals(spec.getRevisionHistoryLimit().intValue(), 3);
+        Assert.assertNull(spec.getProgressDeadlineSeconds());
+    }
+
+    @Test
+    public void testFastRollingUpdate() throws IOException, InterruptedException {
+        Deployment deployment = getDeployment("rolling-update-fast");
+        DeploymentSpec spec = deployment.getSpec();
+        Assert.assertEquals(spec.getStrategy().getType(), "RollingUpdate");
+        Assert.assertEquals(spec.getStrategy().getRollingUpdate().getMaxSurge().getStrVal(), "50%");
+        Assert.assertEquals(spec.getStrategy().getRollingUpdate().getMaxUnavailable().getStrVal(), "25%");
+        Assert.assertNull(spec.getMinReadySeconds());
+    }
+
+    @Test
+    public void testRollingUpdatePresetOverride() throws IOException, InterruptedException {
+        Deployment deployment = getDeployment("rolling-update-override");
+        DeploymentSpec spec = deployment.getSpec();
+        // The integer override is kept as is while the surge of the preset is left untouched.
+        Assert.assertEquals(spec.getStrategy().getRollingUpdate().getMaxSurge().getStrVal(), "25%");
+        Assert.assertEquals(spec.getStrategy().getRollingUpdate().getMaxUnavailable().getIntVal().intValue(), 1);
+        Assert.assertEquals(spec.getMinReadySeconds().intValue(), 10);
+        Assert.assertEquals(spec.getRevisionHistoryLimit().intValue(), 3);
+        Assert.assertNull(spec.getProgressDeadlineSeconds());
+    }
+
+    @Test
+    public void testVolumeClaims() throws IOException, InterruptedException {
+        List<HasMetadata> k8sItems = getK8sItems("volume-claims");
+        Map<String, PersistentVolumeClaim> claims = new HashMap<>();
+        for (HasMetadata item : k8sItems) {
+            if (item instanceof PersistentVolumeClaim) {
+                claims.put(item.getMetadata().getName(), (PersistentVolumeClaim) item);
+            }
+        }
+        Assert.assertEquals(claims.size(), 2);
+        PersistentVolumeClaimSpec spill = claims.get("spill").getSpec();
+        Assert.assertEquals(spill.getStorageClassName(), "fast-ssd");
+        Assert.assertEquals(spill.getAccessModes(), Collections.singletonList("ReadWriteOnce"));
+        Assert.assertEquals(spill.getResources().getRequests().get("storage").toString(), "20Gi");
+        PersistentVolumeClaimSpec raw = claims.get("raw").getSpec();
+        Assert.assertEquals(raw.getVolumeMode(), "Block");
+        Assert.assertEquals(raw.getAccessModes(), Collections.singletonList("ReadWriteOncePod"));
+
+        Deployment deployment = (Deployment) getItem(k8sItems, "Deployment");
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getVolumeMounts().size(), 1);
+        Assert.assertEquals(container.getVolumeMounts().get(0).getMountPath(), "/home/ballerina/spill");
+        Assert.assertEquals(container.getVolumeDevices().size(), 1);
+        Assert.assertEquals(container.getVolumeDevices().get(0).getDevicePath(), "/dev/xvda");
+    }
+
+    @Test
+    public void testStatefulSet() throws IOException, InterruptedException {
+        List<HasMetadata> k8sItems = getK8sItems("stateful");
+        for (HasMetadata item : k8sItems) {
+            Assert.assertFalse(item instanceof Deployment || item instanceof PersistentVolumeClaim);
+        }
+        StatefulSet statefulSet = (StatefulSet) getItem(k8sItems, "StatefulSet");
+        Assert.assertEquals(statefulSet.getSpec().getReplicas().intValue(), 3);
+        Assert.assertEquals(statefulSet.getSpec().getServiceName(), "hello-api-headless");
+        Assert.assertEquals(statefulSet.getSpec().getUpdateStrategy().getType(), "RollingUpdate");
+        Assert.assertEquals(statefulSet.getSpec().getUpdateStrategy().getRollingUpdate().getAdditionalProperties()
+                .get("maxUnavailable"), 1);
+        Assert.assertEquals(statefulSet.getSpec().getAdditionalProperties().get("minReadySeconds"), 10);
+        Map<String, Service> services = new HashMap<>();
+        for (HasMetadata item : k8sItems) {
+            if (item instanceof Service) {
+                services.put(item.getMetadata().getName(), (Service) item);
+            }
+        }
+        Assert.assertEquals(services.size(), 2);
+        Assert.assertNull(services.get("hello-api-svc").getSpec().getClusterIP());
+        Assert.assertEquals(services.get("hello-api-headless").getSpec().getClusterIP(), "None");
+        Assert.assertEquals(services.get("hello-api-headless").getSpec().getSelector().get("app"), PACKAGE_NAME);
+        Assert.assertEquals(statefulSet.getSpec().getVolumeClaimTemplates().size(), 1);
+        PersistentVolumeClaim claimTemplate = statefulSet.getSpec().getVolumeClaimTemplates().get(0);
+        Assert.assertEquals(claimTemplate.getMetadata().getName(), "data");
+        Assert.assertEquals(claimTemplate.getSpec().getStorageClassName(), "fast-ssd");
+        PodSpec podSpec = statefulSet.getSpec().getTemplate().getSpec();
+        Assert.assertTrue(podSpec.getVolumes().isEmpty());
+        Assert.assertEquals(podSpec.getContainers().get(0).getVolumeMounts().get(0).getName(), "data");
+    }
+
+    @Test
+    public void testScratchVolumes() throws IOException, InterruptedException {
+        Deployment deployment = getDeployment("scratch");
+        PodSpec podSpec = deployment.getSpec().getTemplate().getSpec();
+        Assert.assertEquals(podSpec.getVolumes().size(), 2);
+        Volume tmp = podSpec.getVolumes().get(0);
+        Assert.assertEquals(tmp.getName(), "tmp");
+        Assert.assertEquals(tmp.getEmptyDir().getMedium(), "Memory");
+        Assert.assertEquals(tmp.getEmptyDir().getSizeLimit().toString(), "256Mi");
+        Volume spill = podSpec.getVolumes().get(1);
+        Assert.assertEquals(spill.getName(), "scratch-1");
+        Assert.assertNull(spill.getEmptyDir().getMedium());
+        List<VolumeMount> volumeMounts = podSpec.getContainers().get(0).getVolumeMounts();
+        Assert.assertEquals(volumeMounts.size(), 2);
+        Assert.assertEquals(volumeMounts.get(1).getMountPath(), "/home/ballerina/spill");
+
+        Path dockerFile = PROJECTS_DIR_PATH.resolve("scratch").resolve("target").resolve(DOCKER)
+                .resolve(PACKAGE_NAME).resolve("Dockerfile");
+        Assert.assertTrue(Files.readString(dockerFile).contains("-Djava.io.tmpdir=/home/ballerina/tmp"));
+    }
+
+    private Container getContainer(String caseDir) throws IOException, InterruptedException {
+        Deployment deployment = getDeployment(caseDir);
+        Assert.assertEquals(deployment.getSpec().getTemplate().getSpec().getContainers().size(), 1);
+        return deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+    }
+
+    private Deployment getDeployment(String caseDir) throws IOException, InterruptedException {
+        return (Deployment) getItem(getK8sItems(caseDir), "Deployment");
+    }
+
+    /**
+     * Builds the shared hello_api package with the Cloud.toml of the given case directory.
+     *
+     * @param caseDir directory under the deployment resources which only holds the Cloud.toml of the case
+     * @return generated kubernetes items
+     */
+    private List<HasMetadata> getK8sItems(String caseDir) throws IOException, InterruptedException {
+        Path projectPath = PROJECTS_DIR_PATH.resolve(caseDir);
+        FileUtils.deleteDirectory(projectPath.toFile());
+        FileUtils.copyDirectory(SOURCE_DIR_PATH.resolve("hello-api").toFile(), projectPath.toFile());
+        Files.copy(SOURCE_DIR_PATH.resolve(caseDir).resolve("Cloud.toml"), projectPath.resolve("Cloud.toml"));
+        return getK8sItems(projectPath, PACKAGE_NAME);
+    }
+
+    private List<HasMetadata> getK8sItems(Path projectPath, String packageName) throws IOException,
+            InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File k8sYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve(packageName)
+                .resolve(packageName + ".yaml").toFile();
+        Assert.assertTrue(k8sYaml.exists());
+        return KubernetesTestUtils.loadYaml(k8sYaml);
+    }
+
+    private HasMetadata getItem(List<HasMetadata> k8sItems, String kind) {
+        for (HasMetadata data : k8sItems) {
+            if (kind.equals(data.getKind())) {
+                return data;
+            }
+        }
+        Assert.fail(kind + " not found");
+        return null;
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(PROJECTS_DIR_PATH);
+        Path targetPath = SOURCE_DIR_PATH.resolve("co-locate").resolve("target");
+        KubernetesUtils.deleteDirectory(targetPath.resolve(KUBERNETES));
+        KubernetesUtils.deleteDirectory(targetPath.resolve(DOCKER));
+        KubernetesUtils.deleteDirectory(targetPath.resolve("graph"));
+    }
+}
@@ -74,7 +74,7 @@ public class EnvTest {
 
         Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
         Assert.assertEquals(container.getImage(), DOCKER_IMAGE);
-        Assert.assertEquals(container.getEnv().size(), 2);
+        Assert.assertEquals(container.getEnv().size(), 3);
         final EnvVar configEnvVar = container.getEnv().get(0);
         Assert.assertEquals(configEnvVar.getName(), "b7a_log_level");
         Assert.assertEquals(configEnvVar.getValueFrom().getConfigMapKeyRef().getName(), "cm-loglevel-linker");
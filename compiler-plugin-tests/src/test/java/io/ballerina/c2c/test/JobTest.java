@@ -25,12 +25,14 @@ import io.ballerina.c2c.test.utils.KubernetesTestUtils;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.batch.v1.CronJob;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -48,6 +50,16 @@ public class JobTest {
     private static final Path KUBERNETES_TARGET_PATH = SOURCE_DIR_PATH.resolve("target").resolve(KUBERNETES)
             .resolve("hello");
     private static final String DOCKER_IMAGE_JOB = "anuruddhal/hello-api:v4";
+    private static final Path SCHEDULED_SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "scheduled-job");
+    private static final Path SCHEDULED_KUBERNETES_TARGET_PATH = SCHEDULED_SOURCE_DIR_PATH.resolve("target")
+            .resolve(KUBERNETES).resolve("scheduled");
+    private static final Path SCHEDULED_DOCKER_TARGET_PATH = SCHEDULED_SOURCE_DIR_PATH.resolve("target")
+            .resolve(DOCKER).resolve("scheduled");
+    private static final Path INDEXED_SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "indexed-job");
+    private static final Path INDEXED_KUBERNETES_TARGET_PATH = INDEXED_SOURCE_DIR_PATH.resolve("target")
+            .resolve(KUBERNETES).resolve("indexed");
+    private static final Path INDEXED_DOCKER_TARGET_PATH = INDEXED_SOURCE_DIR_PATH.resolve("target")
+            .resolve(DOCKER).resolve("indexed");
 
     @Test
     public void testKubernetesJobGeneration() throws IOException, InterruptedException {
@@ -71,10 +83,53 @@ public class JobTest {
         Assert.assertEquals(container.getEnv().get(0).getName(), "b7a_log_level");
     }
 
+    @Test
+    public void testScheduledJobControls() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SCHEDULED_SOURCE_DIR_PATH), 0);
+
+        File jobYAML = SCHEDULED_KUBERNETES_TARGET_PATH.resolve("scheduled.yaml").toFile();
+        CronJob job = KubernetesTestUtils.loadYaml(jobYAML);
+        Assert.assertEquals(job.getSpec().getConcurrencyPolicy(), "Forbid");
+        Assert.assertEquals(job.getSpec().getSuccessfulJobsHistoryLimit().intValue(), 1);
+        // Cloud.toml adds the starting deadline to the settings of the annotation.
+        Assert.assertEquals(job.getSpec().getStartingDeadlineSeconds().longValue(), 30L);
+        Assert.assertEquals(job.getSpec().getAdditionalProperties().get("timeZone"), "Asia/Colombo");
+    }
+
+    @Test
+    public void testIndexedJobGeneration() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(INDEXED_SOURCE_DIR_PATH), 0);
+
+        File jobYAML = INDEXED_KUBERNETES_TARGET_PATH.resolve("indexed.yaml").toFile();
+        Job job = KubernetesTestUtils.loadYaml(jobYAML);
+        // The parallelism is given as a hex literal and Cloud.toml overrides the completions of the annotation.
+        Assert.assertEquals(job.getSpec().getParallelism().intValue(), 4);
+        Assert.assertEquals(job.getSpec().getCompletions().intValue(), 10);
+        Assert.assertEquals(job.getSpec().getCompletionMode(), "Indexed");
+        Assert.assertEquals(job.getSpec().getTtlSecondsAfterFinished().intValue(), 3600);
+
+        Container container = job.getSpec().getTemplate().getSpec().getContainers().get(0);
+        Assert.assertEquals(container.getResources().getLimits().get("memory").toString(), "1Gi");
+        Assert.assertEquals(container.getResources().getLimits().get("cpu").toString(), "500m");
+        Assert.assertEquals(container.getEnv().size(), 2);
+        Assert.assertEquals(container.getEnv().get(0).getName(), "JOB_COMPLETION_INDEX");
+        Assert.assertEquals(container.getEnv().get(0).getValueFrom().getFieldRef().getFieldPath(),
+                "metadata.annotations['batch.kubernetes.io/job-completion-index']");
+        Assert.assertEquals(container.getEnv().get(1).getName(), "JOB_COMPLETIONS");
+        Assert.assertEquals(container.getEnv().get(1).getValue(), "10");
+
+        String dockerFileContent = new String(Files.readAllBytes(INDEXED_DOCKER_TARGET_PATH.resolve("Dockerfile")));
+        Assert.assertTrue(dockerFileContent.contains("-XX:MaxRAMPercentage=75.0"));
+    }
+
     @AfterClass
     public void cleanUp() throws KubernetesPluginException {
         KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
         KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(SCHEDULED_KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(SCHEDULED_DOCKER_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(INDEXED_KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(INDEXED_DOCKER_TARGET_PATH);
         KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE_JOB);
     }
 }
@@ -111,7 +111,7 @@ public class MultipleConfigTest {
         Assert.assertEquals(container.getVolumeMounts().size(), 3);
         Assert.assertEquals(container.getImage(), DOCKER_IMAGE);
         Assert.assertEquals(container.getPorts().size(), 1);
-        Assert.assertEquals(container.getEnv().size(), 1);
+        Assert.assertEquals(container.getEnv().size(), 2);
 
         // Validate config file
         Assert.assertEquals(container.getEnv().get(0).getName(), "BAL_CONFIG_FILES");
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Test the kustomize overlays generated for the profiles of the Cloud.toml.
+ */
+public class ProfileTest {
+
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "settings", "multi-yaml");
+    private static final Path PROJECT_DIR_PATH = Paths.get("build", "c2c-profiles", "multi-yaml");
+    private static final Path KUSTOMIZE_PATH = PROJECT_DIR_PATH.resolve("target").resolve(KUBERNETES)
+            .resolve("hello-kustomize");
+    private static final String PROFILES = "\n[cloud.profiles.prod.cloud.deployment]\n" +
+            "replicas = 3\n" +
+            "\n[[cloud.profiles.staging.cloud.config.maps]]\n" +
+            "file = \"./resource/public.crt\"\n" +
+            "mount_path = \"/home/ballerina/certs\"\n";
+
+    @BeforeClass
+    public void compileSample() throws IOException, InterruptedException {
+        KubernetesTestUtils.copyProject(SOURCE_DIR_PATH, PROJECT_DIR_PATH, PROFILES);
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(PROJECT_DIR_PATH), 0);
+    }
+
+    @Test
+    public void testBase() throws IOException {
+        Path baseDir = KUSTOMIZE_PATH.resolve("base");
+        String kustomization = readFile(baseDir.resolve("kustomization.yaml"));
+        Assert.assertTrue(kustomization.contains("hello_deployment.yaml"));
+        Assert.assertTrue(Files.exists(baseDir.resolve("hello_deployment.yaml")));
+    }
+
+    @Test
+    public void testReplicasOverlay() throws IOException {
+        Path overlayDir = KUSTOMIZE_PATH.resolve("overlays").resolve("prod");
+        String kustomization = readFile(overlayDir.resolve("kustomization.yaml"));
+        Assert.assertTrue(kustomization.contains("../../base"));
+        Assert.assertTrue(kustomization.contains("patch-deployment-hello-deployment.yaml"));
+        String patch = readFile(overlayDir.resolve("patch-deployment-hello-deployment.yaml"));
+        Assert.assertTrue(patch.contains("/spec/replicas"));
+        // Scaling out spreads the replicas, hence the budget is added and the autoscaler follows the replicas.
+        Assert.assertTrue(kustomization.contains("poddisruptionbudget-hello-pdb.yaml"));
+        Assert.assertTrue(kustomization.contains("patch-horizontalpodautoscaler-hello-hpa.yaml"));
+        String hpaPatch = readFile(overlayDir.resolve("patch-horizontalpodautoscaler-hello-hpa.yaml"));
+        Assert.assertTrue(hpaPatch.contains("/spec/minReplicas"));
+        Assert.assertEquals(getFiles(overlayDir).stream().sorted().collect(Collectors.toList()), Arrays.asList(
+                "kustomization.yaml", "patch-deployment-hello-deployment.yaml",
+                "patch-horizontalpodautoscaler-hello-hpa.yaml", "poddisruptionbudget-hello-pdb.yaml"));
+    }
+
+    @Test
+    public void testConfigMapOverlay() throws IOException {
+        Path overlayDir = KUSTOMIZE_PATH.resolve("overlays").resolve("staging");
+        List<String> files = getFiles(overlayDir);
+        Assert.assertTrue(files.stream().anyMatch(file -> file.startsWith("configmap-")));
+        Assert.assertTrue(files.stream().anyMatch(file -> file.startsWith("delete-configmap-")));
+        Assert.assertTrue(files.contains("patch-deployment-hello-deployment.yaml"));
+    }
+
+    private List<String> getFiles(Path dir) {
+        return Arrays.stream(Objects.requireNonNull(dir.toFile().listFiles()))
+                .map(File::getName)
+                .collect(Collectors.toList());
+    }
+
+    private String readFile(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(PROJECT_DIR_PATH);
+    }
+}
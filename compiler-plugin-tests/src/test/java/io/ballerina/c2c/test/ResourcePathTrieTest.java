@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.util.ListenerInfo;
+import io.ballerina.c2c.util.ResourceInfo;
+import io.ballerina.c2c.util.ResourcePathTrie;
+import io.ballerina.c2c.util.ServiceInfo;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test matching probe paths against the resources of the services.
+ */
+public class ResourcePathTrieTest {
+
+    private static final int SERVICES = 50;
+    private static final int RESOURCES_PER_SERVICE = 100;
+
+    @Test
+    public void testLiteralPaths() {
+        ResourcePathTrie trie = new ResourcePathTrie(Arrays.asList(
+                createService(9090, "/helloWorld", "sayHello", "."),
+                createService(9091, "/", "readyz", "health/live")));
+        Assert.assertTrue(trie.hasPort(9090));
+        Assert.assertFalse(trie.hasPort(8080));
+        Assert.assertTrue(trie.hasResource(9090, "/helloWorld/sayHello"));
+        Assert.assertTrue(trie.hasResource(9090, "/helloWorld/"));
+        Assert.assertFalse(trie.hasResource(9090, "/helloWorld/sayBye"));
+        Assert.assertFalse(trie.hasServicePath(9090, "/hello/sayHello"));
+        Assert.assertTrue(trie.hasServicePath(9091, "/anything"));
+        Assert.assertTrue(trie.hasResource(9091, "readyz"));
+        Assert.assertTrue(trie.hasResource(9091, "/health/live"));
+        Assert.assertFalse(trie.hasResource(9090, "/health/live"));
+    }
+
+    @Test
+    public void testPathParams() {
+        ResourcePathTrie trie = new ResourcePathTrie(Arrays.asList(
+                createService(9090, "/api", "users/[string id]", "users/[string id]/status", "files/[string... path]"),
+                createService(9090, "/probe", "[string... rest]")));
+        Assert.assertTrue(trie.hasResource(9090, "/api/users/42"));
+        Assert.assertTrue(trie.hasResource(9090, "/api/users/42/status"));
+        Assert.assertFalse(trie.hasResource(9090, "/api/users"));
+        Assert.assertFalse(trie.hasResource(9090, "/api/users/42/name"));
+        Assert.assertTrue(trie.hasResource(9090, "/api/files"));
+        Assert.assertTrue(trie.hasResource(9090, "/api/files/a/b/c"));
+        Assert.assertTrue(trie.hasResource(9090, "/probe"));
+        Assert.assertTrue(trie.hasResource(9090, "/probe/ready"));
+        Assert.assertTrue(trie.hasServicePath(9090, "/probe/ready"));
+        Assert.assertEquals(trie.getServices(9090).size(), 2);
+    }
+
+    @Test
+    public void testManyServices() {
+        List<ServiceInfo> services = new ArrayList<>();
+        for (int i = 0; i < SERVICES; i++) {
+            String[] resources = new String[RESOURCES_PER_SERVICE];
+            for (int j = 0; j < RESOURCES_PER_SERVICE; j++) {
+                resources[j] = "resource" + j + "/[string id]";
+            }
+            services.add(createService(9090 + i % 5, "/service" + i, resources));
+        }
+        ResourcePathTrie trie = new ResourcePathTrie(services);
+        for (int i = 0; i < SERVICES * RESOURCES_PER_SERVICE; i++) {
+            int service = i % SERVICES;
+            String path = "/service" + service + "/resource" + (i % RESOURCES_PER_SERVICE) + "/" + i;
+            Assert.assertTrue(trie.hasResource(9090 + service % 5, path), path);
+        }
+        // Services are only matched on the port of their listener.
+        Assert.assertFalse(trie.hasResource(9091, "/service0/resource0/id"));
+    }
+
+    private ServiceInfo createService(int port, String servicePath, String... resourcePaths) {
+        ServiceInfo serviceInfo = new ServiceInfo(new ListenerInfo("listener" + port, port), null, servicePath);
+        for (String resourcePath : resourcePaths) {
+            serviceInfo.addResource(new ResourceInfo(null, "get", resourcePath));
+        }
+        return serviceInfo;
+    }
+}
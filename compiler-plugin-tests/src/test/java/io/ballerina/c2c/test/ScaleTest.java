@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.test.utils.SyntheticProjectGenerator;
+import io.ballerina.c2c.utils.BuildProfiler;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Service;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
+
+/**
+ * Runs the full c2c pipeline over generated packages of increasing size and records the time and the peak heap usage
+ * of each phase. The results are written to build/reports/c2c-scale/scale.csv.
+ * <p>
+ * Run with {@code ./gradlew :cloud-compiler-plugin-tests:test -PscaleTest}. A budget for the c2c phases can be set
+ * with the {@value #BUDGET_PROPERTY} system property, in milliseconds per service.
+ */
+public class ScaleTest {
+
+    private static final String BUDGET_PROPERTY = "c2c.scale.millisPerService";
+    private static final Path WORK_DIR = Paths.get("build", "c2c-scale");
+    private static final Path REPORT = Paths.get("build", "reports", "c2c-scale", "scale.csv");
+    private static final String TOTAL_PHASE = "bal build";
+    private static final int SERVICES_PER_MODULE = 8;
+
+    private final PrintStream out = System.out;
+    private final List<String> rows = new ArrayList<>();
+
+    @DataProvider(name = "scale-data-provider")
+    public Object[][] scaleDataProvider() {
+        return new Object[][]{
+                {1}, {8}, {32}, {128}
+        };
+    }
+
+    @Test(dataProvider = "scale-data-provider")
+    public void testScale(int services) throws IOException, InterruptedException {
+        SyntheticProjectGenerator generator = new SyntheticProjectGenerator("scale" + services)
+                .modules(Math.max(1, services / SERVICES_PER_MODULE))
+                .servicesPerModule(Math.min(services, SERVICES_PER_MODULE))
+                .listenersPerModule(2)
+                .resourcesPerService(4)
+                .keystores(2)
+                .configMaps(services)
+                .secrets(services)
+                .volumes(Math.min(services, 16))
+                .envs(services);
+        Path projectPath = generator.generate(WORK_DIR.resolve("scale" + services)).toAbsolutePath();
+        Path profile = projectPath.resolve("target").resolve("c2c-profile.csv");
+        Files.createDirectories(profile.getParent());
+
+        long start = System.nanoTime();
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath,
+                "-D" + BuildProfiler.PROFILE_PROPERTY + "=" + profile), 0);
+        long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        String packageName = "scale" + services;
+        File k8sYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve(packageName)
+                .resolve(packageName + ".yaml").toFile();
+        Assert.assertTrue(k8sYaml.exists());
+        List<HasMetadata> items = KubernetesTestUtils.loadYaml(k8sYaml);
+        Assert.assertTrue(items.stream().anyMatch(item -> item instanceof Service));
+
+        Map<String, long[]> phases = readProfile(profile);
+        long c2cMillis = 0;
+        for (Map.Entry<String, long[]> phase : phases.entrySet()) {
+            c2cMillis += phase.getValue()[0];
+            addRow(services, phase.getKey(), phase.getValue()[0], phase.getValue()[1]);
+        }
+        addRow(services, TOTAL_PHASE, totalMillis, -1);
+        out.println("c2c scale: " + services + " services, bal build " + totalMillis + "ms, c2c phases " +
+                c2cMillis + "ms");
+
+        String budget = System.getProperty(BUDGET_PROPERTY);
+        if (budget != null) {
+            Assert.assertTrue(c2cMillis <= Long.parseLong(budget) * services,
+                    "c2c phases took " + c2cMillis + "ms for " + services + " services");
+        }
+    }
+
+    private Map<String, long[]> readProfile(Path profile) throws IOException {
+        Map<String, long[]> phases = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(profile, StandardCharsets.UTF_8)) {
+            String[] columns = line.split(",");
+            long[] phase = phases.computeIfAbsent(columns[0], key -> new long[2]);
+            phase[0] += Long.parseLong(columns[1]);
+            phase[1] = Math.max(phase[1], Long.parseLong(columns[2]));
+        }
+        return phases;
+    }
+
+    private void addRow(int services, String phase, long millis, long peakHeap) {
+        rows.add(services + "," + phase + "," + millis + "," + (peakHeap < 0 ? "" : peakHeap / (1024 * 1024)));
+    }
+
+    @AfterClass
+    public void writeReport() throws IOException {
+        Files.createDirectories(REPORT.getParent());
+        List<String> lines = new ArrayList<>();
+        lines.add("services,phase,millis,peakHeapMB");
+        lines.addAll(rows);
+        Files.write(REPORT, lines, StandardCharsets.UTF_8);
+        lines.forEach(out::println);
+    }
+}
@@ -15,12 +15,17 @@
  */
 package io.ballerina.c2c.test;
 
+import io.ballerina.c2c.tooling.index.ProjectServiceIndex;
 import io.ballerina.c2c.util.ClientInfo;
+import io.ballerina.c2c.util.ClientTargetInfo;
 import io.ballerina.c2c.util.ListenerInfo;
 import io.ballerina.c2c.util.ProjectServiceInfo;
 import io.ballerina.c2c.util.SecureSocketConfig;
 import io.ballerina.c2c.util.ServiceInfo;
 import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import org.testng.Assert;
@@ -212,6 +217,7 @@ public class ServiceExtractionTest {
         Assert.assertEquals(helloService.getServicePath().trim(), "/graphql");
         ListenerInfo helloListener = helloService.getListener();
         Assert.assertEquals(helloListener.getPort(), 9090);
+        Assert.assertEquals(helloListener.getListenerType(), "graphql");
     }
 
 //    @Test
@@ -362,6 +368,10 @@ public class ServiceExtractionTest {
         ProjectServiceInfo projectServiceInfo = new ProjectServiceInfo(project);
         List<ClientInfo> clientList = projectServiceInfo.getClientList();
         Assert.assertEquals(clientList.size(), 0);
+        List<ClientTargetInfo> clientTargetList = projectServiceInfo.getClientTargetList();
+        Assert.assertEquals(clientTargetList.size(), 1);
+        Assert.assertEquals(clientTargetList.get(0).getName(), "nettyEP");
+        Assert.assertEquals(clientTargetList.get(0).getUrl(), "https://netty:8688");
     }
 
     @Test
@@ -374,4 +384,32 @@ public class ServiceExtractionTest {
         Assert.assertEquals(serviceList.get(0).getServicePath(), "/helloWorld");
         Assert.assertEquals(serviceList.get(0).getListener().getPort(), 9090);
     }
+
+    @Test
+    public void testIncrementalServiceIndex() {
+        Path projectPath = Paths.get("src", "test", "resources", "service", "seperate-listener-seperate-file");
+        BuildProject project = BuildProject.load(projectPath);
+        ProjectServiceIndex index = ProjectServiceIndex.getInstance(project);
+        List<ServiceInfo> serviceList = index.getServices(project);
+        Assert.assertEquals(serviceList.size(), 2);
+        Assert.assertEquals(serviceList.get(0).getListener().getPort(), 9090);
+        Assert.assertEquals(serviceList.get(1).getListener().getPort(), 9090);
+
+        List<ServiceInfo> unchangedList = index.getServices(project);
+        Assert.assertSame(unchangedList.get(0), serviceList.get(0));
+        Assert.assertSame(unchangedList.get(1), serviceList.get(1));
+
+        Module module = project.currentPackage().getDefaultModule();
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if ("service.bal".equals(document.name())) {
+                String content = document.textDocument().toString().replace("new(9090)", "new(8080)");
+                document.modify().withContent(content).apply();
+            }
+        }
+        List<ServiceInfo> changedList = index.getServices(project);
+        Assert.assertEquals(changedList.size(), 2);
+        Assert.assertEquals(changedList.get(0).getListener().getPort(), 8080);
+        Assert.assertEquals(changedList.get(1).getListener().getPort(), 8080);
+    }
 }
@@ -19,6 +19,7 @@ import io.ballerina.c2c.test.utils.KubernetesTestUtils;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServicePort;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.testng.Assert;
@@ -98,6 +99,61 @@ public class ServiceTest {
         }
     }
 
+    @Test
+    public void testHeadlessHttp2Service() throws IOException, InterruptedException {
+        Path projectPath = Paths.get("src", "test", "resources", "service", "http2-headless");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File artifactYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve("headless").resolve(
+                "headless.yaml").toFile();
+        Assert.assertTrue(artifactYaml.exists());
+        Service service = getService(artifactYaml);
+        Assert.assertEquals(service.getSpec().getClusterIP(), "None");
+        ServicePort servicePort = service.getSpec().getPorts().get(0);
+        Assert.assertEquals(servicePort.getProtocol(), "TCP");
+        Assert.assertEquals(servicePort.getAppProtocol(), "kubernetes.io/h2c");
+    }
+
+    @Test
+    public void testSecuredHttp2Service() throws IOException, InterruptedException {
+        Path projectPath = Paths.get("src", "test", "resources", "service", "http2-tls");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File artifactYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve("secured_h2").resolve(
+                "secured_h2.yaml").toFile();
+        Assert.assertTrue(artifactYaml.exists());
+        Service service = getService(artifactYaml);
+        Assert.assertNull(service.getSpec().getClusterIP());
+        ServicePort servicePort = service.getSpec().getPorts().get(0);
+        Assert.assertEquals(servicePort.getPort().intValue(), 9095);
+        Assert.assertEquals(servicePort.getAppProtocol(), "https");
+    }
+
+    @Test
+    public void testUdpService() throws IOException, InterruptedException {
+        Path projectPath = Paths.get("src", "test", "resources", "service", "udp-listener");
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectPath), 0);
+        File artifactYaml = projectPath.resolve("target").resolve(KUBERNETES).resolve("udp_listener").resolve(
+                "udp_listener.yaml").toFile();
+        Assert.assertTrue(artifactYaml.exists());
+        Service service = getService(artifactYaml);
+        Assert.assertNull(service.getSpec().getClusterIP());
+        ServicePort servicePort = service.getSpec().getPorts().get(0);
+        Assert.assertEquals(servicePort.getPort().intValue(), 9000);
+        Assert.assertEquals(servicePort.getProtocol(), "UDP");
+        Assert.assertNull(servicePort.getAppProtocol());
+    }
+
+    private Service getService(File artifactYaml) throws IOException {
+        KubernetesClient client = new DefaultKubernetesClient();
+        List<HasMetadata> k8sItems = client.load(new FileInputStream(artifactYaml)).get();
+        for (HasMetadata data : k8sItems) {
+            if ("Service".equals(data.getKind())) {
+                return (Service) data;
+            }
+        }
+        Assert.fail("Service not found in " + artifactYaml);
+        return null;
+    }
+
     @Test
     public void testInvalidInternalDomainName() throws IOException, InterruptedException {
         Path projectPath = Paths.get("src", "test", "resources", "service", "invalid-internal-domain");
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.utils.TomlHelper;
+import io.ballerina.toml.api.Toml;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test writing the tables read from a Cloud.toml back to toml.
+ */
+public class TomlHelperTest {
+
+    @Test
+    public void testNestedTablesInTableArray() {
+        Map<String, Object> env = new LinkedHashMap<>();
+        env.put("key_ref", "host");
+        env.put("config_name", "hello-config");
+        Map<String, Object> secret = new LinkedHashMap<>();
+        secret.put("name", "hello-secret");
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("file", "./conf/data.txt");
+        first.put("env", env);
+        first.put("secrets", List.of(secret));
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("file", "./conf/Config.toml");
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("maps", Arrays.asList(first, second));
+        Map<String, Object> table = new LinkedHashMap<>();
+        table.put("config", config);
+        Map<String, Object> cloud = new LinkedHashMap<>();
+        cloud.put("cloud", table);
+
+        String toml = TomlHelper.toToml(cloud);
+        Assert.assertTrue(toml.contains("[[cloud.config.maps]]\nfile = \"./conf/data.txt\"\n\n" +
+                "[cloud.config.maps.env]\n"));
+        Assert.assertTrue(toml.contains("[[cloud.config.maps.secrets]]\nname = \"hello-secret\"\n"));
+        Assert.assertEquals(Toml.read(toml).toMap(), cloud);
+    }
+
+    @Test
+    public void testQuotedKeys() {
+        Map<String, Object> annotations = new LinkedHashMap<>();
+        annotations.put("prometheus.io/scrape", "true");
+        annotations.put("description", "say \"hello\"\n\tto\\everyone");
+        annotations.put("app name", "hello");
+        Map<String, Object> labels = new LinkedHashMap<>();
+        labels.put("app.kubernetes.io/name", "hello");
+        Map<String, Object> deployment = new LinkedHashMap<>();
+        deployment.put("replicas", 2L);
+        deployment.put("annotations", annotations);
+        deployment.put("my.labels", labels);
+        Map<String, Object> table = new LinkedHashMap<>();
+        table.put("deployment", deployment);
+        Map<String, Object> cloud = new LinkedHashMap<>();
+        cloud.put("cloud", table);
+
+        String toml = TomlHelper.toToml(cloud);
+        Assert.assertTrue(toml.contains("\"prometheus.io/scrape\" = \"true\"\n"));
+        Assert.assertTrue(toml.contains("\"app name\" = \"hello\"\n"));
+        Assert.assertTrue(toml.contains("[cloud.deployment.\"my.labels\"]\n"));
+        Assert.assertEquals(Toml.read(toml).toMap(), cloud);
+    }
+}
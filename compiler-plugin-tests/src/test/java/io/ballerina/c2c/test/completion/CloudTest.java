@@ -25,6 +25,7 @@ import com.google.gson.reflect.TypeToken;
 import io.ballerina.c2c.test.utils.CompletionTestUtil;
 import io.ballerina.c2c.test.utils.FileUtils;
 import io.ballerina.c2c.test.utils.TestUtil;
+import io.ballerina.c2c.tooling.metrics.ToolingMetrics;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.eclipse.lsp4j.CompletionItem;
@@ -49,6 +50,8 @@ import java.util.List;
  */
 public class CloudTest {
 
+    private static final int REPEATED_REQUESTS = 5;
+
     private Endpoint serviceEndpoint;
 
     private final Path testRoot = FileUtils.RES_DIR.resolve("completion").resolve("cloud");
@@ -103,6 +106,34 @@ public class CloudTest {
         return responseString;
     }
 
+    /**
+     * Requests completions inside a table and a table array of a Cloud.toml repeatedly. The requests after the first
+     * one are served from the cached schema trie, so they should return the same items as the first one. The latency
+     * of the trie lookups is measured by the {@code CloudTomlCompletionBenchmark} of the c2c-benchmarks.
+     */
+    @Test
+    public void testRepeatedCompletion() throws IOException {
+        Path sourcePath = testRoot.resolve("main").resolve("source").resolve("Cloud.toml");
+        TestUtil.openDocument(serviceEndpoint, sourcePath);
+        ToolingMetrics.reset();
+        Position[] positions = { new Position(12, 0), new Position(19, 0) };
+        for (Position position : positions) {
+            String firstResponse = TestUtil.getCompletionResponse(sourcePath.toString(), position, serviceEndpoint);
+            for (int i = 0; i < REPEATED_REQUESTS; i++) {
+                String response = TestUtil.getCompletionResponse(sourcePath.toString(), position, serviceEndpoint);
+                Assert.assertEquals(response, firstResponse);
+            }
+        }
+        TestUtil.closeDocument(serviceEndpoint, sourcePath);
+
+        // The latencies recorded by the extension itself separate it from the core language server.
+        ToolingMetrics.Latency completion = ToolingMetrics.getLatencies().get("completion");
+        Assert.assertNotNull(completion);
+        long requests = (long) positions.length * (1 + REPEATED_REQUESTS);
+        Assert.assertEquals(completion.getCount(), requests);
+        Assert.assertEquals(completion.getHistogram().values().stream().mapToLong(Long::longValue).sum(), requests);
+    }
+
     List<CompletionItem> getExpectedList(JsonObject configJsonObject) {
         JsonArray expectedItems = configJsonObject.get("items").getAsJsonArray();
         return CompletionTestUtil.getExpectedItemList(expectedItems);
@@ -22,6 +22,7 @@ import io.ballerina.c2c.exceptions.DockerGenException;
 import io.ballerina.c2c.models.CopyFileModel;
 import io.ballerina.c2c.models.DockerModel;
 import io.ballerina.c2c.test.utils.DockerTestUtils;
+import io.ballerina.c2c.utils.DockerGenUtils;
 import io.ballerina.c2c.utils.DockerGenerator;
 import io.ballerina.c2c.utils.DockerImageName;
 import org.apache.commons.io.FileUtils;
@@ -37,8 +38,11 @@ import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -121,6 +125,132 @@ public class DockerGeneratorTests {
                 "'wso2/bal/1/$_init'");
     }
 
+    @Test
+    public void jvmRuntimeDockerfileTest() throws DockerGenException, IOException {
+        DockerModel dockerModel = new DockerModel();
+        dockerModel.setName("test-jvm-image");
+        dockerModel.setTag("v1");
+        dockerModel.setJarFileName("hello.jar");
+        dockerModel.setPorts(Collections.singleton(9090));
+        dockerModel.setBuildImage(false);
+        dockerModel.setService(true);
+        dockerModel.setJavaVersion(21);
+        dockerModel.setBaseImage(DockerGenUtils.getJvmRuntimeBaseImage(21));
+        dockerModel.setGcProfile("latency");
+        DockerGenerator handler = new DockerGenerator(dockerModel);
+        Path jarFilePath = SOURCE_DIR_PATH.resolve("docker-test").resolve("hello.jar");
+        PackageID packageID = new PackageID(new Name("wso2"), new Name("bal"), new Name("1.0.0"));
+        dockerModel.setPkgId(packageID);
+        dockerModel.setDependencyJarPaths(getJarFilePaths());
+        Path outputDir = SOURCE_DIR_PATH.resolve("target").resolve("jvm");
+        Files.createDirectories(outputDir);
+        handler.createArtifacts(out, "\t@kubernetes:Docker \t\t\t", jarFilePath, outputDir);
+        File dockerFile = outputDir.resolve("Dockerfile").toFile();
+        Assert.assertTrue(dockerFile.exists());
+
+        String dockerFileContent = new String(Files.readAllBytes(dockerFile.toPath()));
+        Assert.assertTrue(dockerFileContent.contains("FROM ballerina/jvm-runtime-21:1.0"));
+        Assert.assertTrue(dockerFileContent.contains("CMD java -Xdiag -XX:+UseZGC -XX:+ZGenerational -cp " +
+                "\"hello.jar:jars/*\" 'wso2/bal/1/$_init'"));
+        Assert.assertTrue(dockerFileContent.contains("USER ballerina"));
+    }
+
+    @Test
+    public void gcOptionsTest() {
+        Assert.assertEquals(DockerGenUtils.getGcOptions("throughput", 17), " -XX:+UseParallelGC");
+        Assert.assertEquals(DockerGenUtils.getGcOptions("latency", 11), " -XX:+UseG1GC -XX:MaxGCPauseMillis=50");
+        Assert.assertEquals(DockerGenUtils.getGcOptions("LATENCY", 21), "");
+        Assert.assertEquals(DockerGenUtils.getGcOptions("parallel", 21), "");
+        Assert.assertEquals(DockerGenUtils.getGcOptions(null, 21), "");
+    }
+
+    @Test
+    public void runtimeImageDockerfileTest() throws DockerGenException, IOException {
+        DockerModel dockerModel = new DockerModel();
+        dockerModel.setName("test-runtime-image");
+        dockerModel.setTag("v1");
+        dockerModel.setJarFileName("hello.jar");
+        dockerModel.setPorts(Collections.singleton(9090));
+        dockerModel.setBuildImage(false);
+        dockerModel.setService(true);
+        dockerModel.setRuntimeImage("org-runtime");
+        DockerGenerator handler = new DockerGenerator(dockerModel);
+        Path jarFilePath = SOURCE_DIR_PATH.resolve("docker-test").resolve("hello.jar");
+        PackageID packageID = new PackageID(new Name("wso2"), new Name("bal"), new Name("1.0.0"));
+        dockerModel.setPkgId(packageID);
+        dockerModel.setDependencyJarPaths(getJarFilePaths());
+        dockerModel.addRuntimeJarPaths(Collections.singleton(SOURCE_DIR_PATH.resolve("docker-test")
+                .resolve("http.jar")));
+        Path outputDir = SOURCE_DIR_PATH.resolve("target").resolve("runtime-image");
+        Files.createDirectories(outputDir);
+        handler.createArtifacts(out, "\t@kubernetes:Docker \t\t\t", jarFilePath, outputDir);
+
+        String dockerFileContent = new String(Files.readAllBytes(outputDir.resolve("Dockerfile")));
+        Assert.assertTrue(dockerFileContent.contains("FROM " + handler.getRuntimeImage()));
+        Assert.assertEquals(handler.getRuntimeImage(), "org-runtime:" + DockerGenUtils.getRuntimeImageTag(11));
+        Assert.assertFalse(dockerFileContent.contains("adduser"));
+        Assert.assertFalse(dockerFileContent.contains("COPY http.jar"));
+        Assert.assertTrue(dockerFileContent.contains("COPY uuid-native-0.10.0-alpha5-SNAPSHOT.jar"));
+        Assert.assertTrue(dockerFileContent.contains("USER ballerina"));
+        Assert.assertFalse(outputDir.resolve("http.jar").toFile().exists());
+
+        Path runtimeDir = outputDir.resolve("runtime");
+        String runtimeFileContent = new String(Files.readAllBytes(runtimeDir.resolve("Dockerfile")));
+        Assert.assertTrue(runtimeFileContent.contains("FROM ballerina/jvm-runtime:1.0"));
+        Assert.assertTrue(runtimeFileContent.contains("adduser"));
+        Assert.assertTrue(runtimeFileContent.contains("COPY jars/ /home/ballerina/jars/"));
+        Assert.assertTrue(runtimeDir.resolve("jars").resolve("http.jar").toFile().exists());
+        Assert.assertEquals(new String(Files.readAllBytes(outputDir.resolve(".dockerignore"))).trim(), "runtime");
+    }
+
+    @Test
+    public void multiPlatformBuildCommandTest() {
+        DockerModel dockerModel = new DockerModel();
+        dockerModel.setName("test-multiarch-image");
+        dockerModel.setTag("v1");
+        Path dockerDir = SOURCE_DIR_PATH.resolve("target").resolve("multiarch");
+        DockerGenerator handler = new DockerGenerator(dockerModel);
+        Assert.assertEquals(handler.getBuildCommand(dockerDir).subList(0, 2), Arrays.asList("docker", "build"));
+
+        dockerModel.setPlatforms(new LinkedHashSet<>(Collections.singletonList("linux/arm64")));
+        List<String> command = handler.getBuildCommand(dockerDir);
+        Assert.assertEquals(command.subList(0, 3), Arrays.asList("docker", "buildx", "build"));
+        Assert.assertTrue(command.contains("linux/arm64"));
+        Assert.assertTrue(command.contains("--load"));
+
+        dockerModel.setPlatforms(new LinkedHashSet<>(Arrays.asList("linux/amd64", "linux/arm64")));
+        command = handler.getBuildCommand(dockerDir);
+        Assert.assertTrue(command.contains("linux/amd64,linux/arm64"));
+        Assert.assertFalse(command.contains("--load"));
+        Assert.assertTrue(command.contains("type=oci,dest=" + dockerDir.resolve("image.tar")));
+        Assert.assertEquals(command.get(command.size() - 2), "test-multiarch-image:v1");
+    }
+
+    @Test
+    public void runtimeImageBuildCommandTest() {
+        DockerModel dockerModel = new DockerModel();
+        dockerModel.setName("test-runtime-multiarch-image");
+        dockerModel.setTag("v1");
+        dockerModel.setRuntimeImage("org-runtime");
+        Path dockerDir = SOURCE_DIR_PATH.resolve("target").resolve("runtime-multiarch");
+        dockerModel.setPlatforms(new LinkedHashSet<>(Collections.singletonList("linux/arm64")));
+        DockerGenerator handler = new DockerGenerator(dockerModel);
+        List<String> command = handler.getBuildCommand(dockerDir);
+        Assert.assertEquals(command.get(command.indexOf("--builder") + 1), "default");
+        Assert.assertTrue(command.contains("--load"));
+        Assert.assertFalse(handler.isPushed());
+
+        // The runtime image cannot be resolved from a multi-platform build that is only exported.
+        dockerModel.setPlatforms(new LinkedHashSet<>(Arrays.asList("linux/amd64", "linux/arm64")));
+        command = handler.getBuildCommand(dockerDir);
+        Assert.assertFalse(command.contains("--builder"));
+        Assert.assertFalse(handler.isPushed());
+        dockerModel.setRegistry("ballerina");
+        command = handler.getBuildCommand(dockerDir);
+        Assert.assertTrue(command.contains("--push"));
+        Assert.assertTrue(handler.isPushed());
+    }
+
     private Set<Path> getJarFilePaths() throws IOException {
         return Files.list(SOURCE_DIR_PATH.resolve("docker-test")).collect(Collectors.toSet());
     }
@@ -54,8 +54,11 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -343,6 +346,23 @@ public class KubernetesTestUtils {
         return compileBallerinaFile(sourceDirectory, fileName, new HashMap<>(), buildOption);
     }
 
+    /**
+     * Copy a test project to the directory it is built in, without the outputs of previous builds, and append to its
+     * Cloud.toml.
+     *
+     * @param source          Ballerina project to be copied
+     * @param projectPath     directory the project is copied to, which is replaced if it exists
+     * @param cloudTomlSuffix content appended to the Cloud.toml
+     * @throws IOException if an error occurs while copying the project
+     */
+    public static void copyProject(Path source, Path projectPath, String cloudTomlSuffix) throws IOException {
+        FileUtils.deleteDirectory(projectPath.toFile());
+        FileUtils.copyDirectory(source.toFile(), projectPath.toFile());
+        FileUtils.deleteDirectory(projectPath.resolve("target").toFile());
+        Files.write(projectPath.resolve("Cloud.toml"), cloudTomlSuffix.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+    }
+
     /**
      * Compile a ballerina project in a given directory.
      *
@@ -353,6 +373,20 @@ public class KubernetesTestUtils {
      */
     public static int compileBallerinaProject(Path sourceDirectory) throws InterruptedException,
             IOException {
+        return compileBallerinaProject(sourceDirectory, "");
+    }
+
+    /**
+     * Compile a ballerina project in a given directory with additional options for the compiler JVM.
+     *
+     * @param sourceDirectory Ballerina source directory
+     * @param javaOpts        JVM options appended to JAVA_OPTS
+     * @return Exit code
+     * @throws InterruptedException if an error occurs while compiling
+     * @throws IOException          if an error occurs while writing file
+     */
+    public static int compileBallerinaProject(Path sourceDirectory, String javaOpts) throws InterruptedException,
+            IOException {
         Path dependenciesToml = Paths.get(sourceDirectory.toAbsolutePath().toString(), "Dependencies.toml");
         if (dependenciesToml.toFile().exists()) {
             log.warn("Deleting already existing Dependencies.toml file.");
@@ -366,6 +400,9 @@ public class KubernetesTestUtils {
         pb.directory(sourceDirectory.toFile());
         Map<String, String> environment = pb.environment();
         addJavaAgents(environment);
+        if (!javaOpts.isEmpty()) {
+            environment.put(JAVA_OPTS, environment.getOrDefault(JAVA_OPTS, "") + " " + javaOpts);
+        }
 
         Process process = pb.start();
         int exitCode = process.waitFor();
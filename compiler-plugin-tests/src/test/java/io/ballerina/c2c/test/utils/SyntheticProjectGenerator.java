@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.test.utils;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+
+/**
+ * Generates Ballerina packages of a configurable size for scale tests.
+ * <p>
+ * Each module declares its own http listeners on unique ports and spreads its services over them. The first listeners
+ * of the package are secured with a generated keystore. The default module imports every module, so all the services
+ * are part of the executable.
+ */
+public class SyntheticProjectGenerator {
+
+    private static final String ORG = "bench";
+    private static final String KEYSTORE_PASSWORD = "ballerina";
+    private static final int BASE_PORT = 9000;
+
+    private final String name;
+    private int modules = 1;
+    private int servicesPerModule = 1;
+    private int listenersPerModule = 1;
+    private int resourcesPerService = 1;
+    private int keystores = 0;
+    private int configMaps = 0;
+    private int secrets = 0;
+    private int volumes = 0;
+    private int envs = 0;
+
+    public SyntheticProjectGenerator(String name) {
+        this.name = name;
+    }
+
+    public SyntheticProjectGenerator modules(int modules) {
+        this.modules = modules;
+        return this;
+    }
+
+    public SyntheticProjectGenerator servicesPerModule(int servicesPerModule) {
+        this.servicesPerModule = servicesPerModule;
+        return this;
+    }
+
+    public SyntheticProjectGenerator listenersPerModule(int listenersPerModule) {
+        this.listenersPerModule = listenersPerModule;
+        return this;
+    }
+
+    public SyntheticProjectGenerator resourcesPerService(int resourcesPerService) {
+        this.resourcesPerService = resourcesPerService;
+        return this;
+    }
+
+    public SyntheticProjectGenerator keystores(int keystores) {
+        this.keystores = keystores;
+        return this;
+    }
+
+    public SyntheticProjectGenerator configMaps(int configMaps) {
+        this.configMaps = configMaps;
+        return this;
+    }
+
+    public SyntheticProjectGenerator secrets(int secrets) {
+        this.secrets = secrets;
+        return this;
+    }
+
+    public SyntheticProjectGenerator volumes(int volumes) {
+        this.volumes = volumes;
+        return this;
+    }
+
+    public SyntheticProjectGenerator envs(int envs) {
+        this.envs = envs;
+        return this;
+    }
+
+    public int getServiceCount() {
+        return modules * servicesPerModule;
+    }
+
+    /**
+     * Write the package into the given directory, replacing any previous content.
+     *
+     * @param root directory of the package
+     * @return directory of the package
+     * @throws IOException if an error occurs while writing the package
+     */
+    public Path generate(Path root) throws IOException {
+        if (Files.exists(root)) {
+            FileUtils.deleteDirectory(root.toFile());
+        }
+        write(root.resolve("Ballerina.toml"), "[package]\norg = \"" + ORG + "\"\nname = \"" + name +
+                "\"\nversion = \"0.1.0\"\n\n[build-options]\nobservabilityIncluded = false\ncloud = \"k8s\"\n");
+        StringBuilder main = new StringBuilder();
+        for (int module = 0; module < modules; module++) {
+            main.append("import ").append(name).append(".m").append(module).append(" as _;\n");
+            generateModule(root, module);
+        }
+        main.append("\npublic function main() {\n}\n");
+        write(root.resolve("main.bal"), main.toString());
+        write(root.resolve("Cloud.toml"), getCloudToml(root));
+        return root;
+    }
+
+    private void generateModule(Path root, int module) throws IOException {
+        Path moduleDir = root.resolve("modules").resolve("m" + module);
+        StringBuilder listeners = new StringBuilder("import ballerina/http;\n");
+        for (int listener = 0; listener < listenersPerModule; listener++) {
+            int index = module * listenersPerModule + listener;
+            listeners.append("\npublic listener http:Listener ep").append(listener).append(" = new (")
+                    .append(BASE_PORT + index);
+            if (index < keystores) {
+                Path keystore = root.resolve("resources").resolve("keystore" + index + ".p12");
+                writeKeystore(keystore);
+                listeners.append(", {\n    secureSocket: {\n        key: {\n            path: \"./resources/")
+                        .append(keystore.getFileName()).append("\",\n            password: \"")
+                        .append(KEYSTORE_PASSWORD).append("\"\n        }\n    }\n}");
+            }
+            listeners.append(");\n");
+        }
+        write(moduleDir.resolve("listeners.bal"), listeners.toString());
+        for (int service = 0; service < servicesPerModule; service++) {
+            write(moduleDir.resolve("service" + service + ".bal"),
+                    getService("m" + module + "s" + service, "ep" + (service % listenersPerModule)));
+        }
+    }
+
+    private String getService(String path, String listener) {
+        StringBuilder source = new StringBuilder("service /").append(path).append(" on ").append(listener)
+                .append(" {\n");
+        for (int resource = 0; resource < resourcesPerService; resource++) {
+            source.append("    resource function get res").append(resource)
+                    .append("/[string id]() returns string {\n        return id;\n    }\n\n");
+        }
+        return source.append("    resource function get healthz() returns string {\n")
+                .append("        return \"ok\";\n    }\n}\n").toString();
+    }
+
+    private String getCloudToml(Path root) throws IOException {
+        StringBuilder toml = new StringBuilder("[settings]\nbuildImage = false\n\n");
+        toml.append("[container.image]\nrepository = \"").append(ORG).append("\"\nname = \"").append(name)
+                .append("\"\ntag = \"v1\"\n\n");
+        toml.append("[cloud.deployment.probes.readiness]\nport = ").append(BASE_PORT)
+                .append("\npath = \"/m0s0/healthz\"\n\n");
+        for (int i = 0; i < envs; i++) {
+            toml.append("[[cloud.config.envs]]\nkey_ref = \"ENV_").append(i)
+                    .append("\"\nconfig_name = \"bench-config\"\n\n");
+        }
+        for (int i = 0; i < configMaps; i++) {
+            write(root.resolve("conf").resolve("config" + i + ".txt"), "key" + i + " = \"value\"\n");
+            toml.append("[[cloud.config.maps]]\nfile = \"./conf/config").append(i)
+                    .append(".txt\"\nmount_path = \"/home/ballerina/conf").append(i).append("\"\n\n");
+        }
+        for (int i = 0; i < secrets; i++) {
+            write(root.resolve("secrets").resolve("secret" + i + ".txt"), "secret" + i + "\n");
+            toml.append("[[cloud.secret.files]]\nfile = \"./secrets/secret").append(i)
+                    .append(".txt\"\nmount_path = \"/home/ballerina/secret").append(i).append("\"\n\n");
+        }
+        for (int i = 0; i < volumes; i++) {
+            toml.append("[[cloud.deployment.storage.volumes]]\nname = \"vol").append(i)
+                    .append("\"\nlocal_path = \"/home/ballerina/vol").append(i).append("\"\nsize = \"1Gi\"\n\n");
+        }
+        return toml.toString();
+    }
+
+    private static void writeKeystore(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (OutputStream out = Files.newOutputStream(path)) {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, KEYSTORE_PASSWORD.toCharArray());
+            keyStore.store(out, KEYSTORE_PASSWORD.toCharArray());
+        } catch (GeneralSecurityException e) {
+            throw new IOException("unable to generate the keystore " + path, e);
+        }
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
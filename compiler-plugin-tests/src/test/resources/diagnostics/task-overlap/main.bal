@@ -0,0 +1,16 @@
+import ballerina/io;
+import ballerina/cloud;
+
+@cloud:Task {
+    schedule: {
+        minutes: "*/5",
+        hours: "*",
+        dayOfMonth: "*",
+        monthOfYear: "*",
+        daysOfWeek: "*",
+        activeDeadlineSeconds: 900
+    }
+}
+public function main() {
+    io:println("syncing records");
+}
@@ -0,0 +1,10 @@
+import ballerina/io;
+import ballerina/cloud;
+
+@cloud:Task {
+    parallelism: 0x4,
+    completions: 5
+}
+public function main(string... args) {
+    io:println("processing shard");
+}
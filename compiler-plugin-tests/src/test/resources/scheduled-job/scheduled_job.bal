@@ -0,0 +1,18 @@
+import ballerina/io;
+import ballerina/cloud;
+
+@cloud:Task {
+  schedule: {
+        minutes: "*",
+        hours: "*",
+        dayOfMonth: "*",
+        monthOfYear: "*",
+        daysOfWeek: "*",
+        concurrencyPolicy: "Forbid",
+        successfulJobsHistoryLimit: 1,
+        timeZone: "Asia/Colombo"
+  }
+}
+public function main(string... args) {
+    io:println("hello world");
+}
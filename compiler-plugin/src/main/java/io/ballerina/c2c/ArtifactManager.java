@@ -19,12 +19,18 @@
 package io.ballerina.c2c;
 
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.handlers.ArtifactHandler;
+import io.ballerina.c2c.handlers.ChangeSetHandler;
 import io.ballerina.c2c.handlers.ChoreoHandler;
 import io.ballerina.c2c.handlers.ConfigMapHandler;
+import io.ballerina.c2c.handlers.DependencyGraphHandler;
 import io.ballerina.c2c.handlers.DeploymentHandler;
 import io.ballerina.c2c.handlers.DockerHandler;
 import io.ballerina.c2c.handlers.HPAHandler;
 import io.ballerina.c2c.handlers.JobHandler;
+import io.ballerina.c2c.handlers.PersistentVolumeClaimHandler;
+import io.ballerina.c2c.handlers.PodDisruptionBudgetHandler;
+import io.ballerina.c2c.handlers.ProfileHandler;
 import io.ballerina.c2c.handlers.SecretHandler;
 import io.ballerina.c2c.handlers.ServiceHandler;
 import io.ballerina.c2c.models.DeploymentModel;
@@ -32,11 +38,13 @@ import io.ballerina.c2c.models.DockerModel;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.c2c.utils.BuildProfiler;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
 
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +57,7 @@ public class ArtifactManager {
 
     private static final Map<String, String> instructions = new LinkedHashMap<>();
     private static final PrintStream OUT = System.out;
+    private static final String CLOUD_TOML_PHASE = "CloudTomlResolver";
     private final KubernetesDataHolder kubernetesDataHolder;
 
     public ArtifactManager() {
@@ -80,26 +89,82 @@ public class ArtifactManager {
         // add default kubernetes instructions.
         setDefaultKubernetesInstructions();
         OUT.println("\nGenerating artifacts\n");
+        ProfileHandler profileHandler = new ProfileHandler(isNative);
+        createKubernetesResources(isNative, false);
+        createArtifacts(new ChangeSetHandler());
+        if (kubernetesDataHolder.isChangeSet()) {
+            Path changeSetDir = new ChangeSetHandler().getChangeSetDir().toAbsolutePath();
+            instructions.put("Execute the below command to apply the resources changed since the previous build: ",
+                    "\tkubectl apply -f " + changeSetDir.resolve(KubernetesConstants.CHANGE_SET_APPLY_FILE));
+            instructions.put("Execute the below command to delete the resources removed since the previous build: ",
+                    "\tkubectl delete --ignore-not-found -f " +
+                            changeSetDir.resolve(KubernetesConstants.CHANGE_SET_PRUNE_FILE));
+        }
+        createArtifacts(profileHandler);
+        for (String profile : profileHandler.getProfiles()) {
+            instructions.put("Execute the below command to deploy the `" + profile + "` profile: ",
+                    "\tkubectl apply -k " + profileHandler.getOverlayDir(profile).toAbsolutePath());
+        }
+        createArtifacts(new DockerHandler(isNative));
+        printInstructions();
+    }
+
+    /**
+     * Generate the kubernetes resources from the Cloud.toml of the data holder, which is the data holder of a
+     * profile when generating the overlay of the profile.
+     *
+     * @param isNative  whether the executable is a native image
+     * @param isProfile whether the resources are generated for a profile
+     * @throws KubernetesPluginException if an error occurs while generating artifacts
+     */
+    public void createKubernetesResources(boolean isNative, boolean isProfile) throws KubernetesPluginException {
         if (kubernetesDataHolder.getJobModel() != null) {
-            new CloudTomlResolver().resolveToml(kubernetesDataHolder.getJobModel());
-            new JobHandler().createArtifacts();
-        } else {
+            try (BuildProfiler.Phase ignored = startPhase(CLOUD_TOML_PHASE, isProfile)) {
+                new CloudTomlResolver().resolveToml(kubernetesDataHolder.getJobModel());
+            }
+            createArtifacts(new JobHandler(), isProfile);
+            return;
+        }
+        try (BuildProfiler.Phase ignored = startPhase(CLOUD_TOML_PHASE, isProfile)) {
             new CloudTomlResolver().resolveToml(kubernetesDataHolder.getDeploymentModel());
-            new ServiceHandler().createArtifacts();
-            new ConfigMapHandler().createArtifacts();
-            new DeploymentHandler().createArtifacts();
-            new HPAHandler().createArtifacts();
-            new SecretHandler().createArtifacts();
         }
-        new DockerHandler(isNative).createArtifacts();
-        printInstructions();
+        if (isNative) {
+            // Native executables are compiled ahead of time. Hence there is no JIT to warm up.
+            kubernetesDataHolder.getDeploymentModel().getWarmUpModel().setEnabled(false);
+        }
+        if (!isProfile) {
+            // The dependency graph is shared with other packages, hence profiles do not update it.
+            createArtifacts(new DependencyGraphHandler());
+        }
+        createArtifacts(new ServiceHandler(), isProfile);
+        createArtifacts(new ConfigMapHandler(), isProfile);
+        createArtifacts(new PersistentVolumeClaimHandler(), isProfile);
+        createArtifacts(new DeploymentHandler(), isProfile);
+        createArtifacts(new HPAHandler(), isProfile);
+        createArtifacts(new PodDisruptionBudgetHandler(), isProfile);
+        createArtifacts(new SecretHandler(), isProfile);
+    }
+
+    private void createArtifacts(ArtifactHandler handler) throws KubernetesPluginException {
+        createArtifacts(handler, false);
+    }
+
+    private void createArtifacts(ArtifactHandler handler, boolean isProfile) throws KubernetesPluginException {
+        try (BuildProfiler.Phase ignored = startPhase(handler.getClass().getSimpleName(), isProfile)) {
+            handler.createArtifacts();
+        }
+    }
+
+    private BuildProfiler.Phase startPhase(String name, boolean isProfile) {
+        // Profiles are generated in parallel, while the phases of the build profiler must not overlap.
+        return isProfile ? BuildProfiler.disabled() : BuildProfiler.start(name);
     }
 
     public void createDockerArtifacts(boolean isNative) throws KubernetesPluginException {
         OUT.println("\nGenerating artifacts\n");
         DockerModel dockerModel = getDockerModel(false);
         kubernetesDataHolder.setDockerModel(dockerModel);
-        new DockerHandler(isNative).createArtifacts();
+        createArtifacts(new DockerHandler(isNative));
 
         instructions.put("Execute the below command to run the generated Docker image: ",
                 "\tdocker run -d " + generatePortInstruction(dockerModel.getPorts()) + dockerModel.getName());
@@ -173,9 +238,11 @@ public class ArtifactManager {
         instructions.put("Execute the below command to deploy the Kubernetes artifacts: ",
                 "\tkubectl apply -f " + this.kubernetesDataHolder.getK8sArtifactOutputPath().toAbsolutePath());
         if (!kubernetesDataHolder.getServiceModelList().isEmpty()) {
+            DeploymentModel deploymentModel = kubernetesDataHolder.getDeploymentModel();
+            String kind = deploymentModel.isStateful() ? "statefulset" : "deployment";
             instructions.put("Execute the below command to access service via NodePort: ",
-                    "\tkubectl expose deployment " + this.kubernetesDataHolder.getDeploymentModel().getName() +
-                            " --type=NodePort --name=" + kubernetesDataHolder.getDeploymentModel().getName()
+                    "\tkubectl expose " + kind + " " + deploymentModel.getName() +
+                            " --type=NodePort --name=" + deploymentModel.getName()
                             .replace(KubernetesConstants.DEPLOYMENT_POSTFIX, "-svc-local"));
         }
     }
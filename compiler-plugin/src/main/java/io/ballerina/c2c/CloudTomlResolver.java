@@ -22,12 +22,17 @@ import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.ConfigMapModel;
 import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.DockerModel;
 import io.ballerina.c2c.models.JobModel;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.KubernetesModel;
 import io.ballerina.c2c.models.PersistentVolumeClaimModel;
+import io.ballerina.c2c.models.ScratchVolumeModel;
 import io.ballerina.c2c.models.SecretModel;
+import io.ballerina.c2c.models.SpreadModel;
+import io.ballerina.c2c.models.WarmUpModel;
+import io.ballerina.c2c.models.WarmUpResourceModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.c2c.utils.TomlHelper;
@@ -40,11 +45,16 @@ import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.ProbeBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.apps.DeploymentStrategyBuilder;
 import org.apache.commons.codec.binary.Base64;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -70,11 +80,15 @@ import static io.ballerina.c2c.utils.KubernetesUtils.isBlank;
 public class CloudTomlResolver {
 
     public static final String CLOUD_DEPLOYMENT = "cloud.deployment.";
+    public static final String CLOUD_JOB = "cloud.job.";
     KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
 
     public void resolveToml(JobModel jobModel) {
         Toml ballerinaCloud = dataHolder.getBallerinaCloud();
         if (ballerinaCloud != null) {
+            // Resolve job configs
+            resolveJobToml(jobModel, ballerinaCloud);
+
             // Resolve Env
             resolveEnvToml(jobModel, ballerinaCloud);
 
@@ -93,7 +107,7 @@ public class CloudTomlResolver {
             resolveSettingsToml(ballerinaCloud);
 
             // Resources
-            resolveResourcesToml(deploymentModel, ballerinaCloud);
+            resolveResourcesToml(deploymentModel.getResourceRequirements(), ballerinaCloud, CLOUD_DEPLOYMENT);
 
             // Env vars
             resolveEnvToml(deploymentModel, ballerinaCloud);
@@ -109,6 +123,18 @@ public class CloudTomlResolver {
 
             // Resolve Volumes
             resolveVolumes(deploymentModel, ballerinaCloud);
+
+            // Resolve JIT warm-up
+            resolveWarmUpToml(deploymentModel, ballerinaCloud);
+
+            // Resolve rollout strategy
+            resolveStrategyToml(deploymentModel, ballerinaCloud);
+
+            // Resolve replica spreading
+            resolveSpreadToml(deploymentModel, ballerinaCloud);
+
+            // Resolve deployment profile
+            resolveProfileToml(deploymentModel, ballerinaCloud);
         }
 
     }
@@ -121,13 +147,250 @@ public class CloudTomlResolver {
             pv.setName(TomlHelper.getString(volume, "name"));
             pv.setMountPath(TomlHelper.getString(volume, "local_path"));
             pv.setVolumeClaimSizeAmount(TomlHelper.getString(volume, "size"));
+            pv.setStorageClass(TomlHelper.getString(volume, "storage_class"));
+            pv.setVolumeMode(TomlHelper.getString(volume, "volume_mode"));
+            List<String> accessModes = TomlHelper.getStringArray(volume, "access_modes");
+            if (!accessModes.isEmpty()) {
+                pv.setAccessModes(accessModes);
+            }
             persistentVolumeClaimModels.add(pv);
         });
         deploymentModel.setVolumeClaimModels(persistentVolumeClaimModels);
+        deploymentModel.setStateful(TomlHelper.getBoolean(ballerinaCloud, "cloud.deployment.storage.stateful",
+                false));
+        List<Toml> scratchVolumes = ballerinaCloud.getTables("cloud.deployment.storage.scratch");
+        for (int i = 0; i < scratchVolumes.size(); i++) {
+            Toml scratch = scratchVolumes.get(i);
+            ScratchVolumeModel scratchVolume = new ScratchVolumeModel();
+            scratchVolume.setName(TomlHelper.getString(scratch, "name", "scratch-" + i));
+            scratchVolume.setMountPath(TomlHelper.getString(scratch, "mount_path"));
+            scratchVolume.setMedium(TomlHelper.getString(scratch, "medium"));
+            scratchVolume.setSizeLimit(TomlHelper.getString(scratch, "size_limit"));
+            scratchVolume.setTmpDir(TomlHelper.getBoolean(scratch, "tmpdir", false));
+            deploymentModel.getScratchVolumes().add(scratchVolume);
+        }
+    }
+
+    private void resolveWarmUpToml(DeploymentModel deploymentModel, Toml ballerinaCloud) {
+        WarmUpModel warmUpModel = deploymentModel.getWarmUpModel();
+        warmUpModel.setEnabled(TomlHelper.getBoolean(ballerinaCloud, CLOUD_DEPLOYMENT + "warmup.enable", false));
+        warmUpModel.setRequests(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, CLOUD_DEPLOYMENT +
+                "warmup.requests", warmUpModel.getRequests())));
+        warmUpModel.setTimeout(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, CLOUD_DEPLOYMENT +
+                "warmup.timeout", warmUpModel.getTimeout())));
+        warmUpModel.setDeadline(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, CLOUD_DEPLOYMENT +
+                "warmup.deadline", warmUpModel.getDeadline())));
+        List<Toml> resources = ballerinaCloud.getTables(CLOUD_DEPLOYMENT + "warmup.resources");
+        if (resources.isEmpty()) {
+            // Keep the GET resources discovered from the services.
+            return;
+        }
+        List<WarmUpResourceModel> warmUpResources = new ArrayList<>();
+        for (Toml resource : resources) {
+            WarmUpResourceModel warmUpResource = new WarmUpResourceModel();
+            warmUpResource.setPath(TomlHelper.getString(resource, "path"));
+            warmUpResource.setPort(Math.toIntExact(TomlHelper.getLong(resource, "port", 0)));
+            warmUpResource.setRequests(Math.toIntExact(TomlHelper.getLong(resource, "requests", 0)));
+            warmUpResources.add(warmUpResource);
+        }
+        warmUpModel.setResources(warmUpResources);
+    }
+
+    private void resolveStrategyToml(DeploymentModel deploymentModel, Toml ballerinaCloud)
+            throws KubernetesPluginException {
+        final String strategy = CLOUD_DEPLOYMENT + "strategy.";
+        String maxSurge = null;
+        String maxUnavailable = null;
+        // Percentages of the desired replicas follow the replica count set by the autoscaler at the time of the update.
+        String preset = TomlHelper.getString(ballerinaCloud, strategy + "preset");
+        if (KubernetesConstants.STRATEGY_PRESET_FAST.equals(preset)) {
+            // Replace half of the replicas at a time and tolerate a quarter of them being unavailable.
+            maxSurge = "50%";
+            maxUnavailable = "25%";
+        } else if (KubernetesConstants.STRATEGY_PRESET_ZERO_CAPACITY_LOSS.equals(preset)) {
+            // Keep every replica serving until its replacement is ready.
+            maxSurge = "25%";
+            maxUnavailable = "0";
+        }
+        maxSurge = getIntOrStringValue(ballerinaCloud, strategy + "max_surge", maxSurge);
+        maxUnavailable = getIntOrStringValue(ballerinaCloud, strategy + "max_unavailable", maxUnavailable);
+        if (isZero(maxSurge) && isZero(maxUnavailable)) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_ROLLING_UPDATE,
+                    new NullLocation());
+            throw new KubernetesPluginException(diagnostic);
+        }
+        if (maxSurge != null || maxUnavailable != null) {
+            deploymentModel.setStrategy(new DeploymentStrategyBuilder()
+                    .withType(KubernetesConstants.ROLLING_UPDATE_STRATEGY)
+                    .withNewRollingUpdate()
+                    .withMaxSurge(getIntOrString(maxSurge))
+                    .withMaxUnavailable(getIntOrString(maxUnavailable))
+                    .endRollingUpdate()
+                    .build());
+        }
+        Long minReadySeconds = TomlHelper.getLong(ballerinaCloud, strategy + "min_ready_seconds");
+        if (minReadySeconds != null) {
+            deploymentModel.setMinReadySeconds(Math.toIntExact(minReadySeconds));
+        }
+        Long progressDeadlineSeconds = TomlHelper.getLong(ballerinaCloud, strategy + "progress_deadline_seconds");
+        if (progressDeadlineSeconds != null) {
+            deploymentModel.setProgressDeadlineSeconds(Math.toIntExact(progressDeadlineSeconds));
+        }
+        long progressDeadline = progressDeadlineSeconds == null ?
+                KubernetesConstants.DEFAULT_PROGRESS_DEADLINE_SECONDS : progressDeadlineSeconds;
+        if (minReadySeconds != null && progressDeadline <= minReadySeconds) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_PROGRESS_DEADLINE,
+                    new NullLocation(), progressDeadline, minReadySeconds);
+            throw new KubernetesPluginException(diagnostic);
+        }
+        Long revisionHistoryLimit = TomlHelper.getLong(ballerinaCloud, strategy + "revision_history_limit");
+        if (revisionHistoryLimit != null) {
+            deploymentModel.setRevisionHistoryLimit(Math.toIntExact(revisionHistoryLimit));
+        }
+    }
+
+    /**
+     * Resolve the job configurations. Values in Cloud.toml take precedence over the ones in the task annotation.
+     *
+     * @param jobModel       job model
+     * @param ballerinaCloud Cloud.toml
+     */
+    private void resolveJobToml(JobModel jobModel, Toml ballerinaCloud) {
+        Long parallelism = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB + "parallelism");
+        if (parallelism != null) {
+            jobModel.setParallelism(Math.toIntExact(parallelism));
+        }
+        Long completions = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB + "completions");
+        if (completions != null) {
+            jobModel.setCompletions(Math.toIntExact(completions));
+        }
+        Long backoffLimit = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB + "backoff_limit");
+        if (backoffLimit != null) {
+            jobModel.setBackoffLimit(Math.toIntExact(backoffLimit));
+        }
+        Long ttlSecondsAfterFinished = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB + "ttl_seconds_after_finished");
+        if (ttlSecondsAfterFinished != null) {
+            jobModel.setTtlSecondsAfterFinished(Math.toIntExact(ttlSecondsAfterFinished));
+        }
+        Long activeDeadlineSeconds = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB + "active_deadline_seconds");
+        if (activeDeadlineSeconds != null) {
+            jobModel.setActiveDeadlineSeconds(activeDeadlineSeconds);
+        }
+        Long startingDeadlineSeconds = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB + "starting_deadline_seconds");
+        if (startingDeadlineSeconds != null) {
+            jobModel.setStartingDeadlineSeconds(startingDeadlineSeconds);
+        }
+        Long successfulJobsHistoryLimit = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB +
+                "successful_jobs_history_limit");
+        if (successfulJobsHistoryLimit != null) {
+            jobModel.setSuccessfulJobsHistoryLimit(Math.toIntExact(successfulJobsHistoryLimit));
+        }
+        Long failedJobsHistoryLimit = TomlHelper.getLong(ballerinaCloud, CLOUD_JOB + "failed_jobs_history_limit");
+        if (failedJobsHistoryLimit != null) {
+            jobModel.setFailedJobsHistoryLimit(Math.toIntExact(failedJobsHistoryLimit));
+        }
+        String concurrencyPolicy = TomlHelper.getString(ballerinaCloud, CLOUD_JOB + "concurrency_policy");
+        if (concurrencyPolicy != null) {
+            jobModel.setConcurrencyPolicy(concurrencyPolicy);
+        }
+        String timeZone = TomlHelper.getString(ballerinaCloud, CLOUD_JOB + "time_zone");
+        if (timeZone != null) {
+            jobModel.setTimeZone(timeZone);
+        }
+        resolveResourcesToml(jobModel.getResourceRequirements(), ballerinaCloud, CLOUD_JOB);
+    }
+
+    private String getIntOrStringValue(Toml ballerinaCloud, String key, String defaultValue) {
+        Long number = TomlHelper.getLong(ballerinaCloud, key);
+        if (number != null) {
+            return String.valueOf(number);
+        }
+        return TomlHelper.getString(ballerinaCloud, key, defaultValue);
+    }
+
+    private boolean isZero(String value) {
+        return value != null && value.replace("%", "").matches("0+");
+    }
+
+    private IntOrString getIntOrString(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.endsWith("%")) {
+            return new IntOrString(value);
+        }
+        return new IntOrString(Integer.parseInt(value));
+    }
+
+    private void resolveSpreadToml(DeploymentModel deploymentModel, Toml ballerinaCloud) {
+        SpreadModel spreadModel = deploymentModel.getSpreadModel();
+        // Spread by default whenever more than one replica runs at a time.
+        boolean scaledOut = deploymentModel.getReplicas() > 1 || TomlHelper.getLong(ballerinaCloud,
+                CLOUD_DEPLOYMENT + "autoscaling.min_replicas", 1) > 1;
+        spreadModel.setEnabled(TomlHelper.getBoolean(ballerinaCloud, CLOUD_DEPLOYMENT + "spread.enable", scaledOut));
+        spreadModel.setMaxSkew(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, CLOUD_DEPLOYMENT +
+                "spread.max_skew", spreadModel.getMaxSkew())));
+        spreadModel.setWhenUnsatisfiable(TomlHelper.getString(ballerinaCloud, CLOUD_DEPLOYMENT +
+                "spread.when_unsatisfiable", spreadModel.getWhenUnsatisfiable()));
+        spreadModel.setAntiAffinity(TomlHelper.getBoolean(ballerinaCloud, CLOUD_DEPLOYMENT + "spread.anti_affinity",
+                spreadModel.isAntiAffinity()));
+        spreadModel.setMaxUnavailable(Math.toIntExact(TomlHelper.getLong(ballerinaCloud, CLOUD_DEPLOYMENT +
+                "spread.max_unavailable", spreadModel.getMaxUnavailable())));
+    }
+
+    private void resolveProfileToml(DeploymentModel deploymentModel, Toml ballerinaCloud) {
+        String profile = TomlHelper.getString(ballerinaCloud, CLOUD_DEPLOYMENT + "profile");
+        deploymentModel.setProfile(profile);
+        String priorityClassName = TomlHelper.getString(ballerinaCloud, CLOUD_DEPLOYMENT + "priority_class_name");
+        deploymentModel.setPriorityClassName(priorityClassName);
+        if (!KubernetesConstants.LATENCY_PROFILE.equals(profile)) {
+            return;
+        }
+        if (priorityClassName == null) {
+            // Pods referring to a priority class missing in the cluster are rejected, so the class is not assumed.
+            KubernetesUtils.printWarning("set `cloud.deployment.priority_class_name` to a PriorityClass of the " +
+                    "cluster to protect the pods of the latency profile from preemption");
+        }
+
+        // Guaranteed QoS requires the requests to be equal to the limits. Whole CPUs let the static CPU manager of
+        // the kubelet pin exclusive cores to the container.
+        Map<String, Quantity> requests = deploymentModel.getResourceRequirements().getRequests();
+        Map<String, Quantity> limits = deploymentModel.getResourceRequirements().getLimits();
+        BigDecimal cpuLimit = KubernetesUtils.getCpuCores(limits.get(KubernetesConstants.CPU));
+        BigDecimal cpus = cpuLimit.setScale(0, RoundingMode.CEILING).max(BigDecimal.ONE);
+        if (cpus.compareTo(cpuLimit) != 0) {
+            KubernetesUtils.printWarning("`max_cpu` of the latency profile is rounded up to " + cpus.toPlainString() +
+                    " CPU(s) to allocate exclusive cores");
+        }
+        warnIfOverridden(ballerinaCloud, "min_cpu", cpus.toPlainString());
+        warnIfOverridden(ballerinaCloud, KubernetesConstants.MIN_MEMORY,
+                limits.get(KubernetesConstants.MEMORY).toString());
+        limits.put(KubernetesConstants.CPU, new Quantity(cpus.toPlainString()));
+        requests.put(KubernetesConstants.CPU, new Quantity(cpus.toPlainString()));
+        requests.put(KubernetesConstants.MEMORY, limits.get(KubernetesConstants.MEMORY));
+
+        DockerModel dockerModel = dataHolder.getDockerModel();
+        dockerModel.setFixedHeap(true);
+        String gcProfile = TomlHelper.getString(ballerinaCloud, "container.jvm.gc_profile");
+        if (gcProfile == null) {
+            dockerModel.setGcProfile(DockerGenConstants.GcProfile.LATENCY.getValue());
+        } else if (!DockerGenConstants.GcProfile.LATENCY.getValue().equals(gcProfile)) {
+            KubernetesUtils.printWarning("`container.jvm.gc_profile` `" + gcProfile + "` contradicts the latency " +
+                    "profile of the deployment. use the `latency` gc profile for low pause times");
+        }
+    }
+
+    private void warnIfOverridden(Toml ballerinaCloud, String key, String value) {
+        String configured = TomlHelper.getString(ballerinaCloud, CLOUD_DEPLOYMENT + key);
+        if (configured != null && !new Quantity(configured).equals(new Quantity(value))) {
+            KubernetesUtils.printWarning("`" + key + "` `" + configured + "` is overridden by the latency profile " +
+                    "to `" + value + "` to guarantee the resources of the container");
+        }
     }
 
     private void resolveSettingsToml(Toml ballerinaCloud) {
         dataHolder.setSingleYaml(TomlHelper.getBoolean(ballerinaCloud, "settings.singleYAML", true));
+        dataHolder.setChangeSet(TomlHelper.getBoolean(ballerinaCloud, "settings.changeSet", false));
         dataHolder.getDockerModel().setBuildImage(TomlHelper.getBoolean(ballerinaCloud,
                 "settings.buildImage", true));
     }
@@ -141,6 +404,12 @@ public class CloudTomlResolver {
         probeToml.ifPresent(toml -> deploymentModel.setLivenessProbe(resolveProbeToml(toml)));
         deploymentModel.setInternalDomainName(TomlHelper.getString(ballerinaCloud, CLOUD_DEPLOYMENT +
                 "internal_domain_name"));
+        deploymentModel.setHeadlessService(TomlHelper.getBoolean(ballerinaCloud, CLOUD_DEPLOYMENT +
+                "headless_service", false));
+        deploymentModel.setCoLocation(TomlHelper.getString(ballerinaCloud, CLOUD_DEPLOYMENT +
+                "dependencies.co_locate"));
+        deploymentModel.setDependencyGraphDir(TomlHelper.getString(ballerinaCloud, CLOUD_DEPLOYMENT +
+                "dependencies.graph_dir"));
     }
 
     private void resolveEnvToml(KubernetesModel model, Toml ballerinaCloud) {
@@ -179,27 +448,28 @@ public class CloudTomlResolver {
         }
     }
 
-    private void resolveResourcesToml(DeploymentModel deploymentModel, Toml deploymentToml) {
-        Map<String, Quantity> requests = deploymentModel.getResourceRequirements().getRequests();
-        String minMemory = TomlHelper.getString(deploymentToml, CLOUD_DEPLOYMENT + KubernetesConstants.MIN_MEMORY);
-        String minCPU = TomlHelper.getString(deploymentToml, CLOUD_DEPLOYMENT + "min_cpu");
+    private void resolveResourcesToml(ResourceRequirements resourceRequirements, Toml ballerinaCloud,
+                                      String prefix) {
+        Map<String, Quantity> requests = resourceRequirements.getRequests();
+        String minMemory = TomlHelper.getString(ballerinaCloud, prefix + KubernetesConstants.MIN_MEMORY);
+        String minCPU = TomlHelper.getString(ballerinaCloud, prefix + "min_cpu");
         if (minMemory != null) {
             requests.put(KubernetesConstants.MEMORY, new Quantity(minMemory));
         }
         if (minCPU != null) {
             requests.put(KubernetesConstants.CPU, new Quantity(minCPU));
         }
-        Map<String, Quantity> limits = deploymentModel.getResourceRequirements().getLimits();
-        String maxMemory = TomlHelper.getString(deploymentToml, CLOUD_DEPLOYMENT + "max_memory");
-        String maxCPU = TomlHelper.getString(deploymentToml, CLOUD_DEPLOYMENT + "max_cpu");
+        Map<String, Quantity> limits = resourceRequirements.getLimits();
+        String maxMemory = TomlHelper.getString(ballerinaCloud, prefix + "max_memory");
+        String maxCPU = TomlHelper.getString(ballerinaCloud, prefix + "max_cpu");
         if (maxMemory != null) {
             limits.put(KubernetesConstants.MEMORY, new Quantity(maxMemory));
         }
         if (maxCPU != null) {
             limits.put(KubernetesConstants.CPU, new Quantity(maxCPU));
         }
-        deploymentModel.getResourceRequirements().setLimits(limits);
-        deploymentModel.getResourceRequirements().setRequests(requests);
+        resourceRequirements.setLimits(limits);
+        resourceRequirements.setRequests(requests);
     }
 
     private void resolveConfigMapToml(Toml toml) throws KubernetesPluginException {
@@ -18,6 +18,8 @@
 
 package io.ballerina.c2c;
 
+import java.util.Optional;
+
 /**
  * Constants used in docker annotation processor.
  */
@@ -28,8 +30,52 @@ public class DockerGenConstants {
     public static final String REGISTRY_SEPARATOR = "/";
     public static final String TAG_SEPARATOR = ":";
     public static final String OPENJDK_11_JRE_SLIM_BASE = "ballerina/jvm-runtime:1.0";
+    public static final String OPENJDK_17_JRE_SLIM_BASE = "ballerina/jvm-runtime-17:1.0";
+    public static final String OPENJDK_21_JRE_SLIM_BASE = "ballerina/jvm-runtime-21:1.0";
+    public static final int DEFAULT_JAVA_VERSION = 11;
+    public static final String OCI_IMAGE_ARCHIVE = "image.tar";
+    public static final String RUNTIME_IMAGE_DIR = "runtime";
+    public static final String BALLERINA_HOME_PROPERTY = "ballerina.home";
     public static final String OPENJDK_11_JRE_WINDOWS_BASE_IMAGE = "openjdk:11-windowsservercore";
     
     public static final String NATIVE_BUILDER_IMAGE = "ballerina/native-builder:latest";
     public static final String RUNTIME_BASE_IMAGE = "debian:11-slim";
+    public static final String FIXED_HEAP_JVM_OPTIONS = " -XX:InitialRAMPercentage=75.0 -XX:MaxRAMPercentage=75.0" +
+            " -XX:+AlwaysPreTouch";
+    public static final String CONTAINER_HEAP_JVM_OPTIONS = " -XX:MaxRAMPercentage=75.0";
+    public static final String TMP_DIR_JVM_OPTION = " -Djava.io.tmpdir=";
+
+    /**
+     * Garbage collector profile enum.
+     */
+    public enum GcProfile {
+        THROUGHPUT("throughput"),
+        LATENCY("latency"),
+        FOOTPRINT("footprint");
+
+        private final String value;
+
+        GcProfile(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Find the garbage collector profile of a Cloud.toml value.
+         *
+         * @param value value of `container.jvm.gc_profile`
+         * @return garbage collector profile or an empty optional if the value is not a known profile
+         */
+        public static Optional<GcProfile> fromValue(String value) {
+            for (GcProfile gcProfile : values()) {
+                if (gcProfile.value.equals(value)) {
+                    return Optional.of(gcProfile);
+                }
+            }
+            return Optional.empty();
+        }
+    }
 }
@@ -27,8 +27,29 @@ public class KubernetesConstants {
     public static final String ENABLE_DEBUG_LOGS = "BAL_KUBERNETES_DEBUG";
     public static final String KUBERNETES = "kubernetes";
     public static final String KUBERNETES_SVC_PROTOCOL = "TCP";
+    public static final String KUBERNETES_SVC_UDP_PROTOCOL = "UDP";
+    public static final String KUBERNETES_HEADLESS_CLUSTER_IP = "None";
+    public static final String APP_PROTOCOL_GRPC = "grpc";
+    public static final String APP_PROTOCOL_H2C = "kubernetes.io/h2c";
+    public static final String APP_PROTOCOL_HTTPS = "https";
+    public static final String APP_PROTOCOL_WS = "kubernetes.io/ws";
+    public static final String APP_PROTOCOL_WSS = "kubernetes.io/wss";
     public static final String KUBERNETES_SELECTOR_KEY = "app";
+    public static final String KUBERNETES_ARCH_KEY = "kubernetes.io/arch";
+    public static final String KUBERNETES_ZONE_KEY = "topology.kubernetes.io/zone";
+    public static final String KUBERNETES_HOSTNAME_KEY = "kubernetes.io/hostname";
+    public static final String TOPOLOGY_MODE_ANNOTATION = "service.kubernetes.io/topology-mode";
+    public static final String DEPENDENCY_GRAPH_FILE = "dependency-graph.json";
+    public static final String DEPENDENCY_GRAPH_NODES_DIR = "nodes";
+    public static final String DEPENDENCY_GRAPH_DIR_POSTFIX = "-graph";
+    public static final String CHANGE_SET_DIR_POSTFIX = "-changes";
+    public static final String CHANGE_SET_FILE = "changes.json";
+    public static final String CHANGE_SET_APPLY_FILE = "apply.yaml";
+    public static final String CHANGE_SET_PRUNE_FILE = "prune.yaml";
+    public static final String RESOURCE_STATE_FILE = "resources.json";
+    public static final String KUSTOMIZE_DIR_POSTFIX = "-kustomize";
     public static final String SVC_POSTFIX = "-svc";
+    public static final String HEADLESS_SVC_POSTFIX = "-headless";
     public static final String CONFIG_MAP_POSTFIX = "-config-map";
     public static final String SECRET_POSTFIX = "-secret";
     public static final String DOCKER = "docker";
@@ -36,13 +57,24 @@ public class KubernetesConstants {
     public static final String DEPLOYMENT_POSTFIX = "-deployment";
     public static final String JOB_POSTFIX = "-job";
     public static final String HPA_POSTFIX = "-hpa";
+    public static final String PDB_POSTFIX = "-pdb";
     public static final String DEPLOYMENT_FILE_POSTFIX = "_deployment";
     public static final String JOB_FILE_POSTFIX = "_job";
+    public static final String INDEXED_COMPLETION_MODE = "Indexed";
+    public static final String TIME_ZONE = "timeZone";
+    public static final String MIN_READY_SECONDS = "minReadySeconds";
+    public static final String MAX_UNAVAILABLE = "maxUnavailable";
+    public static final String JOB_COMPLETION_INDEX_ENV = "JOB_COMPLETION_INDEX";
+    public static final String JOB_COMPLETIONS_ENV = "JOB_COMPLETIONS";
+    public static final String JOB_COMPLETION_INDEX_FIELD_PATH =
+            "metadata.annotations['batch.kubernetes.io/job-completion-index']";
     public static final String SVC_FILE_POSTFIX = "_svc";
+    public static final String STATEFUL_SET_FILE_POSTFIX = "_statefulset";
     public static final String SECRET_FILE_POSTFIX = "_secret";
     public static final String CONFIG_MAP_FILE_POSTFIX = "_config_map";
     public static final String VOLUME_CLAIM_FILE_POSTFIX = "_volume_claim";
     public static final String HPA_FILE_POSTFIX = "_hpa";
+    public static final String PDB_FILE_POSTFIX = "_pdb";
     public static final String YAML = ".yaml";
     public static final String DOCKER_LATEST_TAG = ":latest";
     public static final String BALLERINA_HOME = "/home/ballerina";
@@ -54,7 +86,18 @@ public class KubernetesConstants {
     public static final String KEY_REF = "key_ref";
     public static final String MIN_MEMORY = "min_memory";
     public static final String MEMORY = "memory";
+    public static final String STORAGE = "storage";
+    public static final String BLOCK_VOLUME_MODE = "Block";
+    public static final String MEMORY_MEDIUM = "Memory";
     public static final String CPU = "cpu";
+    public static final String DEFAULT_MAX_CPU = "500m";
+    public static final String LATENCY_PROFILE = "latency";
+    public static final String BALLERINA_MAX_POOL_SIZE = "BALLERINA_MAX_POOL_SIZE";
+    public static final int SCHEDULER_THREADS_PER_CPU = 2;
+    public static final int DEFAULT_PROGRESS_DEADLINE_SECONDS = 600;
+    public static final String ROLLING_UPDATE_STRATEGY = "RollingUpdate";
+    public static final String STRATEGY_PRESET_FAST = "fast";
+    public static final String STRATEGY_PRESET_ZERO_CAPACITY_LOSS = "zero-capacity-loss";
     public static final String CHOREO = "choreo";
     
     /**
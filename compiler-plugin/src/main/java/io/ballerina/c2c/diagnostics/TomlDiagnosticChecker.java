@@ -17,10 +17,14 @@
  */
 package io.ballerina.c2c.diagnostics;
 
-import io.ballerina.c2c.util.ListenerInfo;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.util.CloudTomlSchema;
+import io.ballerina.c2c.util.ProbeValidator;
 import io.ballerina.c2c.util.ProjectServiceInfo;
-import io.ballerina.c2c.util.ResourceInfo;
-import io.ballerina.c2c.util.ServiceInfo;
+import io.ballerina.c2c.util.ScheduledTask;
+import io.ballerina.c2c.util.Task;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TomlHelper;
 import io.ballerina.projects.Project;
 import io.ballerina.toml.api.Toml;
 import io.ballerina.toml.semantic.ast.TomlLongValueNode;
@@ -28,13 +32,17 @@ import io.ballerina.toml.semantic.ast.TomlStringValueNode;
 import io.ballerina.toml.semantic.ast.TomlValueNode;
 import io.ballerina.toml.semantic.diagnostics.TomlDiagnostic;
 import io.ballerina.toml.semantic.diagnostics.TomlNodeLocation;
+import io.ballerina.toml.validator.TomlValidator;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.fabric8.kubernetes.api.model.Quantity;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Responsible for validation against ballerina documents.
@@ -43,6 +51,7 @@ import java.util.Optional;
  */
 public class TomlDiagnosticChecker {
 
+    private static final int MAX_POOL_SIZE_FACTOR = 4;
     private final Project project;
 
     public TomlDiagnosticChecker(Project project) {
@@ -50,111 +59,102 @@ public class TomlDiagnosticChecker {
     }
 
     public List<Diagnostic> validateTomlWithSource(Toml toml) {
-        List<Diagnostic> diagnosticInfoList = new ArrayList<>();
         if (toml == null) {
             return Collections.emptyList();
         }
+        return validateTomlWithSource(toml, new ProjectServiceInfo(project));
+    }
 
-        ProjectServiceInfo projectService = new ProjectServiceInfo(project);
-        Optional<Toml> ready = toml.getTable("cloud.deployment.probes.readiness");
-        ready.ifPresent(value -> diagnosticInfoList.addAll(validateProbe(projectService, value, ProbeType.READINESS)));
-        Optional<Toml> live = toml.getTable("cloud.deployment.probes.liveness");
-        live.ifPresent(value -> diagnosticInfoList.addAll(validateProbe(projectService, value, ProbeType.LIVENESS)));
+    private List<Diagnostic> validateTomlWithSource(Toml toml, ProjectServiceInfo projectService) {
+        List<Diagnostic> diagnosticInfoList = new ArrayList<>();
+        diagnosticInfoList.addAll(ProbeValidator.validateProbes(toml, projectService.getServiceList()));
+        diagnosticInfoList.addAll(validatePoolSize(toml));
+        diagnosticInfoList.addAll(validateActiveDeadline(projectService, toml));
 
         return diagnosticInfoList;
     }
 
-    private List<Diagnostic> validateProbe(ProjectServiceInfo projectServiceInfo, Toml probe, ProbeType type) {
-        List<Diagnostic> diagnosticInfos = new ArrayList<>();
-        if (probe.get("port").isEmpty() || probe.get("path").isEmpty()) {
-            return Collections.emptyList();
-        }
-        TomlValueNode portNode = probe.get("port").get();
-        TomlValueNode pathNode = probe.get("path").get();
-        long port = ((TomlLongValueNode) portNode).getValue();
-        String path = ((TomlStringValueNode) pathNode).getValue();
-
-        List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
-        if (!isListenerPortValid(port, serviceList)) {
-            Diagnostic portDiag = getTomlDiagnostic(portNode.location(), "C2C001", "error.invalid.port",
-                    DiagnosticSeverity.ERROR, "Invalid " + type.getValue() + " Port");
-            Diagnostic pathDiag = getTomlDiagnostic(pathNode.location(), "C2C002", "error.invalid.path",
-                    DiagnosticSeverity.ERROR, "Invalid " + type.getValue() + " Path");
-            diagnosticInfos.add(portDiag);
-            diagnosticInfos.add(pathDiag);
-            return diagnosticInfos;
+    /**
+     * Validate the Cloud.toml of each profile against the schema and the source. The diagnostics of a profile are
+     * reported at its table, skipping the ones already reported for the Cloud.toml itself.
+     *
+     * @param toml        Cloud.toml, which has to be free of schema errors as the profiles are merged over it
+     * @param diagnostics diagnostics of the Cloud.toml
+     * @return diagnostics of the profiles
+     */
+    public List<Diagnostic> validateProfiles(Toml toml, List<Diagnostic> diagnostics) {
+        List<Diagnostic> diagnosticInfoList = new ArrayList<>();
+        Set<String> profiles = toml == null ? Collections.emptySet() :
+                TomlHelper.getTableKeys(toml, TomlHelper.PROFILES);
+        if (profiles.isEmpty()) {
+            return diagnosticInfoList;
         }
-
-        
-        for (ServiceInfo serviceInfo : serviceList) {
-            int serviceListenerPort = serviceInfo.getListener().getPort();
-            if (serviceListenerPort == port) {
-                String serviceName = serviceInfo.getServicePath().trim();
-                if (!isValidServicePath(serviceName, path)) {
-                    Diagnostic diag = getTomlDiagnostic(pathNode.location(), "C2C003", "error.invalid" +
-                            ".service.path", DiagnosticSeverity.ERROR, "Invalid " + type.getValue() + " " +
-                            "Service Path");
-                    diagnosticInfos.add(diag);
-                    return diagnosticInfos;
-                }
-
-                boolean resourceFound = false;
-                List<ResourceInfo> resourceInfoList = serviceInfo.getResourceInfo();
-                for (ResourceInfo resourceInfo : resourceInfoList) {
-                    String balResourceName = trimResourcePath(resourceInfo.getPath());
-                    String resourcePath = trimResourcePath(trimResourcePath(serviceName) + "/" + balResourceName);
-                    if (balResourceName.equals(".")) {
-                        resourcePath = trimResourcePath(serviceName);
-                    }
-                    if (resourcePath.equals(trimResourcePath(path))) {
-                        resourceFound = true;
-                        break;
-                    }
-                }
-                if (!resourceFound) {
-                    Diagnostic diag = getTomlDiagnostic(pathNode.location(), "C2C004", "error.invalid" +
-                                    ".resource.path", DiagnosticSeverity.ERROR,
-                            "Invalid " + type.getValue() + " Resource Path");
-                    diagnosticInfos.add(diag);
+        Set<String> reported = diagnostics.stream().map(Diagnostic::message).collect(Collectors.toSet());
+        ProjectServiceInfo projectService = new ProjectServiceInfo(project);
+        for (String profile : profiles) {
+            Optional<Toml> profileTable = toml.getTable(TomlHelper.PROFILES + "." + profile);
+            if (profileTable.isEmpty()) {
+                continue;
+            }
+            Toml profileToml = TomlHelper.getProfileToml(toml, profile);
+            new TomlValidator(CloudTomlSchema.getSchema()).validate(profileToml);
+            List<Diagnostic> profileDiagnostics = new ArrayList<>(profileToml.diagnostics());
+            profileDiagnostics.addAll(validateTomlWithSource(profileToml, projectService));
+            for (Diagnostic diagnostic : profileDiagnostics) {
+                if (reported.contains(diagnostic.message())) {
+                    continue;
                 }
+                diagnosticInfoList.add(getTomlDiagnostic(profileTable.get().rootNode().location(), "C2C007",
+                        "invalid.profile", diagnostic.diagnosticInfo().severity(),
+                        "profile '" + profile + "': " + diagnostic.message()));
             }
         }
-        return diagnosticInfos;
+        return diagnosticInfoList;
     }
 
-    private static boolean isValidServicePath(String servicePath, String tomlPath) {
-        if (servicePath.equals("/")) {
-            return true;
+    private List<Diagnostic> validatePoolSize(Toml toml) {
+        Optional<TomlValueNode> poolSizeNode = toml.get("cloud.deployment.max_pool_size");
+        if (poolSizeNode.isEmpty() || !(poolSizeNode.get() instanceof TomlLongValueNode)) {
+            return Collections.emptyList();
         }
-        if (tomlPath.startsWith(servicePath)) {
-            if (tomlPath.length() == servicePath.length()) {
-                return true;
-            }
-            return tomlPath.charAt(servicePath.length()) == '/';
+        long poolSize = ((TomlLongValueNode) poolSizeNode.get()).getValue();
+        Optional<TomlValueNode> cpuNode = toml.get("cloud.deployment.max_cpu");
+        String maxCpu = KubernetesConstants.DEFAULT_MAX_CPU;
+        if (cpuNode.isPresent() && cpuNode.get() instanceof TomlStringValueNode) {
+            maxCpu = ((TomlStringValueNode) cpuNode.get()).getValue();
         }
-        return false;
-    }
-
-    private boolean isListenerPortValid(long port, List<ServiceInfo> serviceInfo) {
-        for (ServiceInfo service : serviceInfo) {
-            ListenerInfo listener = service.getListener();
-            int givenPort = listener.getPort();
-            if (givenPort == port) {
-                return true;
-            }
+        int recommended;
+        try {
+            recommended = KubernetesUtils.getSchedulerPoolSize(new Quantity(maxCpu));
+        } catch (IllegalArgumentException e) {
+            return Collections.emptyList();
+        }
+        // Fewer threads than CPUs leaves cores idle while a much larger pool only adds context switches.
+        int cpus = recommended / KubernetesConstants.SCHEDULER_THREADS_PER_CPU;
+        if (poolSize >= cpus && poolSize <= (long) recommended * MAX_POOL_SIZE_FACTOR) {
+            return Collections.emptyList();
         }
-        return false;
+        return Collections.singletonList(getTomlDiagnostic(poolSizeNode.get().location(), "C2C005",
+                "warning.pool.size.mismatch", DiagnosticSeverity.WARNING, "max_pool_size " + poolSize +
+                        " is far off the CPU budget of " + cpus + " CPU(s). recommended pool size is " + recommended));
     }
 
-    private String trimResourcePath(String resourcePath) {
-        resourcePath = resourcePath.trim();
-        if (resourcePath.startsWith("/")) {
-            resourcePath = resourcePath.substring(1);
+    private List<Diagnostic> validateActiveDeadline(ProjectServiceInfo projectServiceInfo, Toml toml) {
+        Optional<TomlValueNode> deadlineNode = toml.get("cloud.job.active_deadline_seconds");
+        Optional<Task> task = projectServiceInfo.getTask();
+        if (deadlineNode.isEmpty() || !(deadlineNode.get() instanceof TomlLongValueNode) || task.isEmpty() ||
+                !(task.get() instanceof ScheduledTask)) {
+            return Collections.emptyList();
         }
-        if (resourcePath.endsWith("/")) {
-            resourcePath = resourcePath.substring(0, resourcePath.length() - 1);
+        long activeDeadline = ((TomlLongValueNode) deadlineNode.get()).getValue();
+        int interval = ((ScheduledTask) task.get()).getMinimumInterval();
+        if (interval == -1 || activeDeadline <= interval * 60L) {
+            return Collections.emptyList();
         }
-        return resourcePath;
+        return Collections.singletonList(getTomlDiagnostic(deadlineNode.get().location(), "C2C006",
+                "warning.task.runs.overlap", DiagnosticSeverity.WARNING, "task is scheduled every " + interval +
+                        " minute(s) which is shorter than its active deadline of " + activeDeadline +
+                        " seconds. consecutive runs of the task could overlap"));
     }
 
     private TomlDiagnostic getTomlDiagnostic(TomlNodeLocation location, String code, String template,
@@ -163,19 +163,4 @@ public class TomlDiagnosticChecker {
                 diagnosticInfo = new io.ballerina.tools.diagnostics.DiagnosticInfo(code, template, severity);
         return new TomlDiagnostic(location, diagnosticInfo, message);
     }
-
-    enum ProbeType {
-        READINESS("Readiness Probe"),
-        LIVENESS("Liveness Probe");
-
-        private String value;
-
-        ProbeType(String value) {
-            this.value = value;
-        }
-
-        public String getValue() {
-            return value;
-        }
-    }
 }
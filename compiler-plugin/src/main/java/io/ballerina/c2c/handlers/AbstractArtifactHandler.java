@@ -31,4 +31,16 @@ public abstract class AbstractArtifactHandler implements ArtifactHandler {
     public AbstractArtifactHandler() {
         dataHolder = KubernetesContext.getInstance().getDataHolder();
     }
+
+    /**
+     * Print the banner of a generated artifact. Profiles regenerate the artifacts of the package in parallel, hence
+     * the banners are only printed for the package.
+     *
+     * @param banner banner of the artifact
+     */
+    protected void printBanner(String banner) {
+        if (KubernetesContext.getInstance().getProfile() == null) {
+            OUT.println(banner);
+        }
+    }
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.ChangeSetModel;
+import io.ballerina.c2c.models.ResourceStateModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the kubernetes resources changed since the previous build, so that deploy tooling applies only what
+ * changed. The resources generated by the previous build are kept by kind and name along with a hash of their
+ * content in the change set directory, next to the artifact directory.
+ * <p>
+ * The change set consists of the added and modified resources to be applied, the deleted resources to be pruned
+ * with {@code kubectl delete} and a summary of all the resources.
+ */
+public class ChangeSetHandler extends AbstractArtifactHandler {
+
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(
+            new YAMLFactory().disable(YAMLGenerator.Feature.USE_NATIVE_TYPE_ID));
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        if (!dataHolder.isChangeSet()) {
+            return;
+        }
+        Path changeSetDir = getChangeSetDir();
+        Map<String, ResourceStateModel> previous = readState(changeSetDir);
+        Map<String, Map<String, Object>> resources;
+        try {
+            resources = KubernetesUtils.readResources(dataHolder.getK8sArtifactOutputPath());
+        } catch (IOException e) {
+            throw createException(dataHolder.getK8sArtifactOutputPath());
+        }
+        ChangeSetModel changeSet = new ChangeSetModel();
+        List<Map<String, Object>> applied = new ArrayList<>();
+        List<ResourceStateModel> state = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Object>> resource : resources.entrySet()) {
+            ResourceStateModel current = getState(resource.getValue());
+            state.add(current);
+            ResourceStateModel last = previous.remove(resource.getKey());
+            if (last == null) {
+                changeSet.getAdded().add(current);
+                applied.add(resource.getValue());
+            } else if (!last.getHash().equals(current.getHash())) {
+                changeSet.getModified().add(current);
+                applied.add(resource.getValue());
+            } else {
+                changeSet.getUnchanged().add(current);
+            }
+        }
+        changeSet.getDeleted().addAll(previous.values());
+        writeChangeSet(changeSetDir, changeSet, applied, state);
+        OUT.println("\t@kubernetes:ChangeSet \t\t\t - " + changeSet.getAdded().size() + " added, " +
+                changeSet.getModified().size() + " modified, " + changeSet.getDeleted().size() + " deleted");
+    }
+
+    /**
+     * Write an empty change set when the artifacts of the previous build are reused as they are.
+     *
+     * @throws KubernetesPluginException if an error occurs while writing the change set
+     */
+    public void createUnchangedArtifacts() throws KubernetesPluginException {
+        Path changeSetDir = getChangeSetDir();
+        if (!Files.exists(changeSetDir.resolve(KubernetesConstants.RESOURCE_STATE_FILE))) {
+            return;
+        }
+        List<ResourceStateModel> state = new ArrayList<>(readState(changeSetDir).values());
+        ChangeSetModel changeSet = new ChangeSetModel();
+        changeSet.getUnchanged().addAll(state);
+        writeChangeSet(changeSetDir, changeSet, new ArrayList<>(), state);
+    }
+
+    /**
+     * Get the change set directory, which is a sibling of the artifact directory as the artifact directory is
+     * recreated on each build.
+     *
+     * @return change set directory
+     */
+    public Path getChangeSetDir() {
+        Path outputPath = dataHolder.getK8sArtifactOutputPath();
+        return outputPath.resolveSibling(outputPath.getFileName() + KubernetesConstants.CHANGE_SET_DIR_POSTFIX);
+    }
+
+    private Map<String, ResourceStateModel> readState(Path changeSetDir) {
+        Map<String, ResourceStateModel> state = new LinkedHashMap<>();
+        Path stateFile = changeSetDir.resolve(KubernetesConstants.RESOURCE_STATE_FILE);
+        if (!Files.exists(stateFile)) {
+            return state;
+        }
+        try {
+            List<ResourceStateModel> resources = JSON_MAPPER.readValue(stateFile.toFile(),
+                    new TypeReference<List<ResourceStateModel>>() { });
+            for (ResourceStateModel resource : resources) {
+                state.put(resource.key(), resource);
+            }
+        } catch (IOException e) {
+            // A corrupted state is treated as a first build, which adds all the resources.
+            state.clear();
+        }
+        return state;
+    }
+
+    private ResourceStateModel getState(Map<String, Object> resource) throws KubernetesPluginException {
+        ResourceStateModel state = new ResourceStateModel();
+        state.setApiVersion(String.valueOf(resource.get("apiVersion")));
+        state.setKind(String.valueOf(resource.get("kind")));
+        Object metadata = resource.get("metadata");
+        if (metadata instanceof Map) {
+            Object name = ((Map<?, ?>) metadata).get("name");
+            Object namespace = ((Map<?, ?>) metadata).get("namespace");
+            state.setName(String.valueOf(name));
+            state.setNamespace(namespace == null ? null : String.valueOf(namespace));
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] content = CANONICAL_MAPPER.writeValueAsString(resource).getBytes(StandardCharsets.UTF_8);
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest(content)) {
+                hash.append(String.format("%02x", b));
+            }
+            state.setHash(hash.toString());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw createException(dataHolder.getK8sArtifactOutputPath());
+        }
+        return state;
+    }
+
+    private void writeChangeSet(Path changeSetDir, ChangeSetModel changeSet, List<Map<String, Object>> applied,
+                                List<ResourceStateModel> state) throws KubernetesPluginException {
+        try {
+            Files.createDirectories(changeSetDir);
+            Files.write(changeSetDir.resolve(KubernetesConstants.CHANGE_SET_APPLY_FILE),
+                    toYaml(applied).getBytes(StandardCharsets.UTF_8));
+            List<Map<String, Object>> pruned = new ArrayList<>();
+            for (ResourceStateModel deleted : changeSet.getDeleted()) {
+                pruned.add(getPruneEntry(deleted));
+            }
+            Files.write(changeSetDir.resolve(KubernetesConstants.CHANGE_SET_PRUNE_FILE),
+                    toYaml(pruned).getBytes(StandardCharsets.UTF_8));
+            JSON_MAPPER.writeValue(changeSetDir.resolve(KubernetesConstants.CHANGE_SET_FILE).toFile(), changeSet);
+            // The state is written last so that a failed write reports the same changes on the next build.
+            JSON_MAPPER.writeValue(changeSetDir.resolve(KubernetesConstants.RESOURCE_STATE_FILE).toFile(), state);
+        } catch (IOException e) {
+            throw createException(changeSetDir);
+        }
+    }
+
+    private Map<String, Object> getPruneEntry(ResourceStateModel resource) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("name", resource.getName());
+        if (resource.getNamespace() != null) {
+            metadata.put("namespace", resource.getNamespace());
+        }
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("apiVersion", resource.getApiVersion());
+        entry.put("kind", resource.getKind());
+        entry.put("metadata", metadata);
+        return entry;
+    }
+
+    private String toYaml(List<Map<String, Object>> documents) throws IOException {
+        StringBuilder yaml = new StringBuilder();
+        for (Map<String, Object> document : documents) {
+            yaml.append(YAML_MAPPER.writeValueAsString(document));
+        }
+        return yaml.toString();
+    }
+
+    private KubernetesPluginException createException(Path path) {
+        Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                new NullLocation(), "change set", path.toString());
+        return new KubernetesPluginException(diagnostic);
+    }
+}
@@ -76,7 +76,7 @@ public class ConfigMapHandler extends AbstractArtifactHandler {
                 dataHolder.setDeploymentModel(deploymentModel);
             }
             generate(configMapModel);
-            OUT.println("\t@kubernetes:ConfigMap");
+            printBanner("\t@kubernetes:ConfigMap");
         }
     }
 
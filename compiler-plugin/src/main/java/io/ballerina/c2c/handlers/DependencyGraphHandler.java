@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.ClientDependencyModel;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.ServiceDependencyModel;
+import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.Affinity;
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTerm;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTermBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates the service dependency graph from the http clients of the package.
+ * <p>
+ * Each package writes its own node to the graph directory and the graph is rebuilt from all the nodes found there.
+ * Packages sharing a graph directory therefore resolve their clients against each other regardless of build order.
+ */
+public class DependencyGraphHandler extends AbstractArtifactHandler {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String DEFAULT_NAMESPACE = "default";
+    private static final String CLUSTER_DOMAIN = ".svc.cluster.local";
+    private static final int PREFERRED_AFFINITY_WEIGHT = 100;
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        if (dataHolder.getClientDependencies().isEmpty() && deploymentModel.getDependencyGraphDir() == null) {
+            return;
+        }
+        Path graphDir = KubernetesUtils.getDependencyGraphDir(dataHolder, deploymentModel.getDependencyGraphDir());
+        ServiceDependencyModel currentNode = getCurrentNode(deploymentModel);
+        Path nodesDir = graphDir.resolve(KubernetesConstants.DEPENDENCY_GRAPH_NODES_DIR);
+        writeJson(currentNode, nodesDir.resolve(currentNode.getName() + ".json"));
+        List<ServiceDependencyModel> nodes = readNodes(nodesDir);
+        nodes.replaceAll(node -> node.getName().equals(currentNode.getName()) ? currentNode : node);
+        for (ServiceDependencyModel node : nodes) {
+            for (ClientDependencyModel client : node.getClients()) {
+                resolveTarget(client, nodes, node == currentNode);
+            }
+        }
+        writeJson(nodes, graphDir.resolve(KubernetesConstants.DEPENDENCY_GRAPH_FILE));
+        if (deploymentModel.getCoLocation() != null) {
+            deploymentModel.setAffinity(getAffinity(currentNode, deploymentModel.getCoLocation()));
+        }
+    }
+
+    private ServiceDependencyModel getCurrentNode(DeploymentModel deploymentModel) {
+        ServiceDependencyModel node = new ServiceDependencyModel();
+        node.setName(dataHolder.getOutputName());
+        node.setServiceName(KubernetesUtils.getServiceName(deploymentModel));
+        node.setNamespace(dataHolder.getNamespace() == null ? DEFAULT_NAMESPACE : dataHolder.getNamespace());
+        for (ServiceModel serviceModel : dataHolder.getServiceModelList()) {
+            node.getPorts().add(serviceModel.getPort());
+        }
+        for (ClientDependencyModel client : dataHolder.getClientDependencies()) {
+            try {
+                URI uri = new URI(client.getUrl());
+                if (uri.getHost() == null) {
+                    continue;
+                }
+                client.setHost(uri.getHost().toLowerCase(Locale.ENGLISH));
+                client.setPort(uri.getPort() != -1 ? uri.getPort() : ("https".equals(uri.getScheme()) ? 443 : 80));
+                node.getClients().add(client);
+            } catch (URISyntaxException e) {
+                KubernetesUtils.printWarning("unable to resolve the target of client `" + client.getName() +
+                        "`: invalid url `" + client.getUrl() + "`");
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Resolve the service called by the client. A client targets a service when its host is one of the cluster local
+     * names of the service. A host which only shares the first label with a service is an in-cluster service reached
+     * through an external hostname, which routes the call out of the cluster and back through an ingress.
+     *
+     * @param client client to be resolved
+     * @param nodes  nodes of the graph
+     * @param report whether to warn about external hostnames
+     */
+    private void resolveTarget(ClientDependencyModel client, List<ServiceDependencyModel> nodes, boolean report) {
+        client.setTarget(null);
+        client.setExternal(false);
+        String host = client.getHost();
+        String firstLabel = host.split("\\.")[0];
+        for (ServiceDependencyModel node : nodes) {
+            if (getClusterLocalNames(node).contains(host) && node.getPorts().contains(client.getPort())) {
+                client.setTarget(node.getName());
+                return;
+            }
+        }
+        if (isClusterLocal(host)) {
+            return;
+        }
+        for (ServiceDependencyModel node : nodes) {
+            if (firstLabel.equals(node.getServiceName()) || firstLabel.equals(node.getName())) {
+                client.setTarget(node.getName());
+                client.setExternal(true);
+                if (!report) {
+                    return;
+                }
+                KubernetesUtils.printWarning("client `" + client.getName() + "` calls the in-cluster service `" +
+                        node.getServiceName() + "` through the external hostname `" + host + "`. use `" +
+                        node.getServiceName() + "." + node.getNamespace() + CLUSTER_DOMAIN + "` instead");
+                return;
+            }
+        }
+    }
+
+    private boolean isClusterLocal(String host) {
+        int labels = host.split("\\.").length;
+        return labels <= 2 || host.endsWith(".svc") || host.endsWith(CLUSTER_DOMAIN);
+    }
+
+    private Set<String> getClusterLocalNames(ServiceDependencyModel node) {
+        String serviceName = node.getServiceName();
+        String namespaced = serviceName + "." + node.getNamespace();
+        Set<String> names = new LinkedHashSet<>();
+        names.add(namespaced);
+        names.add(namespaced + ".svc");
+        names.add(namespaced + CLUSTER_DOMAIN);
+        if (DEFAULT_NAMESPACE.equals(node.getNamespace())) {
+            names.add(serviceName);
+        }
+        return names;
+    }
+
+    private Affinity getAffinity(ServiceDependencyModel currentNode, String coLocation) {
+        String topologyKey = "node".equals(coLocation) ? KubernetesConstants.KUBERNETES_HOSTNAME_KEY :
+                KubernetesConstants.KUBERNETES_ZONE_KEY;
+        Set<String> targets = new LinkedHashSet<>();
+        for (ClientDependencyModel client : currentNode.getClients()) {
+            String target = client.getTarget();
+            if (target != null && !client.isExternal() && !target.equals(currentNode.getName())) {
+                targets.add(target);
+            }
+        }
+        if (targets.isEmpty()) {
+            return null;
+        }
+        List<WeightedPodAffinityTerm> terms = new ArrayList<>();
+        for (String target : targets) {
+            terms.add(new WeightedPodAffinityTermBuilder()
+                    .withWeight(PREFERRED_AFFINITY_WEIGHT)
+                    .withNewPodAffinityTerm()
+                    .withNewLabelSelector()
+                    .addToMatchLabels(KubernetesConstants.KUBERNETES_SELECTOR_KEY, target)
+                    .endLabelSelector()
+                    .withTopologyKey(topologyKey)
+                    .endPodAffinityTerm()
+                    .build());
+        }
+        return new AffinityBuilder()
+                .withNewPodAffinity()
+                .withPreferredDuringSchedulingIgnoredDuringExecution(terms)
+                .endPodAffinity()
+                .build();
+    }
+
+    private List<ServiceDependencyModel> readNodes(Path nodesDir) throws KubernetesPluginException {
+        List<ServiceDependencyModel> nodes = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(nodesDir)) {
+            for (Path path : paths.sorted().collect(Collectors.toList())) {
+                nodes.add(JSON_MAPPER.readValue(path.toFile(), ServiceDependencyModel.class));
+            }
+        } catch (IOException e) {
+            throw createException(nodesDir);
+        }
+        return nodes;
+    }
+
+    private void writeJson(Object value, Path path) throws KubernetesPluginException {
+        try {
+            Files.createDirectories(path.getParent());
+            JSON_MAPPER.writeValue(path.toFile(), value);
+        } catch (IOException e) {
+            throw createException(path);
+        }
+    }
+
+    private KubernetesPluginException createException(Path path) {
+        Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                new NullLocation(), "dependency graph", path.toString());
+        return new KubernetesPluginException(diagnostic);
+    }
+}
@@ -24,31 +24,60 @@ import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.ConfigMapModel;
 import io.ballerina.c2c.models.DeploymentModel;
 import io.ballerina.c2c.models.PersistentVolumeClaimModel;
+import io.ballerina.c2c.models.ScratchVolumeModel;
 import io.ballerina.c2c.models.SecretModel;
+import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.c2c.models.SpreadModel;
+import io.ballerina.c2c.models.WarmUpModel;
+import io.ballerina.c2c.models.WarmUpResourceModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TomlHelper;
 import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.Affinity;
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.IntOrString;
-import io.fabric8.kubernetes.api.model.Lifecycle;
 import io.fabric8.kubernetes.api.model.LifecycleBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.PodTemplateSpec;
+import io.fabric8.kubernetes.api.model.PodTemplateSpecBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraintBuilder;
 import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.fabric8.kubernetes.api.model.VolumeDevice;
+import io.fabric8.kubernetes.api.model.VolumeDeviceBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentStrategy;
+import io.fabric8.kubernetes.api.model.apps.RollingUpdateStatefulSetStrategy;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.ballerina.c2c.DockerGenConstants.REGISTRY_SEPARATOR;
 import static io.ballerina.c2c.KubernetesConstants.DEPLOYMENT_FILE_POSTFIX;
@@ -59,6 +88,9 @@ import static io.ballerina.c2c.utils.KubernetesUtils.resolveDockerToml;
  */
 public class DeploymentHandler extends AbstractArtifactHandler {
 
+    private static final BigDecimal DEFAULT_HEAP_FRACTION = new BigDecimal("0.25");
+    private static final BigDecimal FIXED_HEAP_FRACTION = new BigDecimal("0.75");
+
     private List<VolumeMount> populateVolumeMounts(DeploymentModel deploymentModel) {
         List<VolumeMount> volumeMounts = new ArrayList<>();
         for (SecretModel secretModel : deploymentModel.getSecretModels()) {
@@ -89,35 +121,172 @@ public class DeploymentHandler extends AbstractArtifactHandler {
             }
         }
         for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
+            if (isBlockVolume(volumeClaimModel)) {
+                continue;
+            }
             VolumeMount volumeMount = new VolumeMountBuilder()
                     .withMountPath(volumeClaimModel.getMountPath())
-                    .withName(volumeClaimModel.getName() + "-volume")
+                    .withName(getClaimVolumeName(deploymentModel, volumeClaimModel))
                     .withReadOnly(volumeClaimModel.isReadOnly())
                     .build();
             volumeMounts.add(volumeMount);
         }
+        for (ScratchVolumeModel scratchVolume : deploymentModel.getScratchVolumes()) {
+            volumeMounts.add(new VolumeMountBuilder()
+                    .withMountPath(scratchVolume.getMountPath())
+                    .withName(scratchVolume.getName())
+                    .build());
+        }
         return volumeMounts;
     }
 
+    /**
+     * Memory backed scratch volumes are charged to the memory limit of the container together with the heap. Warn
+     * when both of them cannot fit within the limit since the container would be OOMKilled once the volume fills up.
+     *
+     * @param deploymentModel deployment model
+     */
+    private void checkScratchMemory(DeploymentModel deploymentModel) {
+        BigDecimal scratchMemory = BigDecimal.ZERO;
+        for (ScratchVolumeModel scratchVolume : deploymentModel.getScratchVolumes()) {
+            if (!KubernetesConstants.MEMORY_MEDIUM.equals(scratchVolume.getMedium())) {
+                continue;
+            }
+            if (scratchVolume.getSizeLimit() == null) {
+                KubernetesUtils.printWarning("memory backed scratch volume `" + scratchVolume.getName() +
+                        "` has no `size_limit`. it can grow up to the memory limit of the container");
+                continue;
+            }
+            scratchMemory = scratchMemory.add(Quantity.getAmountInBytes(new Quantity(scratchVolume.getSizeLimit())));
+        }
+        Quantity memoryLimit = deploymentModel.getResourceRequirements().getLimits().get(KubernetesConstants.MEMORY);
+        if (scratchMemory.signum() == 0 || memoryLimit == null) {
+            return;
+        }
+        BigDecimal limit = Quantity.getAmountInBytes(memoryLimit);
+        BigDecimal heapFraction = dataHolder.getDockerModel().isFixedHeap() ? FIXED_HEAP_FRACTION :
+                DEFAULT_HEAP_FRACTION;
+        BigDecimal required = scratchMemory.add(limit.multiply(heapFraction));
+        if (required.compareTo(limit) > 0) {
+            KubernetesUtils.printWarning("memory backed scratch volumes need " + toMebibytes(scratchMemory) +
+                    "Mi of the container memory limit " + memoryLimit + " which also holds a heap of up to " +
+                    toMebibytes(limit.multiply(heapFraction)) + "Mi. increase `max_memory` or reduce the " +
+                    "`size_limit` of the scratch volumes to avoid the container being OOMKilled");
+        }
+    }
+
+    private long toMebibytes(BigDecimal bytes) {
+        return bytes.divide(BigDecimal.valueOf(1024 * 1024), 0, RoundingMode.CEILING).longValue();
+    }
+
+    private List<VolumeDevice> populateVolumeDevices(DeploymentModel deploymentModel) {
+        List<VolumeDevice> volumeDevices = new ArrayList<>();
+        for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
+            if (isBlockVolume(volumeClaimModel)) {
+                volumeDevices.add(new VolumeDeviceBuilder()
+                        .withDevicePath(volumeClaimModel.getMountPath())
+                        .withName(getClaimVolumeName(deploymentModel, volumeClaimModel))
+                        .build());
+            }
+        }
+        return volumeDevices;
+    }
+
+    private boolean isBlockVolume(PersistentVolumeClaimModel volumeClaimModel) {
+        return KubernetesConstants.BLOCK_VOLUME_MODE.equals(volumeClaimModel.getVolumeMode());
+    }
+
+    /**
+     * Claim templates of a stateful set are referred by the template name instead of a pod volume.
+     *
+     * @param deploymentModel  deployment model
+     * @param volumeClaimModel volume claim model
+     * @return name of the volume to mount
+     */
+    private String getClaimVolumeName(DeploymentModel deploymentModel, PersistentVolumeClaimModel volumeClaimModel) {
+        return deploymentModel.isStateful() ? volumeClaimModel.getName() : volumeClaimModel.getName() + "-volume";
+    }
+
     private Optional<String> getExtension(String filename) {
         return Optional.ofNullable(filename)
                 .filter(f -> f.contains("."))
                 .map(f -> f.substring(filename.lastIndexOf(".") + 1));
     }
 
-    private Container generateContainer(DeploymentModel deploymentModel, List<ContainerPort> containerPorts) {
+    /**
+     * Generate a shell script which waits for the listeners to start and invokes the warm-up resources.
+     *
+     * @param deploymentModel @{@link DeploymentModel} definition
+     * @return warm-up script
+     * @throws KubernetesPluginException If the port of a warm-up resource cannot be detected.
+     */
+    private String generateWarmUpScript(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        WarmUpModel warmUpModel = deploymentModel.getWarmUpModel();
+        Set<Integer> securedPorts = new HashSet<>();
+        for (ServiceModel serviceModel : dataHolder.getServiceModelList()) {
+            if ("https".equals(serviceModel.getProtocol())) {
+                securedPorts.add(serviceModel.getTargetPort());
+            }
+        }
+        Set<Integer> ports = new LinkedHashSet<>();
+        StringBuilder requests = new StringBuilder();
+        for (WarmUpResourceModel resource : warmUpModel.getResources()) {
+            int port = resource.getPort();
+            if (port == 0) {
+                //set first port as warm-up port
+                if (deploymentModel.getPorts().size() == 0) {
+                    Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(
+                            C2CDiagnosticCodes.INVALID_WARMUP_PORT, new NullLocation(), resource.getPath());
+                    throw new KubernetesPluginException(diagnostic);
+                }
+                port = deploymentModel.getPorts().iterator().next().getContainerPort();
+            }
+            ports.add(port);
+            String path = resource.getPath().startsWith("/") ? resource.getPath() : "/" + resource.getPath();
+            int count = resource.getRequests() > 0 ? resource.getRequests() : warmUpModel.getRequests();
+            boolean secured = securedPorts.contains(port);
+            String url = (secured ? "https" : "http") + "://localhost:" + port + path;
+            // The requests stop once the deadline is reached, so that a hanging resource does not hold the hook.
+            requests.append("for i in $(seq ").append(count).append("); do [ $(date +%s) -lt $end ] || break; ")
+                    .append("wget -q -T 5 -O /dev/null ").append(secured ? "--no-check-certificate " : "")
+                    .append(quote(url)).append("; done; ");
+        }
+        StringBuilder script = new StringBuilder();
+        for (Integer port : ports) {
+            script.append("for i in $(seq ").append(warmUpModel.getTimeout()).append("); do nc -z localhost ")
+                    .append(port).append(" && break; sleep 1; done; ");
+        }
+        script.append("end=$(($(date +%s) + ").append(warmUpModel.getDeadline()).append(")); ");
+        // Warm-up failures should not restart the container.
+        return script.append(requests).append("exit 0").toString();
+    }
+
+    private String quote(String value) {
+        return "'" + value.replace("'", "'\\''") + "'";
+    }
+
+    private Container generateContainer(DeploymentModel deploymentModel, List<ContainerPort> containerPorts)
+            throws KubernetesPluginException {
         String dockerRegistry = deploymentModel.getRegistry();
         String deploymentImageName = deploymentModel.getImage();
         if (null != dockerRegistry && !"".equals(dockerRegistry)) {
             deploymentImageName = dockerRegistry + REGISTRY_SEPARATOR + deploymentImageName;
         }
-        Lifecycle preStop = new LifecycleBuilder()
+        LifecycleBuilder lifecycleBuilder = new LifecycleBuilder()
                 .withNewPreStop()
                 .withNewExec()
                 .withCommand("sleep", "15")
                 .endExec()
-                .endPreStop()
-                .build();
+                .endPreStop();
+        WarmUpModel warmUpModel = deploymentModel.getWarmUpModel();
+        if (warmUpModel.isEnabled() && !warmUpModel.getResources().isEmpty()) {
+            // The container does not become ready until the post start hook completes.
+            lifecycleBuilder.withNewPostStart()
+                    .withNewExec()
+                    .withCommand("sh", "-c", generateWarmUpScript(deploymentModel))
+                    .endExec()
+                    .endPostStart();
+        }
 
         return new ContainerBuilder()
                 .withName(deploymentModel.getName())
@@ -125,10 +294,11 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 .withPorts(containerPorts)
                 .withEnv(deploymentModel.getEnvVars())
                 .withVolumeMounts(populateVolumeMounts(deploymentModel))
+                .withVolumeDevices(populateVolumeDevices(deploymentModel))
                 .withLivenessProbe(deploymentModel.getLivenessProbe())
                 .withReadinessProbe(deploymentModel.getReadinessProbe())
                 .withResources(deploymentModel.getResourceRequirements())
-                .withLifecycle(preStop)
+                .withLifecycle(lifecycleBuilder.build())
                 .build();
     }
 
@@ -160,6 +330,21 @@ public class DeploymentHandler extends AbstractArtifactHandler {
             }
             volumes.add(volume);
         }
+        for (ScratchVolumeModel scratchVolume : deploymentModel.getScratchVolumes()) {
+            boolean memoryBacked = KubernetesConstants.MEMORY_MEDIUM.equals(scratchVolume.getMedium());
+            volumes.add(new VolumeBuilder()
+                    .withName(scratchVolume.getName())
+                    .withNewEmptyDir()
+                    .withMedium(memoryBacked ? KubernetesConstants.MEMORY_MEDIUM : null)
+                    .withSizeLimit(scratchVolume.getSizeLimit() == null ? null :
+                            new Quantity(scratchVolume.getSizeLimit()))
+                    .endEmptyDir()
+                    .build());
+        }
+        if (deploymentModel.isStateful()) {
+            // The claims of a stateful set are defined by its volume claim templates.
+            return volumes;
+        }
         for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
             Volume volume = new VolumeBuilder()
                     .withName(volumeClaimModel.getName() + "-volume")
@@ -180,6 +365,73 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         return imagePullSecrets;
     }
 
+    private void addSchedulerPoolSize(DeploymentModel deploymentModel) {
+        for (EnvVar envVar : deploymentModel.getEnvVars()) {
+            if (KubernetesConstants.BALLERINA_MAX_POOL_SIZE.equals(envVar.getName())) {
+                // Explicitly configured as an environment variable.
+                return;
+            }
+        }
+        Quantity cpuLimit = deploymentModel.getResourceRequirements().getLimits().get(KubernetesConstants.CPU);
+        Long poolSize = null;
+        if (dataHolder.getBallerinaCloud() != null) {
+            poolSize = TomlHelper.getLong(dataHolder.getBallerinaCloud(), "cloud.deployment.max_pool_size");
+        }
+        if (poolSize == null && cpuLimit == null) {
+            return;
+        }
+        String value = String.valueOf(poolSize != null ? poolSize : KubernetesUtils.getSchedulerPoolSize(cpuLimit));
+        deploymentModel.addEnv(new EnvVarBuilder()
+                .withName(KubernetesConstants.BALLERINA_MAX_POOL_SIZE)
+                .withValue(value)
+                .build());
+        dataHolder.getDockerModel().getEnv().put(KubernetesConstants.BALLERINA_MAX_POOL_SIZE, value);
+    }
+
+    private List<TopologySpreadConstraint> getTopologySpreadConstraints(DeploymentModel deploymentModel) {
+        SpreadModel spreadModel = deploymentModel.getSpreadModel();
+        List<TopologySpreadConstraint> constraints = new ArrayList<>();
+        if (!spreadModel.isEnabled()) {
+            return constraints;
+        }
+        for (String topologyKey : new String[]{KubernetesConstants.KUBERNETES_ZONE_KEY,
+                KubernetesConstants.KUBERNETES_HOSTNAME_KEY}) {
+            constraints.add(new TopologySpreadConstraintBuilder()
+                    .withMaxSkew(spreadModel.getMaxSkew())
+                    .withTopologyKey(topologyKey)
+                    .withWhenUnsatisfiable(spreadModel.getWhenUnsatisfiable())
+                    .withNewLabelSelector()
+                    .withMatchLabels(deploymentModel.getLabels())
+                    .endLabelSelector()
+                    .build());
+        }
+        return constraints;
+    }
+
+    private Affinity getAffinity(DeploymentModel deploymentModel) {
+        SpreadModel spreadModel = deploymentModel.getSpreadModel();
+        if (!spreadModel.isEnabled() || !spreadModel.isAntiAffinity()) {
+            return deploymentModel.getAffinity();
+        }
+        // Soft anti-affinity so that replicas still schedule when there are fewer nodes than replicas.
+        AffinityBuilder affinityBuilder = deploymentModel.getAffinity() == null ? new AffinityBuilder() :
+                new AffinityBuilder(deploymentModel.getAffinity());
+        return affinityBuilder
+                .withNewPodAntiAffinity()
+                .addNewPreferredDuringSchedulingIgnoredDuringExecution()
+                .withWeight(100)
+                .withNewPodAffinityTerm()
+                .withNewLabelSelector()
+                .addToMatchLabels(KubernetesConstants.KUBERNETES_SELECTOR_KEY,
+                        deploymentModel.getLabels().get(KubernetesConstants.KUBERNETES_SELECTOR_KEY))
+                .endLabelSelector()
+                .withTopologyKey(KubernetesConstants.KUBERNETES_HOSTNAME_KEY)
+                .endPodAffinityTerm()
+                .endPreferredDuringSchedulingIgnoredDuringExecution()
+                .endPodAntiAffinity()
+                .build();
+    }
+
     /**
      * Generate kubernetes deployment definition from annotation.
      *
@@ -192,39 +444,105 @@ public class DeploymentHandler extends AbstractArtifactHandler {
             containerPorts = deploymentModel.getPorts();
         }
         Container container = generateContainer(deploymentModel, containerPorts);
-        Deployment deployment = new DeploymentBuilder()
+        PodTemplateSpec podTemplate = new PodTemplateSpecBuilder()
                 .withNewMetadata()
+                .addToLabels(deploymentModel.getLabels())
+                .addToAnnotations(deploymentModel.getPodAnnotations())
+                .endMetadata()
+                .withNewSpec()
+                .withContainers(container)
+                .withImagePullSecrets(getImagePullSecrets(deploymentModel))
+                .withVolumes(populateVolume(deploymentModel))
+                .withNodeSelector(deploymentModel.getNodeSelector())
+                .withAffinity(getAffinity(deploymentModel))
+                .withTopologySpreadConstraints(getTopologySpreadConstraints(deploymentModel))
+                .withPriorityClassName(deploymentModel.getPriorityClassName())
+                .endSpec()
+                .build();
+        ObjectMeta metadata = new ObjectMetaBuilder()
                 .withName(deploymentModel.getName())
                 .withLabels(deploymentModel.getLabels())
                 .withAnnotations(deploymentModel.getAnnotations())
                 .withNamespace(dataHolder.getNamespace())
-                .endMetadata()
+                .build();
+        if (deploymentModel.isStateful()) {
+            write(deploymentModel, getStatefulSet(deploymentModel, metadata, podTemplate),
+                    KubernetesConstants.STATEFUL_SET_FILE_POSTFIX);
+            return;
+        }
+        Deployment deployment = new DeploymentBuilder()
+                .withMetadata(metadata)
                 .withNewSpec()
                 .withNewSelector()
                 .withMatchLabels(deploymentModel.getLabels())
                 .endSelector()
                 .withStrategy(deploymentModel.getStrategy())
+                .withMinReadySeconds(deploymentModel.getMinReadySeconds())
+                .withProgressDeadlineSeconds(deploymentModel.getProgressDeadlineSeconds())
+                .withRevisionHistoryLimit(deploymentModel.getRevisionHistoryLimit())
                 .withReplicas(deploymentModel.getReplicas())
-                .withNewTemplate()
-                .withNewMetadata()
-                .addToLabels(deploymentModel.getLabels())
-                .addToAnnotations(deploymentModel.getPodAnnotations())
-                .endMetadata()
-                .withNewSpec()
-                .withContainers(container)
-                .withImagePullSecrets(getImagePullSecrets(deploymentModel))
-                .withVolumes(populateVolume(deploymentModel))
-                .withNodeSelector(deploymentModel.getNodeSelector())
+                .withTemplate(podTemplate)
                 .endSpec()
-                .endTemplate()
+                .build();
+        write(deploymentModel, deployment, DEPLOYMENT_FILE_POSTFIX);
+    }
+
+    /**
+     * Generate a stateful set which gives each replica its own claim of the volumes.
+     *
+     * @param deploymentModel deployment model
+     * @param metadata        metadata of the workload
+     * @param podTemplate     pod template of the workload
+     * @return stateful set
+     */
+    private StatefulSet getStatefulSet(DeploymentModel deploymentModel, ObjectMeta metadata,
+                                       PodTemplateSpec podTemplate) {
+        List<PersistentVolumeClaim> claimTemplates = new ArrayList<>();
+        for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
+            claimTemplates.add(PersistentVolumeClaimHandler.getPersistentVolumeClaim(volumeClaimModel, null));
+        }
+        StatefulSet statefulSet = new StatefulSetBuilder()
+                .withMetadata(metadata)
+                .withNewSpec()
+                .withNewSelector()
+                .withMatchLabels(deploymentModel.getLabels())
+                .endSelector()
+                .withServiceName(KubernetesUtils.getGoverningServiceName(deploymentModel,
+                        !dataHolder.getServiceModelList().isEmpty()))
+                .withNewUpdateStrategy()
+                .withType(KubernetesConstants.ROLLING_UPDATE_STRATEGY)
+                .endUpdateStrategy()
+                .withRevisionHistoryLimit(deploymentModel.getRevisionHistoryLimit())
+                .withReplicas(deploymentModel.getReplicas())
+                .withTemplate(podTemplate)
+                .withVolumeClaimTemplates(claimTemplates)
                 .endSpec()
                 .build();
+        // The stateful set model predates minReadySeconds and maxUnavailable of apps/v1. Stateful sets replace the
+        // pods one at a time, so the surge of the rolling update has no counterpart.
+        if (deploymentModel.getMinReadySeconds() != null) {
+            statefulSet.getSpec().setAdditionalProperty(KubernetesConstants.MIN_READY_SECONDS,
+                    deploymentModel.getMinReadySeconds());
+        }
+        DeploymentStrategy strategy = deploymentModel.getStrategy();
+        if (strategy != null && strategy.getRollingUpdate() != null &&
+                strategy.getRollingUpdate().getMaxUnavailable() != null) {
+            IntOrString maxUnavailable = strategy.getRollingUpdate().getMaxUnavailable();
+            RollingUpdateStatefulSetStrategy rollingUpdate = new RollingUpdateStatefulSetStrategy();
+            rollingUpdate.setAdditionalProperty(KubernetesConstants.MAX_UNAVAILABLE,
+                    maxUnavailable.getIntVal() != null ? maxUnavailable.getIntVal() : maxUnavailable.getStrVal());
+            statefulSet.getSpec().getUpdateStrategy().setRollingUpdate(rollingUpdate);
+        }
+        return statefulSet;
+    }
 
+    private void write(DeploymentModel deploymentModel, HasMetadata workload, String filePostfix)
+            throws KubernetesPluginException {
         try {
-            String deploymentContent = KubernetesUtils.asYaml(deployment);
-            String outputFileName = DEPLOYMENT_FILE_POSTFIX + KubernetesConstants.YAML;
+            String deploymentContent = KubernetesUtils.asYaml(workload);
+            String outputFileName = filePostfix + KubernetesConstants.YAML;
             if (dataHolder.isSingleYaml()) {
-                outputFileName = deployment.getMetadata().getName() + KubernetesConstants.YAML;
+                outputFileName = workload.getMetadata().getName() + KubernetesConstants.YAML;
             }
             KubernetesUtils.writeToFile(deploymentContent, outputFileName);
         } catch (IOException e) {
@@ -266,9 +584,18 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                     IntOrString(deploymentModel.getPorts().iterator().next().getContainerPort()));
         }
         resolveDockerToml(deploymentModel);
+        addSchedulerPoolSize(deploymentModel);
+        checkScratchMemory(deploymentModel);
+        deploymentModel.getNodeSelector().putAll(KubernetesUtils.getArchNodeSelector(dataHolder.getDockerModel()));
         generate(deploymentModel);
         dataHolder.setDockerModel(KubernetesUtils.getDockerModel(deploymentModel));
-        OUT.println("\t@kubernetes:Deployment");
+        for (ScratchVolumeModel scratchVolume : deploymentModel.getScratchVolumes()) {
+            if (scratchVolume.isTmpDir()) {
+                dataHolder.getDockerModel().setTmpDir(scratchVolume.getMountPath());
+                break;
+            }
+        }
+        printBanner(deploymentModel.isStateful() ? "\t@kubernetes:StatefulSet" : "\t@kubernetes:Deployment");
     }
 }
 
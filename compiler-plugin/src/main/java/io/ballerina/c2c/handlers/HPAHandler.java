@@ -49,7 +49,8 @@ public class HPAHandler extends AbstractArtifactHandler {
                 .withMaxReplicas(podAutoscalerModel.getMaxReplicas())
                 .withMinReplicas(podAutoscalerModel.getMinReplicas())
                 .withTargetCPUUtilizationPercentage(podAutoscalerModel.getCpuPercentage())
-                .withNewScaleTargetRef("apps/v1", "Deployment", podAutoscalerModel.getDeployment())
+                .withNewScaleTargetRef("apps/v1", dataHolder.getDeploymentModel().isStateful() ? "StatefulSet" :
+                        "Deployment", podAutoscalerModel.getDeployment())
                 .endSpec()
                 .build();
         try {
@@ -101,7 +102,7 @@ public class HPAHandler extends AbstractArtifactHandler {
         }
         resolveToml(podAutoscalerModel);
         generate(podAutoscalerModel);
-        OUT.println("\t@kubernetes:HPA");
+        printBanner("\t@kubernetes:HPA");
     }
 
     private boolean isHPAEnabled(PodAutoscalerModel podAutoscalerModel) {
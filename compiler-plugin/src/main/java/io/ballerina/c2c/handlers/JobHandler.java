@@ -28,12 +28,16 @@ import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
 import io.fabric8.kubernetes.api.model.batch.v1.CronJob;
 import io.fabric8.kubernetes.api.model.batch.v1.CronJobBuilder;
 import io.fabric8.kubernetes.api.model.batch.v1.Job;
 import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.JobSpec;
+import io.fabric8.kubernetes.api.model.batch.v1.JobSpecBuilder;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -74,25 +78,66 @@ public class JobHandler extends AbstractArtifactHandler {
         return new ContainerBuilder()
                 .withName(jobModel.getName())
                 .withImage(jobModel.getImage())
-                .withEnv(jobModel.getEnvVars())
+                .withEnv(getEnvVars(jobModel))
+                .withResources(jobModel.getResourceRequirements())
                 .build();
     }
 
-    private Job getJob(JobModel jobModel) {
-        JobBuilder jobBuilder = new JobBuilder()
-                .withNewMetadata()
-                .withName(jobModel.getName())
-                .withNamespace(dataHolder.getNamespace())
-                .endMetadata()
-                .withNewSpec()
+    /**
+     * Indexed jobs receive the completion index of the pod. The indexed completion mode is alpha in Kubernetes 1.21,
+     * beta and enabled by default from 1.22 and GA from 1.24. The index is read from the pod annotation through the
+     * downward API so that the variable does not depend on the job controller injecting `JOB_COMPLETION_INDEX`.
+     *
+     * @param jobModel job model
+     * @return environment variables of the job container
+     */
+    private List<EnvVar> getEnvVars(JobModel jobModel) {
+        List<EnvVar> envVars = new ArrayList<>(jobModel.getEnvVars());
+        if (jobModel.getCompletions() == null) {
+            return envVars;
+        }
+        envVars.add(new EnvVarBuilder()
+                .withName(KubernetesConstants.JOB_COMPLETION_INDEX_ENV)
+                .withNewValueFrom()
+                .withNewFieldRef()
+                .withFieldPath(KubernetesConstants.JOB_COMPLETION_INDEX_FIELD_PATH)
+                .endFieldRef()
+                .endValueFrom()
+                .build());
+        envVars.add(new EnvVarBuilder()
+                .withName(KubernetesConstants.JOB_COMPLETIONS_ENV)
+                .withValue(String.valueOf(jobModel.getCompletions()))
+                .build());
+        return envVars;
+    }
+
+    private JobSpec getJobSpec(JobModel jobModel) {
+        return new JobSpecBuilder()
+                .withParallelism(jobModel.getParallelism())
+                .withCompletions(jobModel.getCompletions())
+                .withCompletionMode(jobModel.getCompletions() == null ? null :
+                        KubernetesConstants.INDEXED_COMPLETION_MODE)
+                .withBackoffLimit(jobModel.getBackoffLimit())
+                .withActiveDeadlineSeconds(jobModel.getActiveDeadlineSeconds())
+                .withTtlSecondsAfterFinished(jobModel.getTtlSecondsAfterFinished())
                 .withNewTemplate()
                 .withNewSpec()
                 .withRestartPolicy(jobModel.getRestartPolicy())
                 .withContainers(generateContainer(jobModel))
+                .withNodeSelector(KubernetesUtils.getArchNodeSelector(dataHolder.getDockerModel()))
                 .withImagePullSecrets(getImagePullSecrets(jobModel))
                 .endSpec()
                 .endTemplate()
-                .endSpec();
+                .build();
+    }
+
+    private Job getJob(JobModel jobModel) {
+        JobBuilder jobBuilder = new JobBuilder()
+                .withNewMetadata()
+                .withName(jobModel.getName())
+                .withNamespace(dataHolder.getNamespace())
+                .endMetadata()
+                .withSpec(getJobSpec(jobModel));
         return jobBuilder.build();
     }
 
@@ -105,24 +150,27 @@ public class JobHandler extends AbstractArtifactHandler {
     }
 
     private CronJob getCronJob(JobModel jobModel) {
-        return new CronJobBuilder()
+        CronJob cronJob = new CronJobBuilder()
                 .withNewMetadata()
                 .withName(jobModel.getName())
+                .withNamespace(dataHolder.getNamespace())
                 .endMetadata()
                 .withNewSpec()
                 .withSchedule(jobModel.getSchedule())
+                .withConcurrencyPolicy(jobModel.getConcurrencyPolicy())
+                .withStartingDeadlineSeconds(jobModel.getStartingDeadlineSeconds())
+                .withSuccessfulJobsHistoryLimit(jobModel.getSuccessfulJobsHistoryLimit())
+                .withFailedJobsHistoryLimit(jobModel.getFailedJobsHistoryLimit())
                 .withNewJobTemplate()
-                .withNewSpec()
-                .withNewTemplate()
-                .withNewSpec()
-                .withRestartPolicy(jobModel.getRestartPolicy())
-                .withContainers(generateContainer(jobModel))
-                .endSpec()
-                .endTemplate()
-                .endSpec()
+                .withSpec(getJobSpec(jobModel))
                 .endJobTemplate()
                 .endSpec()
                 .build();
+        if (!KubernetesUtils.isBlank(jobModel.getTimeZone())) {
+            // The cron job model predates the timeZone field of batch/v1.
+            cronJob.getSpec().setAdditionalProperty(KubernetesConstants.TIME_ZONE, jobModel.getTimeZone());
+        }
+        return cronJob;
     }
 
 
@@ -142,7 +190,7 @@ public class JobHandler extends AbstractArtifactHandler {
             generate(jobModel);
             //generate dockerfile and docker image
             dataHolder.setDockerModel(getDockerModel(jobModel));
-            OUT.println("\t@kubernetes:Job");
+            printBanner("\t@kubernetes:Job");
         } catch (DockerGenException e) {
             Diagnostic diagnostic =
                     C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.DOCKER_FAILED, new NullLocation());
@@ -167,6 +215,7 @@ public class JobHandler extends AbstractArtifactHandler {
         dockerModel.setPkgId(dataHolder.getPackageID());
         dockerModel.setCopyFiles(jobModel.getCopyFiles());
         dockerModel.setPkgId(this.dataHolder.getPackageID());
+        dockerModel.setContainerHeap(true);
         return dockerModel;
     }
 }
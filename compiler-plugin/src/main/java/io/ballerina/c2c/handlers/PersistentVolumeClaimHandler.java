@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.PersistentVolumeClaimModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+
+import java.io.IOException;
+
+/**
+ * Generates kubernetes persistent volume claims for the volumes of the deployment.
+ */
+public class PersistentVolumeClaimHandler extends AbstractArtifactHandler {
+
+    private static final String DEFAULT_VOLUME_SIZE = "2Gi";
+
+    /**
+     * Build the persistent volume claim of a volume. Stateful sets use the same claim as the template of the
+     * per-replica claims.
+     *
+     * @param volumeClaimModel volume claim model
+     * @param namespace        namespace of the claim
+     * @return persistent volume claim
+     */
+    static PersistentVolumeClaim getPersistentVolumeClaim(PersistentVolumeClaimModel volumeClaimModel,
+                                                          String namespace) {
+        String size = KubernetesUtils.isBlank(volumeClaimModel.getVolumeClaimSizeAmount()) ? DEFAULT_VOLUME_SIZE :
+                volumeClaimModel.getVolumeClaimSizeAmount();
+        return new PersistentVolumeClaimBuilder()
+                .withNewMetadata()
+                .withName(volumeClaimModel.getName())
+                .withNamespace(namespace)
+                .withAnnotations(volumeClaimModel.getAnnotations().isEmpty() ? null :
+                        volumeClaimModel.getAnnotations())
+                .endMetadata()
+                .withNewSpec()
+                .withAccessModes(volumeClaimModel.getAccessModes())
+                .withStorageClassName(volumeClaimModel.getStorageClass())
+                .withVolumeMode(volumeClaimModel.getVolumeMode())
+                .withNewResources()
+                .addToRequests(KubernetesConstants.STORAGE, new Quantity(size))
+                .endResources()
+                .endSpec()
+                .build();
+    }
+
+    private void generate(PersistentVolumeClaimModel volumeClaimModel) throws KubernetesPluginException {
+        PersistentVolumeClaim claim = getPersistentVolumeClaim(volumeClaimModel, dataHolder.getNamespace());
+        try {
+            String claimContent = KubernetesUtils.asYaml(claim);
+            String outputFileName = KubernetesConstants.VOLUME_CLAIM_FILE_POSTFIX + KubernetesConstants.YAML;
+            if (dataHolder.isSingleYaml()) {
+                outputFileName = claim.getMetadata().getName() + KubernetesConstants.YAML;
+            }
+            KubernetesUtils.writeToFile(claimContent, outputFileName);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "persistent volume claim", volumeClaimModel.getName());
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        // Stateful sets create a claim per replica from the claim templates.
+        if (deploymentModel.isStateful() || deploymentModel.getVolumeClaimModels().isEmpty()) {
+            return;
+        }
+        for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
+            generate(volumeClaimModel);
+        }
+        printBanner("\t@kubernetes:PersistentVolumeClaim");
+    }
+}
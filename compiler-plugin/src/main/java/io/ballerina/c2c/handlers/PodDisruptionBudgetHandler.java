@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.SpreadModel;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudget;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudgetBuilder;
+
+import java.io.IOException;
+
+/**
+ * Generates kubernetes Pod Disruption Budget for deployments spread across nodes and zones.
+ */
+public class PodDisruptionBudgetHandler extends AbstractArtifactHandler {
+
+    private void generate(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        SpreadModel spreadModel = deploymentModel.getSpreadModel();
+        String name = KubernetesUtils.getValidName(dataHolder.getOutputName() + KubernetesConstants.PDB_POSTFIX);
+        PodDisruptionBudget podDisruptionBudget = new PodDisruptionBudgetBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .withNamespace(dataHolder.getNamespace())
+                .addToLabels(KubernetesConstants.KUBERNETES_SELECTOR_KEY, dataHolder.getOutputName())
+                .endMetadata()
+                .withNewSpec()
+                .withMaxUnavailable(new IntOrString(spreadModel.getMaxUnavailable()))
+                .withNewSelector()
+                .withMatchLabels(deploymentModel.getLabels())
+                .endSelector()
+                .endSpec()
+                .build();
+        try {
+            String pdbContent = KubernetesUtils.asYaml(podDisruptionBudget);
+            String outputFileName = KubernetesConstants.PDB_FILE_POSTFIX + KubernetesConstants.YAML;
+            if (dataHolder.isSingleYaml()) {
+                outputFileName = podDisruptionBudget.getMetadata().getName() + KubernetesConstants.YAML;
+            }
+            KubernetesUtils.writeToFile(pdbContent, outputFileName);
+        } catch (IOException e) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                    new NullLocation(), "pod disruption budget", name);
+            throw new KubernetesPluginException(diagnostic);
+        }
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        if (!deploymentModel.getSpreadModel().isEnabled()) {
+            return;
+        }
+        generate(deploymentModel);
+        printBanner("\t@kubernetes:PodDisruptionBudget");
+    }
+}
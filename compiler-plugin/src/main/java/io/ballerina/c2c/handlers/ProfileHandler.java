@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import io.ballerina.c2c.ArtifactManager;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.diagnostics.NullLocation;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.KubernetesContext;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.util.C2CDiagnosticCodes;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TomlHelper;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.tools.diagnostics.Diagnostic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates a kustomize base and an overlay for each profile of the Cloud.toml. A profile overrides any table of the
+ * Cloud.toml, e.g. {@code [cloud.profiles.prod.cloud.deployment]} overrides {@code [cloud.deployment]} for the
+ * {@code prod} profile. Tables are merged key by key, while arrays of tables are replaced.
+ * <p>
+ * The analysis result is copied when the handler is created, before the artifacts of the package update it with the
+ * Cloud.toml. The profiles are then generated in parallel, each from its own copy bound to the generating thread, and
+ * written as json patches over the base. The docker image is only built for the package, hence the container settings
+ * of a profile only change the manifests.
+ */
+public class ProfileHandler extends AbstractArtifactHandler {
+
+    private static final String BASE_DIR = "base";
+    private static final String OVERLAYS_DIR = "overlays";
+    private static final String KUSTOMIZATION_FILE = "kustomization.yaml";
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(
+            new YAMLFactory().disable(YAMLGenerator.Feature.USE_NATIVE_TYPE_ID));
+
+    private final boolean isNative;
+    private final Set<String> profiles;
+    private final KubernetesDataHolder analysisResult;
+
+    public ProfileHandler(boolean isNative) throws KubernetesPluginException {
+        this.isNative = isNative;
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        this.profiles = ballerinaCloud == null ? new TreeSet<>() : TomlHelper.getTableKeys(ballerinaCloud,
+                TomlHelper.PROFILES);
+        if (this.profiles.isEmpty()) {
+            this.analysisResult = null;
+            return;
+        }
+        try {
+            this.analysisResult = dataHolder.copy();
+        } catch (IllegalArgumentException e) {
+            throw createException("profiles", e.getMessage());
+        }
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        Path kustomizeDir = getKustomizeDir();
+        KubernetesUtils.deleteDirectory(kustomizeDir);
+        if (profiles.isEmpty()) {
+            return;
+        }
+        Map<String, Map<String, Object>> baseResources = writeBase(kustomizeDir.resolve(BASE_DIR));
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(profiles.size(),
+                Runtime.getRuntime().availableProcessors()));
+        try {
+            Map<String, Future<Void>> overlays = new LinkedHashMap<>();
+            for (String profile : profiles) {
+                overlays.put(profile, executor.submit(() -> {
+                    createOverlay(profile, baseResources, getOverlayDir(profile));
+                    return null;
+                }));
+            }
+            for (Map.Entry<String, Future<Void>> overlay : overlays.entrySet()) {
+                waitFor(overlay.getKey(), overlay.getValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        OUT.println("\t@kubernetes:Kustomize \t\t\t - " + profiles.size() + " overlays");
+    }
+
+    /**
+     * Get the names of the profiles of the Cloud.toml.
+     *
+     * @return profile names
+     */
+    public Set<String> getProfiles() {
+        return profiles;
+    }
+
+    /**
+     * Get the kustomize directory, which is a sibling of the artifact directory so that the artifacts can still be
+     * applied as a directory.
+     *
+     * @return kustomize directory
+     */
+    public Path getKustomizeDir() {
+        Path outputPath = dataHolder.getK8sArtifactOutputPath();
+        return outputPath.resolveSibling(outputPath.getFileName() + KubernetesConstants.KUSTOMIZE_DIR_POSTFIX);
+    }
+
+    /**
+     * Get the overlay directory of a profile, to be applied with {@code kubectl apply -k}.
+     *
+     * @param profile profile name
+     * @return overlay directory
+     */
+    public Path getOverlayDir(String profile) {
+        return getKustomizeDir().resolve(OVERLAYS_DIR).resolve(profile);
+    }
+
+    private void waitFor(String profile, Future<Void> overlay) throws KubernetesPluginException {
+        try {
+            overlay.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof KubernetesPluginException) {
+                throw (KubernetesPluginException) e.getCause();
+            }
+            throw createException("profile " + profile, String.valueOf(e.getCause().getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw createException("profile " + profile, "interrupted");
+        }
+    }
+
+    private Map<String, Map<String, Object>> writeBase(Path baseDir) throws KubernetesPluginException {
+        List<String> resources = new ArrayList<>();
+        Path outputPath = dataHolder.getK8sArtifactOutputPath();
+        try (Stream<Path> paths = Files.list(outputPath)) {
+            Files.createDirectories(baseDir);
+            for (Path path : paths.filter(path -> path.toString().endsWith(KubernetesConstants.YAML)).sorted()
+                    .collect(Collectors.toList())) {
+                Files.copy(path, baseDir.resolve(path.getFileName()));
+                resources.add(path.getFileName().toString());
+            }
+            writeKustomization(baseDir, resources, new ArrayList<>());
+            return KubernetesUtils.readResources(outputPath);
+        } catch (IOException e) {
+            throw createException("kustomize base", e.getMessage());
+        }
+    }
+
+    private void createOverlay(String profile, Map<String, Map<String, Object>> baseResources, Path overlayDir)
+            throws KubernetesPluginException {
+        if (!profile.matches("[a-zA-Z0-9_-]+")) {
+            throw createException("profile " + profile,
+                    "profile names may only contain letters, digits, `_` and `-`");
+        }
+        KubernetesDataHolder profileDataHolder = analysisResult.copy();
+        profileDataHolder.setBallerinaCloud(TomlHelper.getProfileToml(dataHolder.getBallerinaCloud(), profile));
+        // The dependency graph is shared with other packages, hence the affinity is resolved for the package only.
+        profileDataHolder.getDeploymentModel().setAffinity(dataHolder.getDeploymentModel().getAffinity());
+        Path renderDir = null;
+        KubernetesContext context = KubernetesContext.getInstance();
+        try {
+            renderDir = Files.createTempDirectory("c2c-" + profile);
+            profileDataHolder.setK8sArtifactOutputPath(renderDir);
+            context.setProfileDataHolder(profile, profileDataHolder);
+            new ArtifactManager().createKubernetesResources(isNative, true);
+            writeOverlay(overlayDir, baseResources, KubernetesUtils.readResources(renderDir));
+        } catch (IOException e) {
+            throw createException("profile " + profile, e.getMessage());
+        } finally {
+            context.setProfileDataHolder(profile, null);
+            if (renderDir != null) {
+                KubernetesUtils.deleteDirectory(renderDir);
+            }
+        }
+    }
+
+    private void writeOverlay(Path overlayDir, Map<String, Map<String, Object>> baseResources,
+                              Map<String, Map<String, Object>> profileResources) throws IOException {
+        Files.createDirectories(overlayDir);
+        List<String> resources = new ArrayList<>();
+        resources.add("../../" + BASE_DIR);
+        List<Map<String, Object>> patches = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Object>> entry : profileResources.entrySet()) {
+            Map<String, Object> resource = entry.getValue();
+            Map<String, Object> baseResource = baseResources.get(entry.getKey());
+            String fileName = getFileName(resource);
+            if (baseResource == null) {
+                writeYaml(overlayDir.resolve(fileName), resource);
+                resources.add(fileName);
+                continue;
+            }
+            List<Map<String, Object>> operations = new ArrayList<>();
+            diff("", baseResource, resource, operations);
+            if (operations.isEmpty()) {
+                continue;
+            }
+            writeYaml(overlayDir.resolve("patch-" + fileName), operations);
+            Map<String, Object> patch = new LinkedHashMap<>();
+            patch.put("path", "patch-" + fileName);
+            patch.put("target", getTarget(resource));
+            patches.add(patch);
+        }
+        for (Map.Entry<String, Map<String, Object>> entry : baseResources.entrySet()) {
+            if (profileResources.containsKey(entry.getKey())) {
+                continue;
+            }
+            String fileName = "delete-" + getFileName(entry.getValue());
+            writeYaml(overlayDir.resolve(fileName), getDeletePatch(entry.getValue()));
+            Map<String, Object> patch = new LinkedHashMap<>();
+            patch.put("path", fileName);
+            patches.add(patch);
+        }
+        writeKustomization(overlayDir, resources, patches);
+    }
+
+    /**
+     * Add the json patch operations turning a value of the base into the value of the profile. Tables are compared
+     * key by key, so that a patch only touches the fields changed by the profile.
+     */
+    @SuppressWarnings("unchecked")
+    private void diff(String pointer, Object base, Object profile, List<Map<String, Object>> operations) {
+        if (Objects.equals(base, profile)) {
+            return;
+        }
+        if (!(base instanceof Map) || !(profile instanceof Map)) {
+            operations.add(getOperation("replace", pointer, profile));
+            return;
+        }
+        Map<String, Object> baseTable = (Map<String, Object>) base;
+        Map<String, Object> profileTable = (Map<String, Object>) profile;
+        for (String key : baseTable.keySet()) {
+            if (!profileTable.containsKey(key)) {
+                operations.add(getOperation("remove", pointer + "/" + escape(key), null));
+            }
+        }
+        for (Map.Entry<String, Object> entry : profileTable.entrySet()) {
+            String entryPointer = pointer + "/" + escape(entry.getKey());
+            if (baseTable.containsKey(entry.getKey())) {
+                diff(entryPointer, baseTable.get(entry.getKey()), entry.getValue(), operations);
+            } else {
+                operations.add(getOperation("add", entryPointer, entry.getValue()));
+            }
+        }
+    }
+
+    private Map<String, Object> getOperation(String op, String path, Object value) {
+        Map<String, Object> operation = new LinkedHashMap<>();
+        operation.put("op", op);
+        operation.put("path", path);
+        if (!"remove".equals(op)) {
+            operation.put("value", value);
+        }
+        return operation;
+    }
+
+    private String escape(String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+
+    private Map<String, Object> getTarget(Map<String, Object> resource) {
+        String apiVersion = String.valueOf(resource.get("apiVersion"));
+        Map<String, Object> target = new LinkedHashMap<>();
+        int separator = apiVersion.lastIndexOf('/');
+        if (separator != -1) {
+            target.put("group", apiVersion.substring(0, separator));
+        }
+        target.put("version", apiVersion.substring(separator + 1));
+        target.put("kind", resource.get("kind"));
+        Map<?, ?> metadata = (Map<?, ?>) resource.get("metadata");
+        target.put("name", metadata.get("name"));
+        if (metadata.get("namespace") != null) {
+            target.put("namespace", metadata.get("namespace"));
+        }
+        return target;
+    }
+
+    private Map<String, Object> getDeletePatch(Map<String, Object> resource) {
+        Map<?, ?> baseMetadata = (Map<?, ?>) resource.get("metadata");
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("name", baseMetadata.get("name"));
+        if (baseMetadata.get("namespace") != null) {
+            metadata.put("namespace", baseMetadata.get("namespace"));
+        }
+        Map<String, Object> patch = new LinkedHashMap<>();
+        patch.put("apiVersion", resource.get("apiVersion"));
+        patch.put("kind", resource.get("kind"));
+        patch.put("metadata", metadata);
+        patch.put("$patch", "delete");
+        return patch;
+    }
+
+    private String getFileName(Map<String, Object> resource) {
+        Map<?, ?> metadata = (Map<?, ?>) resource.get("metadata");
+        return String.valueOf(resource.get("kind")).toLowerCase(Locale.ENGLISH) + "-" + metadata.get("name") +
+                KubernetesConstants.YAML;
+    }
+
+    private void writeKustomization(Path dir, List<String> resources, List<Map<String, Object>> patches)
+            throws IOException {
+        Map<String, Object> kustomization = new LinkedHashMap<>();
+        kustomization.put("apiVersion", "kustomize.config.k8s.io/v1beta1");
+        kustomization.put("kind", "Kustomization");
+        kustomization.put("resources", resources);
+        if (!patches.isEmpty()) {
+            kustomization.put("patches", patches);
+        }
+        writeYaml(dir.resolve(KUSTOMIZATION_FILE), kustomization);
+    }
+
+    private void writeYaml(Path path, Object value) throws IOException {
+        YAML_MAPPER.writeValue(path.toFile(), value);
+    }
+
+    private KubernetesPluginException createException(String artifact, String message) {
+        Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
+                new NullLocation(), artifact, message);
+        return new KubernetesPluginException(diagnostic);
+    }
+}
@@ -79,7 +79,7 @@ public class SecretHandler extends AbstractArtifactHandler {
             }
             generate(secretModel);
         }
-        OUT.println("\t@kubernetes:Secret");
+        printBanner("\t@kubernetes:Secret");
     }
 
 }
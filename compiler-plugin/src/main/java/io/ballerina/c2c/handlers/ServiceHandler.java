@@ -35,27 +35,29 @@ import io.fabric8.kubernetes.api.model.ServicePortBuilder;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Generates kubernetes service from annotations.
  */
 public class ServiceHandler extends AbstractArtifactHandler {
 
-    private void generate(List<ServiceModel> serviceModels) throws KubernetesPluginException {
+    private List<ServicePort> generate(List<ServiceModel> serviceModels) throws KubernetesPluginException {
         if (serviceModels.isEmpty()) {
-            return;
+            return Collections.emptyList();
         }
         int count = 0;
         ServiceModel commonService = new ServiceModel();
         commonService.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, dataHolder.getOutputName());
         commonService.setSelector(dataHolder.getOutputName());
         final DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
-        if (deploymentModel.getInternalDomainName() != null) {
-            commonService.setName(deploymentModel.getInternalDomainName());
-        } else {
-            commonService.setName(KubernetesUtils.getValidName(deploymentModel.getName()
-                    .replace(KubernetesConstants.DEPLOYMENT_POSTFIX, "") + KubernetesConstants.SVC_POSTFIX));
+        commonService.setName(KubernetesUtils.getServiceName(deploymentModel));
+        Map<String, String> annotations = null;
+        if (deploymentModel.getCoLocation() != null) {
+            // Keep traffic from co-located callers within the same zone when the endpoints allow it.
+            annotations = Collections.singletonMap(KubernetesConstants.TOPOLOGY_MODE_ANNOTATION, "Auto");
         }
         List<ServicePort> servicePorts = new ArrayList<>();
         for (ServiceModel serviceModel : serviceModels) {
@@ -63,33 +65,79 @@ public class ServiceHandler extends AbstractArtifactHandler {
             if (null == serviceModel.getPortName()) {
                 serviceModel.setPortName(KubernetesUtils.getValidName("port-" + count + "-" + commonService.getName()));
             }
+            String protocol = getProtocol(serviceModel);
             ServicePortBuilder servicePortBuilder = new ServicePortBuilder()
                     .withName(serviceModel.getPortName())
-                    .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                    .withProtocol(protocol)
+                    .withAppProtocol(getAppProtocol(serviceModel))
                     .withPort(serviceModel.getPort())
                     .withNewTargetPort(serviceModel.getTargetPort());
             servicePorts.add(servicePortBuilder.build());
             ContainerPort containerPort = new ContainerPortBuilder()
                     .withName(serviceModel.getPortName())
                     .withContainerPort(serviceModel.getTargetPort())
-                    .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                    .withProtocol(protocol)
                     .build();
             deploymentModel.addPort(containerPort);
         }
 
+        // Only ClusterIP services can be headless. The API server rejects NodePort and LoadBalancer services without
+        // a cluster IP.
+        boolean headless = deploymentModel.isHeadlessService();
+        if (headless && !KubernetesConstants.ServiceType.ClusterIP.name().equals(commonService.getServiceType())) {
+            KubernetesUtils.printWarning("`headless_service` is ignored for the " + commonService.getServiceType() +
+                    " service `" + commonService.getName() + "`");
+            headless = false;
+        }
         Service service = new ServiceBuilder()
                 .withNewMetadata()
                 .withName(commonService.getName())
                 .withNamespace(dataHolder.getNamespace())
                 .addToLabels(commonService.getLabels())
+                .withAnnotations(annotations)
                 .endMetadata()
                 .withNewSpec()
                 .withPorts(servicePorts)
                 .addToSelector(KubernetesConstants.KUBERNETES_SELECTOR_KEY, commonService.getSelector())
                 .withSessionAffinity(commonService.getSessionAffinity())
                 .withType(commonService.getServiceType())
+                .withClusterIP(headless ? KubernetesConstants.KUBERNETES_HEADLESS_CLUSTER_IP : null)
                 .endSpec()
                 .build();
+        write(service);
+        return servicePorts;
+    }
+
+    /**
+     * Generate the headless service which governs the network identity of the stateful set pods. The stateful set
+     * refers to it through `serviceName`, so it is generated even if the workload is not exposed.
+     *
+     * @param servicePorts ports of the service which exposes the workload
+     * @throws KubernetesPluginException if an error occurs while writing the service
+     */
+    private void generateGoverningService(List<ServicePort> servicePorts) throws KubernetesPluginException {
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        String serviceName = KubernetesUtils.getGoverningServiceName(deploymentModel, !servicePorts.isEmpty());
+        if (serviceName.equals(KubernetesUtils.getServiceName(deploymentModel)) && !servicePorts.isEmpty()) {
+            // The service which exposes the workload is already headless.
+            return;
+        }
+        Service service = new ServiceBuilder()
+                .withNewMetadata()
+                .withName(serviceName)
+                .withNamespace(dataHolder.getNamespace())
+                .addToLabels(KubernetesConstants.KUBERNETES_SELECTOR_KEY, dataHolder.getOutputName())
+                .endMetadata()
+                .withNewSpec()
+                .withPorts(servicePorts)
+                .addToSelector(KubernetesConstants.KUBERNETES_SELECTOR_KEY, dataHolder.getOutputName())
+                .withClusterIP(KubernetesConstants.KUBERNETES_HEADLESS_CLUSTER_IP)
+                .endSpec()
+                .build();
+        write(service);
+    }
+
+    private void write(Service service) throws KubernetesPluginException {
         try {
             String serviceYAML = KubernetesUtils.asYaml(service);
             String outputFileName = KubernetesConstants.SVC_FILE_POSTFIX + KubernetesConstants.YAML;
@@ -99,16 +147,56 @@ public class ServiceHandler extends AbstractArtifactHandler {
             KubernetesUtils.writeToFile(serviceYAML, outputFileName);
         } catch (IOException e) {
             Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.ARTIFACT_GEN_FAILED,
-                    new NullLocation(), "service" , commonService.getName());
+                    new NullLocation(), "service" , service.getMetadata().getName());
             throw new KubernetesPluginException(diagnostic);
         }
+    }
 
+    private String getProtocol(ServiceModel serviceModel) {
+        if ("udp".equals(serviceModel.getListenerType())) {
+            return KubernetesConstants.KUBERNETES_SVC_UDP_PROTOCOL;
+        }
+        return KubernetesConstants.KUBERNETES_SVC_PROTOCOL;
+    }
+
+    /**
+     * Get the application protocol of the listener. Proxies and service meshes use it to balance HTTP/2 based
+     * protocols per request instead of per connection. Secured HTTP listeners negotiate the HTTP version over TLS, so
+     * they are declared as https.
+     *
+     * @param serviceModel Service model
+     * @return application protocol or null if it cannot be derived from the listener
+     */
+    private String getAppProtocol(ServiceModel serviceModel) {
+        boolean secured = "https".equals(serviceModel.getProtocol());
+        if (serviceModel.getListenerType() == null) {
+            return null;
+        }
+        switch (serviceModel.getListenerType()) {
+            case "grpc":
+                return KubernetesConstants.APP_PROTOCOL_GRPC;
+            case "websocket":
+                return secured ? KubernetesConstants.APP_PROTOCOL_WSS : KubernetesConstants.APP_PROTOCOL_WS;
+            case "http":
+            case "graphql":
+            case "websub":
+            case "websubhub":
+                if (secured) {
+                    return KubernetesConstants.APP_PROTOCOL_HTTPS;
+                }
+                return serviceModel.isHttp2() ? KubernetesConstants.APP_PROTOCOL_H2C : null;
+            default:
+                return null;
+        }
     }
 
     @Override
     public void createArtifacts() throws KubernetesPluginException {
-        generate(dataHolder.getServiceModelList());
-        OUT.println("\t@kubernetes:Service");
+        List<ServicePort> servicePorts = generate(dataHolder.getServiceModelList());
+        if (dataHolder.getDeploymentModel().isStateful()) {
+            generateGoverningService(servicePorts);
+        }
+        printBanner("\t@kubernetes:Service");
     }
 
 }
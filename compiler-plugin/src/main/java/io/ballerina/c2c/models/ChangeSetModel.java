@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model class to hold the kubernetes resources changed since the previous build.
+ */
+@Data
+public class ChangeSetModel {
+    private List<ResourceStateModel> added;
+    private List<ResourceStateModel> modified;
+    private List<ResourceStateModel> deleted;
+    private List<ResourceStateModel> unchanged;
+
+    public ChangeSetModel() {
+        this.added = new ArrayList<>();
+        this.modified = new ArrayList<>();
+        this.deleted = new ArrayList<>();
+        this.unchanged = new ArrayList<>();
+    }
+}
@@ -17,6 +17,8 @@
  */
 package io.ballerina.c2c.models;
 
+import io.ballerina.c2c.KubernetesConstants;
+import io.fabric8.kubernetes.api.model.Affinity;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.Quantity;
@@ -57,14 +59,27 @@ public class DeploymentModel extends KubernetesModel {
     private Set<SecretModel> secretModels;
     private Set<ConfigMapModel> configMapModels;
     private Set<PersistentVolumeClaimModel> volumeClaimModels;
+    private boolean stateful;
+    private List<ScratchVolumeModel> scratchVolumes;
     private Set<String> imagePullSecrets;
     private String commandArgs;
     private String registry;
     private DeploymentStrategy strategy;
+    private Integer minReadySeconds;
+    private Integer progressDeadlineSeconds;
+    private Integer revisionHistoryLimit;
     private Map<String, String> nodeSelector;
     private String dockerConfigPath;
     private ResourceRequirements resourceRequirements;
     private String internalDomainName;
+    private boolean headlessService;
+    private String profile;
+    private String priorityClassName;
+    private Affinity affinity;
+    private String coLocation;
+    private String dependencyGraphDir;
+    private WarmUpModel warmUpModel;
+    private SpreadModel spreadModel;
 
     public DeploymentModel() {
         // Initialize with default values.
@@ -78,11 +93,14 @@ public class DeploymentModel extends KubernetesModel {
         this.secretModels = new HashSet<>();
         this.configMapModels = new HashSet<>();
         this.volumeClaimModels = new HashSet<>();
+        this.scratchVolumes = new ArrayList<>();
         this.imagePullSecrets = new HashSet<>();
         this.commandArgs = "";
         this.registry = "";
+        this.warmUpModel = new WarmUpModel();
+        this.spreadModel = new SpreadModel();
         Map<String, Quantity> limit = new HashMap<>();
-        limit.put("cpu", new Quantity("500m"));
+        limit.put("cpu", new Quantity(KubernetesConstants.DEFAULT_MAX_CPU));
         limit.put("memory", new Quantity("256Mi"));
         Map<String, Quantity> resource = new HashMap<>();
         resource.put("cpu", new Quantity("200m"));
@@ -29,6 +29,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
@@ -47,6 +48,12 @@ public class DockerModel {
     private String tag;
     private boolean buildImage;
     private String baseImage;
+    private int javaVersion;
+    private String gcProfile;
+    private boolean fixedHeap;
+    private boolean containerHeap;
+    private String tmpDir;
+    private Set<String> platforms;
     private Set<Integer> ports;
     private boolean enableDebug;
     private int debugPort;
@@ -57,6 +64,8 @@ public class DockerModel {
     private String cmd;
     private Map<String, String> env;
     private Set<Path> dependencyJarPaths;
+    private Set<Path> runtimeJarPaths;
+    private String runtimeImage;
     private PackageID pkgId;
     private Path fatJarPath;
 
@@ -66,12 +75,15 @@ public class DockerModel {
         this.buildImage = true;
         this.baseImage = windowsBuild ? DockerGenConstants.OPENJDK_11_JRE_WINDOWS_BASE_IMAGE :
                 DockerGenConstants.OPENJDK_11_JRE_SLIM_BASE;
+        this.javaVersion = DockerGenConstants.DEFAULT_JAVA_VERSION;
         this.enableDebug = false;
         this.debugPort = 5005;
         externalFiles = new HashSet<>();
         commandArg = "";
         env = new HashMap<>();
         dependencyJarPaths = new TreeSet<>();
+        runtimeJarPaths = new TreeSet<>();
+        platforms = new LinkedHashSet<>();
     }
 
     public void addDependencyJarPaths(Set<Path> paths) {
@@ -82,6 +94,10 @@ public class DockerModel {
         return this.dependencyJarPaths.stream().sorted().collect(Collectors.toSet());
     }
 
+    public void addRuntimeJarPaths(Set<Path> paths) {
+        this.runtimeJarPaths.addAll(paths);
+    }
+
     public Set<CopyFileModel> getCopyFiles() {
         return externalFiles;
     }
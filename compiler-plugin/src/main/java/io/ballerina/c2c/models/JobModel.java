@@ -19,12 +19,16 @@
 package io.ballerina.c2c.models;
 
 import io.ballerina.c2c.KubernetesConstants;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static io.ballerina.c2c.DockerGenConstants.OPENJDK_11_JRE_SLIM_BASE;
@@ -36,9 +40,18 @@ import static io.ballerina.c2c.DockerGenConstants.OPENJDK_11_JRE_SLIM_BASE;
 @Data
 public class JobModel extends KubernetesModel {
     private String restartPolicy;
-    private int backoffLimit;
-    private int activeDeadlineSeconds;
+    private Integer backoffLimit;
+    private Long activeDeadlineSeconds;
+    private Integer parallelism;
+    private Integer completions;
+    private Integer ttlSecondsAfterFinished;
+    private ResourceRequirements resourceRequirements;
     private String schedule;
+    private String concurrencyPolicy;
+    private Long startingDeadlineSeconds;
+    private Integer successfulJobsHistoryLimit;
+    private Integer failedJobsHistoryLimit;
+    private String timeZone;
     private String image;
     private boolean buildImage;
     private String dockerHost;
@@ -58,8 +71,18 @@ public class JobModel extends KubernetesModel {
         this.setBaseImage(OPENJDK_11_JRE_SLIM_BASE);
         this.buildImage = true;
         this.envVars = new ArrayList<>();
-        this.activeDeadlineSeconds = 20;
         this.imagePullSecrets = new HashSet<>();
         this.uberJar = false;
+        this.ttlSecondsAfterFinished = 86400;
+        Map<String, Quantity> limits = new HashMap<>();
+        limits.put(KubernetesConstants.CPU, new Quantity(KubernetesConstants.DEFAULT_MAX_CPU));
+        limits.put(KubernetesConstants.MEMORY, new Quantity("256Mi"));
+        Map<String, Quantity> requests = new HashMap<>();
+        requests.put(KubernetesConstants.CPU, new Quantity("200m"));
+        requests.put(KubernetesConstants.MEMORY, new Quantity("256Mi"));
+        this.resourceRequirements = new ResourceRequirementsBuilder()
+                .withLimits(limits)
+                .withRequests(requests)
+                .build();
     }
 }
@@ -20,6 +20,9 @@ package io.ballerina.c2c.models;
 
 import org.ballerinalang.model.elements.PackageID;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Class to hold Kubernetes data holder against package id.
  */
@@ -27,6 +30,9 @@ public class KubernetesContext {
     private static KubernetesContext instance;
     private KubernetesDataHolder kubernetesDataHolder;
     private PackageID currentPackage;
+    private final ThreadLocal<KubernetesDataHolder> profileDataHolder = new ThreadLocal<>();
+    private final ThreadLocal<String> profile = new ThreadLocal<>();
+    private final Set<String> warnings = ConcurrentHashMap.newKeySet();
 
     private KubernetesContext() {
         kubernetesDataHolder = new KubernetesDataHolder();
@@ -47,10 +53,52 @@ public class KubernetesContext {
 
     public void setCurrentPackage(PackageID packageID) {
         this.currentPackage = packageID;
+        this.warnings.clear();
     }
 
     public KubernetesDataHolder getDataHolder() {
-        return this.kubernetesDataHolder;
+        KubernetesDataHolder dataHolder = this.profileDataHolder.get();
+        return dataHolder != null ? dataHolder : this.kubernetesDataHolder;
+    }
+
+    /**
+     * Bind the data holder of a Cloud.toml profile to the current thread, which generates the artifacts of the
+     * profile. The data holder of the package is returned again once the binding is removed.
+     *
+     * @param profile    name of the profile
+     * @param dataHolder data holder of the profile, or null to remove the binding
+     */
+    public void setProfileDataHolder(String profile, KubernetesDataHolder dataHolder) {
+        if (dataHolder == null) {
+            this.profileDataHolder.remove();
+            this.profile.remove();
+        } else {
+            this.profileDataHolder.set(dataHolder);
+            this.profile.set(profile);
+        }
+    }
+
+    /**
+     * Get the profile whose artifacts are generated by the current thread.
+     *
+     * @return name of the profile, or null if the artifacts of the package are generated
+     */
+    public String getProfile() {
+        return this.profile.get();
+    }
+
+    /**
+     * Record a warning of the current package. A profile regenerates the artifacts of the package, hence a warning
+     * of a profile is only new when the package did not report it already.
+     *
+     * @param warning warning message
+     * @return true if the warning should be printed
+     */
+    public boolean addWarning(String warning) {
+        if (this.profile.get() == null) {
+            return this.warnings.add(warning);
+        }
+        return !this.warnings.contains(warning);
     }
 
 }
@@ -18,6 +18,10 @@
 
 package io.ballerina.c2c.models;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.ballerina.toml.api.Toml;
 import lombok.Data;
 import org.ballerinalang.model.elements.PackageID;
@@ -35,10 +39,15 @@ import java.util.Set;
  */
 @Data
 public class KubernetesDataHolder {
+    private static final ObjectMapper MODEL_MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
     private DeploymentModel deploymentModel;
     private DockerModel dockerModel;
     private PodAutoscalerModel podAutoscalerModel;
     private List<ServiceModel> serviceModelList;
+    private List<ClientDependencyModel> clientDependencies;
     private Map<String, Set<SecretModel>> bListenerToSecretMap;
     private Set<SecretModel> secretModelSet;
     private Set<ConfigMapModel> configMapModelSet;
@@ -52,10 +61,12 @@ public class KubernetesDataHolder {
     private PackageID packageID;
     private Toml ballerinaCloud;
     private boolean singleYaml;
+    private boolean changeSet;
     private String outputName;
 
     KubernetesDataHolder() {
         this.serviceModelList = new ArrayList<>();
+        this.clientDependencies = new ArrayList<>();
         this.bListenerToSecretMap = new HashMap<>();
         this.secretModelSet = new HashSet<>();
         this.configMapModelSet = new HashSet<>();
@@ -81,4 +92,48 @@ public class KubernetesDataHolder {
         this.serviceModelList.add(serviceModel);
     }
 
+    public void addClientDependency(ClientDependencyModel clientDependency) {
+        this.clientDependencies.add(clientDependency);
+    }
+
+    /**
+     * Create a copy of the analysis result to generate the artifacts of a Cloud.toml profile from. The models are
+     * deep copied as the generation updates them. The docker model only keeps the jars, as the image is built once
+     * for the package.
+     *
+     * @return copy of the data holder
+     * @throws IllegalArgumentException if a model cannot be copied
+     */
+    public KubernetesDataHolder copy() {
+        KubernetesDataHolder copy = new KubernetesDataHolder();
+        copy.deploymentModel = copyOf(this.deploymentModel, new TypeReference<DeploymentModel>() { });
+        copy.podAutoscalerModel = copyOf(this.podAutoscalerModel, new TypeReference<PodAutoscalerModel>() { });
+        copy.jobModel = copyOf(this.jobModel, new TypeReference<JobModel>() { });
+        copy.serviceModelList = copyOf(this.serviceModelList, new TypeReference<List<ServiceModel>>() { });
+        copy.clientDependencies = copyOf(this.clientDependencies,
+                new TypeReference<List<ClientDependencyModel>>() { });
+        copy.bListenerToSecretMap = copyOf(this.bListenerToSecretMap,
+                new TypeReference<Map<String, Set<SecretModel>>>() { });
+        copy.secretModelSet = copyOf(this.secretModelSet, new TypeReference<Set<SecretModel>>() { });
+        copy.configMapModelSet = copyOf(this.configMapModelSet, new TypeReference<Set<ConfigMapModel>>() { });
+        copy.dockerModel.addDependencyJarPaths(this.dockerModel.getDependencyJarPaths());
+        copy.dockerModel.addRuntimeJarPaths(this.dockerModel.getRuntimeJarPaths());
+        copy.dockerModel.setFatJarPath(this.dockerModel.getFatJarPath());
+        copy.jarPath = this.jarPath;
+        copy.k8sArtifactOutputPath = this.k8sArtifactOutputPath;
+        copy.dockerArtifactOutputPath = this.dockerArtifactOutputPath;
+        copy.choreoArtifactOutputPath = this.choreoArtifactOutputPath;
+        copy.namespace = this.namespace;
+        copy.sourceRoot = this.sourceRoot;
+        copy.packageID = this.packageID;
+        copy.ballerinaCloud = this.ballerinaCloud;
+        copy.singleYaml = this.singleYaml;
+        copy.outputName = this.outputName;
+        return copy;
+    }
+
+    private static <T> T copyOf(T value, TypeReference<T> type) {
+        return value == null ? null : MODEL_MAPPER.convertValue(value, type);
+    }
+
 }
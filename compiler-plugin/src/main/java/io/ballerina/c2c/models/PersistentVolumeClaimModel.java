@@ -20,7 +20,10 @@ package io.ballerina.c2c.models;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * Model class to hold kubernetes Persistent Volume Claim.
@@ -30,12 +33,14 @@ import java.util.HashMap;
 public class PersistentVolumeClaimModel extends KubernetesModel {
     private String mountPath;
     private boolean readOnly;
-    private String accessMode;
+    private List<String> accessModes;
     private String volumeClaimSizeAmount;
     private String volumeClaimSizeFormat;
+    private String storageClass;
+    private String volumeMode;
 
     public PersistentVolumeClaimModel() {
-        this.accessMode = "ReadWriteOnce";
+        this.accessModes = new ArrayList<>(Collections.singletonList("ReadWriteOnce"));
         this.setAnnotations(new HashMap<>());
     }
 }
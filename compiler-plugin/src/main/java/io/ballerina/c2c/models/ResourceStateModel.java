@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import lombok.Data;
+
+/**
+ * Model class to hold the identity and the content hash of a generated kubernetes resource.
+ */
+@Data
+public class ResourceStateModel {
+    private String apiVersion;
+    private String kind;
+    private String name;
+    private String namespace;
+    private String hash;
+
+    /**
+     * Get the key identifying the resource within the cluster.
+     *
+     * @return resource key
+     */
+    public String key() {
+        return kind + "/" + (namespace == null ? "" : namespace + "/") + name;
+    }
+}
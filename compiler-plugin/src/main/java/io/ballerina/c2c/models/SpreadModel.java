@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import lombok.Data;
+
+/**
+ * Model class to hold the configuration used to spread the replicas of the deployment across nodes and zones.
+ */
+@Data
+public class SpreadModel {
+    private boolean enabled;
+    private int maxSkew;
+    private String whenUnsatisfiable;
+    private boolean antiAffinity;
+    private int maxUnavailable;
+
+    public SpreadModel() {
+        this.enabled = false;
+        this.maxSkew = 1;
+        this.whenUnsatisfiable = "ScheduleAnyway";
+        this.antiAffinity = true;
+        this.maxUnavailable = 1;
+    }
+}
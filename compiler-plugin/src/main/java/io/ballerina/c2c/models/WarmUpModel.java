@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model class to hold the JIT warm-up configuration of the deployment.
+ */
+@Data
+public class WarmUpModel {
+    private boolean enabled;
+    private int requests;
+    private int timeout;
+    private int deadline;
+    private List<WarmUpResourceModel> resources;
+
+    public WarmUpModel() {
+        this.enabled = false;
+        this.requests = 100;
+        this.timeout = 60;
+        this.deadline = 120;
+        this.resources = new ArrayList<>();
+    }
+
+    public void addResource(WarmUpResourceModel resource) {
+        this.resources.add(resource);
+    }
+}
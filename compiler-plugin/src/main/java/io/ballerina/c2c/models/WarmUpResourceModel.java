@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Model class to hold a resource invoked during the JIT warm-up.
+ */
+@Data
+@NoArgsConstructor
+public class WarmUpResourceModel {
+    private int port;
+    private String path;
+    private int requests;
+
+    public WarmUpResourceModel(int port, String path) {
+        this.port = port;
+        this.path = path;
+    }
+}
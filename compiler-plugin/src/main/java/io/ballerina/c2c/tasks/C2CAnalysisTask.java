@@ -19,6 +19,7 @@ package io.ballerina.c2c.tasks;
 
 import io.ballerina.c2c.diagnostics.NullLocation;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.ClientDependencyModel;
 import io.ballerina.c2c.models.DeploymentModel;
 import io.ballerina.c2c.models.JobModel;
 import io.ballerina.c2c.models.KubernetesContext;
@@ -26,21 +27,31 @@ import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.PodAutoscalerModel;
 import io.ballerina.c2c.models.SecretModel;
 import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.c2c.models.WarmUpModel;
+import io.ballerina.c2c.models.WarmUpResourceModel;
 import io.ballerina.c2c.util.C2CDiagnosticCodes;
 import io.ballerina.c2c.util.ClientInfo;
+import io.ballerina.c2c.util.ClientTargetInfo;
 import io.ballerina.c2c.util.HttpsConfig;
 import io.ballerina.c2c.util.ListenerInfo;
 import io.ballerina.c2c.util.MutualSSLConfig;
 import io.ballerina.c2c.util.ProjectServiceInfo;
+import io.ballerina.c2c.util.ResourceInfo;
 import io.ballerina.c2c.util.ScheduledTask;
 import io.ballerina.c2c.util.SecureSocketConfig;
 import io.ballerina.c2c.util.ServiceInfo;
 import io.ballerina.c2c.util.Task;
+import io.ballerina.c2c.utils.BuildProfiler;
 import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TomlHelper;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.CloudToml;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.CompilationAnalysisContext;
+import io.ballerina.toml.api.Toml;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import org.apache.commons.codec.binary.Base64;
 
@@ -77,6 +88,12 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
         if (cloud == null || !KubernetesUtils.isBuildOptionDockerOrK8s(cloud)) {
             return;
         }
+        try (BuildProfiler.Phase ignored = BuildProfiler.start("C2CAnalysisTask")) {
+            analyze(compilationAnalysisContext, currentPackage);
+        }
+    }
+
+    private void analyze(CompilationAnalysisContext compilationAnalysisContext, Package currentPackage) {
         KubernetesContext.getInstance().setCurrentPackage(KubernetesUtils.getProjectID(currentPackage));
         KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
         dataHolder.setPackageID(KubernetesUtils.getProjectID(currentPackage));
@@ -84,28 +101,70 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
         ProjectServiceInfo projectServiceInfo = new ProjectServiceInfo(currentPackage.project(), c2cDiagnostics);
         List<ServiceInfo> serviceList = projectServiceInfo.getServiceList();
         List<ClientInfo> clientInfoList = projectServiceInfo.getClientList();
+        addDeployments();
         try {
             addServices(serviceList);
             addClientList(clientInfoList);
+            addClientDependencies(projectServiceInfo.getClientTargetList());
         } catch (KubernetesPluginException e) {
             compilationAnalysisContext.reportDiagnostic(e.getDiagnostic());
         }
 
+        validateActiveDeadline(currentPackage, projectServiceInfo.getTask(), c2cDiagnostics);
         for (Diagnostic diagnostic : c2cDiagnostics) {
             compilationAnalysisContext.reportDiagnostic(diagnostic);
         }
-        addDeployments();
         addHPA();
         addJobs(projectServiceInfo);
     }
 
+    /**
+     * Warns when the active deadline of the annotation is longer than the shortest interval of the schedule. The
+     * deadline of Cloud.toml takes precedence and is validated along with Cloud.toml.
+     *
+     * @param currentPackage current package
+     * @param task           task of the package
+     * @param diagnostics    diagnostics of the package
+     */
+    private void validateActiveDeadline(Package currentPackage, Optional<Task> task, List<Diagnostic> diagnostics) {
+        if (task.isEmpty() || !(task.get() instanceof ScheduledTask)) {
+            return;
+        }
+        ScheduledTask scheduledTask = (ScheduledTask) task.get();
+        Long activeDeadlineSeconds = scheduledTask.getActiveDeadlineSeconds();
+        if (activeDeadlineSeconds == null || scheduledTask.getActiveDeadlineLocation() == null) {
+            return;
+        }
+        Optional<CloudToml> cloudToml = currentPackage.cloudToml();
+        if (cloudToml.isPresent()) {
+            Toml toml = TomlHelper.createK8sTomlFromProject(cloudToml.get().tomlDocument());
+            if (toml.get("cloud.job.active_deadline_seconds").isPresent()) {
+                return;
+            }
+        }
+        int interval = scheduledTask.getMinimumInterval();
+        if (interval != -1 && activeDeadlineSeconds > interval * 60L) {
+            diagnostics.add(C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.TASK_RUNS_OVERLAP,
+                    scheduledTask.getActiveDeadlineLocation(), interval, activeDeadlineSeconds));
+        }
+    }
+
     private void addJobs(ProjectServiceInfo projectServiceInfo) {
         if (projectServiceInfo.getTask().isPresent()) {
             Task task = projectServiceInfo.getTask().get();
             JobModel jobModel = new JobModel();
             if (task instanceof ScheduledTask) {
-                jobModel.setSchedule(((ScheduledTask) task).getSchedule());                
+                ScheduledTask scheduledTask = (ScheduledTask) task;
+                jobModel.setSchedule(scheduledTask.getSchedule());
+                jobModel.setConcurrencyPolicy(scheduledTask.getConcurrencyPolicy());
+                jobModel.setStartingDeadlineSeconds(scheduledTask.getStartingDeadlineSeconds());
+                jobModel.setActiveDeadlineSeconds(scheduledTask.getActiveDeadlineSeconds());
+                jobModel.setSuccessfulJobsHistoryLimit(scheduledTask.getSuccessfulJobsHistoryLimit());
+                jobModel.setFailedJobsHistoryLimit(scheduledTask.getFailedJobsHistoryLimit());
+                jobModel.setTimeZone(scheduledTask.getTimeZone());
             }
+            jobModel.setParallelism(task.getParallelism());
+            jobModel.setCompletions(task.getCompletions());
             
             String dockerHost = System.getenv(DOCKER_HOST);
             if (!KubernetesUtils.isBlank(dockerHost)) {
@@ -119,6 +178,13 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
         }
     }
 
+    private void addClientDependencies(List<ClientTargetInfo> clientTargets) {
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
+        for (ClientTargetInfo clientTarget : clientTargets) {
+            dataHolder.addClientDependency(new ClientDependencyModel(clientTarget.getName(), clientTarget.getUrl()));
+        }
+    }
+
     private void addClientList(List<ClientInfo> clientInfoList) throws KubernetesPluginException {
         for (ClientInfo clientInfo : clientInfoList) {
             final Optional<MutualSSLConfig> mutualSSLConfig = clientInfo.getHttpsConfig().getMutualSSLConfig();
@@ -162,6 +228,8 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
             }
 
             serviceModel.setProtocol("http");
+            serviceModel.setListenerType(listener.getListenerType());
+            serviceModel.setHttp2(listener.isHttp2());
 
             if (listener.getConfig().isPresent() && listener.getConfig().get().getSecureSocketConfig().isPresent()) {
                 Set<SecretModel> secretModels = processSecureSocketConfig(listener);
@@ -171,7 +239,51 @@ public class C2CAnalysisTask implements AnalysisTask<CompilationAnalysisContext>
             }
 
             KubernetesContext.getInstance().getDataHolder().addServiceModel(serviceModel);
+            if ("http".equals(listener.getListenerType())) {
+                // Resources of the other listeners, e.g. graphql fields, are not invoked with plain GET requests.
+                addWarmUpResources(serviceInfo, port);
+            }
+        }
+    }
+
+    /**
+     * Collect the GET resources of an http service without path parameters as the default JIT warm-up resources.
+     *
+     * @param serviceInfo Service info
+     * @param port        Port of the service listener
+     */
+    private void addWarmUpResources(ServiceInfo serviceInfo, int port) {
+        WarmUpModel warmUpModel =
+                KubernetesContext.getInstance().getDataHolder().getDeploymentModel().getWarmUpModel();
+        for (ResourceInfo resourceInfo : serviceInfo.getResourceInfo()) {
+            if (!"get".equalsIgnoreCase(resourceInfo.getHttpMethod()) || hasPathParams(resourceInfo)) {
+                continue;
+            }
+            String path = getWarmUpPath(serviceInfo.getServicePath(), resourceInfo.getPath());
+            warmUpModel.addResource(new WarmUpResourceModel(port, path));
+        }
+    }
+
+    private boolean hasPathParams(ResourceInfo resourceInfo) {
+        for (Node pathNode : resourceInfo.getNode().relativeResourcePath()) {
+            if (pathNode.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM ||
+                    pathNode.kind() == SyntaxKind.RESOURCE_PATH_REST_PARAM) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String getWarmUpPath(String servicePath, String resourcePath) {
+        String path = servicePath.endsWith("/") ? servicePath.substring(0, servicePath.length() - 1) : servicePath;
+        if (!".".equals(resourcePath)) {
+            path = path + "/" + resourcePath;
+        }
+        if (path.isEmpty()) {
+            return "/";
         }
+        // Remove the escape characters of quoted identifiers.
+        return path.replace("\\", "");
     }
 
     private void addHPA() {
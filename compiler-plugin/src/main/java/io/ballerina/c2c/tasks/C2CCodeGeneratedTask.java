@@ -17,10 +17,18 @@
 package io.ballerina.c2c.tasks;
 
 import io.ballerina.c2c.ArtifactManager;
+import io.ballerina.c2c.DockerGenConstants;
+import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.handlers.ChangeSetHandler;
+import io.ballerina.c2c.models.DockerModel;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.utils.BuildFingerprint;
+import io.ballerina.c2c.utils.BuildProfiler;
+import io.ballerina.c2c.utils.DockerGenUtils;
 import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.TomlHelper;
 import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.CloudToml;
 import io.ballerina.projects.JBallerinaBackend;
@@ -37,9 +45,11 @@ import org.ballerinalang.model.elements.PackageID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static io.ballerina.c2c.KubernetesConstants.DOCKER;
@@ -59,6 +69,8 @@ import static io.ballerina.c2c.utils.KubernetesUtils.printError;
 public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifecycleEventContext> {
 
     private static final Logger pluginLog = LoggerFactory.getLogger(C2CCodeGeneratedTask.class);
+    private static final String GRAPH_DIR = "cloud.deployment.dependencies.graph_dir";
+    private static final String CO_LOCATE = "cloud.deployment.dependencies.co_locate";
     private final KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
 
     @Override
@@ -78,7 +90,10 @@ public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifec
             String outputName = "$anon".equals(descriptor.org().value()) ? extractJarName(path.getFileName()) :
                     descriptor.name().value();
             dataHolder.setOutputName(outputName);
-            addDependencyJars(compilerLifecycleEventContext.compilation(), executableJarName);
+            try (BuildProfiler.Phase ignored = BuildProfiler.start("DependencyJars")) {
+                addDependencyJars(compilerLifecycleEventContext.compilation(), executableJarName,
+                        getJvmTarget(currentPackage));
+            }
             dataHolder.setSourceRoot(executablePath.get().getParent()
                     .getParent().getParent());
             codeGeneratedInternal(KubernetesUtils.getProjectID(currentPackage),
@@ -116,11 +131,35 @@ public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifec
             }
             dataHolder.setK8sArtifactOutputPath(kubernetesOutputPath);
             dataHolder.setDockerArtifactOutputPath(dockerOutputPath);
+            String cloudTomlSource = cloudToml.map(toml -> toml.tomlAstNode().toSourceCode()).orElse("");
+            Optional<String> fingerprint = computeFingerprint(executableJarFile, cloudTomlSource, buildType,
+                    buildOptions.nativeImage());
+            Path fingerprintFile = dockerOutputPath.resolve(BuildFingerprint.FINGERPRINT_FILE);
+            if (fingerprint.isPresent() && isOutputPresent(buildType, kubernetesOutputPath, dockerOutputPath) &&
+                    BuildFingerprint.isUpToDate(fingerprintFile, fingerprint.get())) {
+                KubernetesUtils.printInstruction("\nGenerating artifacts\n");
+                KubernetesUtils.printInstruction("\tartifacts are up to date, skipped the generation of " +
+                        ("k8s".equals(buildType) ? kubernetesOutputPath : dockerOutputPath) + "\n");
+                try {
+                    new ChangeSetHandler().createUnchangedArtifacts();
+                } catch (KubernetesPluginException e) {
+                    printError("module [" + packageId + "] " + e.getMessage());
+                }
+                return;
+            }
+            BuildFingerprint.delete(fingerprintFile);
             ArtifactManager artifactManager = new ArtifactManager();
             try {
                 KubernetesUtils.deleteDirectory(kubernetesOutputPath);
                 artifactManager.populateDeploymentModel();
                 artifactManager.createArtifacts(buildType, buildOptions.nativeImage());
+                DockerModel dockerModel = dataHolder.getDockerModel();
+                // Multi-platform images without a repository are only exported as an archive.
+                boolean multiPlatform = dockerModel.getPlatforms().size() > 1;
+                boolean pushed = multiPlatform && !KubernetesUtils.isBlank(dockerModel.getRegistry());
+                String image = dockerModel.isBuildImage() && (pushed || !multiPlatform) ? dockerModel.getName() :
+                        null;
+                fingerprint.ifPresent(value -> BuildFingerprint.write(fingerprintFile, value, image, pushed));
             } catch (KubernetesPluginException e) {
                 String errorMessage = "module [" + packageId + "] " + e.getMessage();
                 printError(errorMessage);
@@ -139,16 +178,94 @@ public class C2CCodeGeneratedTask implements CompilerLifecycleTask<CompilerLifec
         }
     }
 
-    private void addDependencyJars(PackageCompilation compilation, String executableFatJar) {
-        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation,
-                JvmTarget.JAVA_11);
+    /**
+     * Compute the fingerprint of the build. The artifacts are regenerated when it cannot be computed.
+     *
+     * @return the fingerprint, or empty if it could not be computed
+     */
+    private Optional<String> computeFingerprint(Path executableJarFile, String cloudTomlSource, String buildType,
+                                                boolean nativeImage) {
+        try {
+            return Optional.of(BuildFingerprint.compute(dataHolder, executableJarFile, cloudTomlSource, buildType,
+                    nativeImage));
+        } catch (IOException | RuntimeException e) {
+            pluginLog.debug("unable to compute the build fingerprint, the artifacts will be regenerated", e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean isOutputPresent(String buildType, Path kubernetesOutputPath, Path dockerOutputPath) {
+        if ("k8s".equals(buildType)) {
+            if (!Files.isDirectory(kubernetesOutputPath)) {
+                return false;
+            }
+            Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+            // The kustomize overlays and the dependency graph are written next to the artifacts.
+            if (ballerinaCloud != null && !TomlHelper.getTableKeys(ballerinaCloud, TomlHelper.PROFILES).isEmpty() &&
+                    !Files.isDirectory(kubernetesOutputPath.resolveSibling(kubernetesOutputPath.getFileName() +
+                            KubernetesConstants.KUSTOMIZE_DIR_POSTFIX))) {
+                return false;
+            }
+            if (isDependencyGraphGenerated(ballerinaCloud) && !Files.isRegularFile(getGraphNode(ballerinaCloud))) {
+                return false;
+            }
+        }
+        return Files.exists(dockerOutputPath.resolve("Dockerfile"));
+    }
+
+    private boolean isDependencyGraphGenerated(Toml ballerinaCloud) {
+        if (dataHolder.getJobModel() != null) {
+            return false;
+        }
+        if (!dataHolder.getClientDependencies().isEmpty()) {
+            return true;
+        }
+        return ballerinaCloud != null && (TomlHelper.getString(ballerinaCloud, GRAPH_DIR) != null ||
+                TomlHelper.getString(ballerinaCloud, CO_LOCATE) != null);
+    }
+
+    private Path getGraphNode(Toml ballerinaCloud) {
+        String graphDir = ballerinaCloud == null ? null : TomlHelper.getString(ballerinaCloud, GRAPH_DIR);
+        return KubernetesUtils.getDependencyGraphDir(dataHolder, graphDir)
+                .resolve(KubernetesConstants.DEPENDENCY_GRAPH_NODES_DIR)
+                .resolve(dataHolder.getOutputName() + ".json");
+    }
+
+    /**
+     * Get the JVM target matching the java version of the runtime. Falls back to the lowest target supported by the
+     * distribution as the bytecode runs on newer java runtimes.
+     *
+     * @param currentPackage current package
+     * @return JVM target
+     */
+    private JvmTarget getJvmTarget(Package currentPackage) {
+        long javaVersion = DockerGenConstants.DEFAULT_JAVA_VERSION;
+        Optional<CloudToml> cloudToml = currentPackage.cloudToml();
+        if (cloudToml.isPresent()) {
+            javaVersion = TomlHelper.getLong(new Toml(cloudToml.get().tomlAstNode()), "container.jvm.version",
+                    javaVersion);
+        }
+        for (JvmTarget jvmTarget : JvmTarget.values()) {
+            if (jvmTarget.code().equals("java" + javaVersion)) {
+                return jvmTarget;
+            }
+        }
+        return JvmTarget.JAVA_11;
+    }
+
+    private void addDependencyJars(PackageCompilation compilation, String executableFatJar, JvmTarget jvmTarget) {
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, jvmTarget);
         io.ballerina.projects.JarResolver jarResolver = jBallerinaBackend.jarResolver();
 
         // Add dependency jar files to docker model.
-        dataHolder.getDockerModel().addDependencyJarPaths(
-                jarResolver.getJarFilePathsRequiredForExecution().stream()
-                        .map(JarLibrary::path)
-                        .collect(Collectors.toSet()));
+        Set<Path> jarPaths = jarResolver.getJarFilePathsRequiredForExecution().stream()
+                .map(JarLibrary::path)
+                .collect(Collectors.toSet());
+        dataHolder.getDockerModel().addDependencyJarPaths(jarPaths);
+        // Runtime libraries of the distribution can be baked into a shared runtime image.
+        dataHolder.getDockerModel().addRuntimeJarPaths(jarPaths.stream()
+                .filter(DockerGenUtils::isRuntimeJar)
+                .collect(Collectors.toSet()));
         jarResolver.getJarFilePathsRequiredForExecution()
                 .stream()
                 .filter(jarLibrary -> jarLibrary.path().getFileName().toString().endsWith(executableFatJar))
@@ -18,6 +18,7 @@
 package io.ballerina.c2c.tasks;
 
 import io.ballerina.c2c.diagnostics.TomlDiagnosticChecker;
+import io.ballerina.c2c.util.CloudTomlSchema;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.c2c.utils.TomlHelper;
 import io.ballerina.projects.CloudToml;
@@ -26,16 +27,10 @@ import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.CompilationAnalysisContext;
 import io.ballerina.toml.api.Toml;
 import io.ballerina.toml.validator.TomlValidator;
-import io.ballerina.toml.validator.schema.Schema;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import org.apache.commons.io.IOUtils;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.MissingResourceException;
 import java.util.Optional;
 
 /**
@@ -58,26 +53,17 @@ public class CloudTomlAnalysisTask implements AnalysisTask<CompilationAnalysisCo
             return;
         }
         Toml toml = TomlHelper.createK8sTomlFromProject(cloudToml.get().tomlDocument());
-        TomlValidator validator = new TomlValidator(Schema.from(getValidationSchema()));
+        TomlValidator validator = new TomlValidator(CloudTomlSchema.getSchema());
         validator.validate(toml);
         List<Diagnostic> diagnostics = toml.diagnostics();
+        // The profiles are merged over the Cloud.toml, hence they are only validated once it is free of errors.
+        boolean valid = diagnostics.stream().noneMatch(diagnostic ->
+                diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR);
 
         diagnostics.addAll(tomlDiagnosticChecker.validateTomlWithSource(toml));
-        diagnostics.forEach(compilationAnalysisContext::reportDiagnostic);
-    }
-
-    private String getValidationSchema() {
-        try {
-            InputStream inputStream =
-                    getClass().getClassLoader().getResourceAsStream("c2c-schema.json");
-            if (inputStream == null) {
-                throw new MissingResourceException("Schema Not found", "c2c-schema.json", "");
-            }
-            StringWriter writer = new StringWriter();
-            IOUtils.copy(inputStream, writer, StandardCharsets.UTF_8.name());
-            return writer.toString();
-        } catch (IOException e) {
-            throw new MissingResourceException("Schema Not found", "c2c-schema.json", "");
+        if (valid) {
+            diagnostics.addAll(tomlDiagnosticChecker.validateProfiles(toml, diagnostics));
         }
+        diagnostics.forEach(compilationAnalysisContext::reportDiagnostic);
     }
 }
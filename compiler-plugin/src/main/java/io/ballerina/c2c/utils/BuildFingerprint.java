@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.toml.api.Toml;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Fingerprint over the inputs of the artifact generation, used to skip the generation and the image build when
+ * nothing has changed since the previous build. The fingerprint covers the executable and the dependency jars, the
+ * Cloud.toml and the files it refers to, the nodes of the other packages in a shared dependency graph, the result of
+ * the code analysis, the build options and the versions of the distribution and the plugin.
+ * <p>
+ * Jars are hashed over the names, sizes and checksums of their entries rather than their bytes, so a jar rewritten
+ * with new timestamps but the same content keeps its hash, and only the central directory of the jar is read.
+ */
+public class BuildFingerprint {
+
+    public static final String FINGERPRINT_FILE = ".c2c-fingerprint";
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String IMAGE_KEY = "image";
+    private static final String PUSHED_KEY = "pushed";
+    private static final String PROFILES = "cloud.profiles";
+    private static final String DEPENDENCIES = "cloud.deployment.dependencies.";
+    private static final String[] REFERENCED_FILE_TABLES = {"cloud.config.files", "cloud.config.maps",
+            "cloud.secret.files"};
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+    private BuildFingerprint() {
+    }
+
+    /**
+     * Compute the fingerprint of the current build. Must be called after the code analysis and before the Cloud.toml
+     * is resolved into the models.
+     *
+     * @param dataHolder      data holder populated by the code analysis
+     * @param executableJar   executable jar of the package
+     * @param cloudTomlSource source of the Cloud.toml or an empty string if there is none
+     * @param buildType       value of the cloud build option
+     * @param nativeImage     whether a native image is built
+     * @return the fingerprint
+     * @throws IOException if an input could not be read
+     */
+    public static String compute(KubernetesDataHolder dataHolder, Path executableJar, String cloudTomlSource,
+                                 String buildType, boolean nativeImage) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, RepoUtils.getBallerinaVersion());
+        update(digest, buildType + ":" + nativeImage);
+        updateWithPlugin(digest);
+        updateWithFile(digest, executableJar);
+        List<Path> jars = dataHolder.getDockerModel().getDependencyJarPaths().stream()
+                .map(path -> path.toAbsolutePath().normalize())
+                .sorted()
+                .collect(Collectors.toList());
+        for (Path jar : jars) {
+            updateWithFile(digest, jar);
+        }
+        update(digest, cloudTomlSource);
+        for (Path file : getReferencedFiles(dataHolder)) {
+            updateWithFile(digest, file);
+        }
+        updateWithDependencyGraph(digest, dataHolder);
+        update(digest, getAnalysisResult(dataHolder));
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(String.format("%02x", b));
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Check whether the artifacts of the previous build were generated from the same inputs. The docker image of the
+     * previous build has to be available as well, when one was built.
+     *
+     * @param fingerprintFile fingerprint file of the previous build
+     * @param fingerprint     fingerprint of the current build
+     * @return true if the artifacts are up to date
+     */
+    public static boolean isUpToDate(Path fingerprintFile, String fingerprint) {
+        if (!Files.isRegularFile(fingerprintFile)) {
+            return false;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(fingerprintFile)) {
+            properties.load(inputStream);
+        } catch (IOException e) {
+            return false;
+        }
+        if (!fingerprint.equals(properties.getProperty(FINGERPRINT_KEY))) {
+            return false;
+        }
+        String image = properties.getProperty(IMAGE_KEY, "");
+        return image.isEmpty() || DockerGenerator.isImageAvailable(image,
+                Boolean.parseBoolean(properties.getProperty(PUSHED_KEY)));
+    }
+
+    /**
+     * Record the fingerprint of a successful build.
+     *
+     * @param fingerprintFile fingerprint file
+     * @param fingerprint     fingerprint of the build
+     * @param image           docker image built, or null if the image build was disabled
+     * @param pushed          whether the image was pushed to the repository
+     */
+    public static void write(Path fingerprintFile, String fingerprint, String image, boolean pushed) {
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT_KEY, fingerprint);
+        properties.setProperty(IMAGE_KEY, image == null ? "" : image);
+        properties.setProperty(PUSHED_KEY, String.valueOf(pushed));
+        try {
+            Files.createDirectories(fingerprintFile.getParent());
+            try (OutputStream outputStream = Files.newOutputStream(fingerprintFile)) {
+                properties.store(outputStream, "c2c build fingerprint");
+            }
+        } catch (IOException e) {
+            // The next build regenerates the artifacts.
+            delete(fingerprintFile);
+        }
+    }
+
+    /**
+     * Delete the fingerprint, forcing the next build to regenerate the artifacts.
+     *
+     * @param fingerprintFile fingerprint file
+     */
+    public static void delete(Path fingerprintFile) {
+        try {
+            Files.deleteIfExists(fingerprintFile);
+        } catch (IOException ignored) {
+            // ignored
+        }
+    }
+
+    private static List<Path> getReferencedFiles(KubernetesDataHolder dataHolder) {
+        List<Path> files = new ArrayList<>();
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return files;
+        }
+        List<String> prefixes = new ArrayList<>();
+        prefixes.add("");
+        for (String profile : TomlHelper.getTableKeys(ballerinaCloud, PROFILES)) {
+            prefixes.add(PROFILES + "." + profile + ".");
+        }
+        for (String prefix : prefixes) {
+            for (String table : REFERENCED_FILE_TABLES) {
+                for (Toml entry : ballerinaCloud.getTables(prefix + table)) {
+                    String file = TomlHelper.getString(entry, "file");
+                    if (file != null) {
+                        files.add(dataHolder.getSourceRoot().resolve(file).normalize());
+                    }
+                }
+            }
+            // Copy files are resolved against the working directory by the docker generator.
+            for (Toml entry : ballerinaCloud.getTables(prefix + "container.copy.files")) {
+                String file = TomlHelper.getString(entry, "sourceFile");
+                if (file != null) {
+                    files.add(Paths.get(file).toAbsolutePath().normalize());
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Add the nodes written to the shared dependency graph by the other packages, which resolve the clients and the
+     * co-location of the package. The node of the package itself is rewritten by each generation.
+     */
+    private static void updateWithDependencyGraph(MessageDigest digest, KubernetesDataHolder dataHolder)
+            throws IOException {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return;
+        }
+        String graphDir = TomlHelper.getString(ballerinaCloud, DEPENDENCIES + "graph_dir");
+        if (graphDir == null && TomlHelper.getString(ballerinaCloud, DEPENDENCIES + "co_locate") == null) {
+            return;
+        }
+        Path nodesDir = KubernetesUtils.getDependencyGraphDir(dataHolder, graphDir)
+                .resolve(KubernetesConstants.DEPENDENCY_GRAPH_NODES_DIR);
+        if (!Files.isDirectory(nodesDir)) {
+            update(digest, "<missing>");
+            return;
+        }
+        Path currentNode = nodesDir.resolve(dataHolder.getOutputName() + ".json");
+        TreeSet<Path> nodes;
+        try (Stream<Path> paths = Files.list(nodesDir)) {
+            nodes = paths.filter(path -> !path.equals(currentNode) && Files.isRegularFile(path))
+                    .collect(Collectors.toCollection(TreeSet::new));
+        }
+        for (Path node : nodes) {
+            update(digest, String.valueOf(node.getFileName()));
+            digest.update(Files.readAllBytes(node));
+        }
+    }
+
+    private static String getAnalysisResult(KubernetesDataHolder dataHolder) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("outputName", dataHolder.getOutputName());
+        result.put("namespace", dataHolder.getNamespace());
+        result.put("singleYaml", dataHolder.isSingleYaml());
+        result.put("services", dataHolder.getServiceModelList());
+        result.put("clients", dataHolder.getClientDependencies());
+        result.put("listenerSecrets", dataHolder.getBListenerToSecretMap());
+        result.put("secrets", dataHolder.getSecretModelSet());
+        result.put("configMaps", dataHolder.getConfigMapModelSet());
+        result.put("deployment", dataHolder.getDeploymentModel());
+        result.put("podAutoscaler", dataHolder.getPodAutoscalerModel());
+        result.put("job", dataHolder.getJobModel());
+        return JSON_MAPPER.writeValueAsString(result);
+    }
+
+    private static void updateWithPlugin(MessageDigest digest) throws IOException {
+        CodeSource codeSource = BuildFingerprint.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return;
+        }
+        try {
+            Path pluginPath = Paths.get(codeSource.getLocation().toURI());
+            if (Files.isRegularFile(pluginPath)) {
+                updateWithFile(digest, pluginPath);
+            }
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            update(digest, codeSource.getLocation().toString());
+        }
+    }
+
+    private static void updateWithFile(MessageDigest digest, Path path) throws IOException {
+        update(digest, path.toString());
+        if (Files.isDirectory(path)) {
+            TreeSet<Path> files;
+            try (Stream<Path> paths = Files.walk(path)) {
+                files = paths.filter(Files::isRegularFile).collect(Collectors.toCollection(TreeSet::new));
+            }
+            for (Path file : files) {
+                updateWithFile(digest, file);
+            }
+        } else if (!Files.isRegularFile(path)) {
+            update(digest, "<missing>");
+        } else if (path.getFileName() != null && path.getFileName().toString().endsWith(".jar")) {
+            updateWithJar(digest, path);
+        } else {
+            digest.update(Files.readAllBytes(path));
+        }
+    }
+
+    private static void updateWithJar(MessageDigest digest, Path jar) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                update(digest, entry.getName() + ":" + entry.getSize() + ":" + entry.getCrc());
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.utils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Records the time and the peak heap usage of the phases of the c2c build. Profiling is enabled by pointing the
+ * {@value #PROFILE_PROPERTY} system property to a file, to which a {@code phase,elapsedMillis,peakHeapBytes} line is
+ * appended for each phase.
+ * <p>
+ * The peak usage of the heap pools is reset when a phase starts, hence phases must not be nested.
+ */
+public class BuildProfiler {
+
+    public static final String PROFILE_PROPERTY = "c2c.profile";
+    private static final Phase DISABLED = new Phase(null, null);
+
+    private BuildProfiler() {
+    }
+
+    /**
+     * Start a phase of the build.
+     *
+     * @param name name of the phase
+     * @return the phase, to be closed when it completes
+     */
+    public static Phase start(String name) {
+        String profile = System.getProperty(PROFILE_PROPERTY);
+        if (KubernetesUtils.isBlank(profile)) {
+            return DISABLED;
+        }
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+        return new Phase(name, Paths.get(profile));
+    }
+
+    /**
+     * Get a phase which is not recorded, for work running in parallel to the phases being profiled.
+     *
+     * @return the disabled phase
+     */
+    public static Phase disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * A phase of the build being profiled.
+     */
+    public static class Phase implements AutoCloseable {
+
+        private final String name;
+        private final Path profile;
+        private final long start;
+
+        private Phase(String name, Path profile) {
+            this.name = name;
+            this.profile = profile;
+            this.start = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (profile == null) {
+                return;
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            long peakHeap = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    peakHeap += pool.getPeakUsage().getUsed();
+                }
+            }
+            String line = name + "," + elapsedMillis + "," + peakHeap + System.lineSeparator();
+            try {
+                Files.write(profile, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                KubernetesUtils.printWarning("unable to write the build profile to " + profile);
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ package io.ballerina.c2c.utils;
 import io.ballerina.c2c.DockerGenConstants;
 import io.ballerina.c2c.exceptions.DockerGenException;
 import org.apache.commons.io.FileUtils;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.File;
 import java.io.IOException;
@@ -29,7 +30,9 @@ import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Locale;
+import java.util.Optional;
 
 /**
  * Util methods used for artifact generation.
@@ -70,6 +73,93 @@ public class DockerGenUtils {
         }
     }
     
+    /**
+     * Get the ballerina JVM runtime base image for a java version.
+     *
+     * @param javaVersion java version of the runtime
+     * @return base image name
+     */
+    public static String getJvmRuntimeBaseImage(int javaVersion) {
+        switch (javaVersion) {
+            case 17:
+                return DockerGenConstants.OPENJDK_17_JRE_SLIM_BASE;
+            case 21:
+                return DockerGenConstants.OPENJDK_21_JRE_SLIM_BASE;
+            default:
+                return DockerGenConstants.OPENJDK_11_JRE_SLIM_BASE;
+        }
+    }
+
+    /**
+     * Checks if the given image is one of the ballerina JVM runtime base images.
+     *
+     * @param baseImage base image name
+     * @return true if the image is a ballerina JVM runtime base image
+     */
+    public static boolean isJvmRuntimeBaseImage(String baseImage) {
+        return DockerGenConstants.OPENJDK_11_JRE_SLIM_BASE.equals(baseImage) ||
+                DockerGenConstants.OPENJDK_17_JRE_SLIM_BASE.equals(baseImage) ||
+                DockerGenConstants.OPENJDK_21_JRE_SLIM_BASE.equals(baseImage);
+    }
+
+    /**
+     * Get the JVM options for a garbage collector profile.
+     *
+     * @param gcProfile   garbage collector profile
+     * @param javaVersion java version of the runtime
+     * @return JVM options with a leading space or an empty string if no known profile is given
+     */
+    public static String getGcOptions(String gcProfile, int javaVersion) {
+        Optional<DockerGenConstants.GcProfile> profile = DockerGenConstants.GcProfile.fromValue(gcProfile);
+        if (profile.isEmpty()) {
+            return "";
+        }
+        switch (profile.get()) {
+            case THROUGHPUT:
+                return " -XX:+UseParallelGC";
+            case LATENCY:
+                if (javaVersion >= 21) {
+                    return " -XX:+UseZGC -XX:+ZGenerational";
+                }
+                if (javaVersion >= 17) {
+                    return " -XX:+UseZGC";
+                }
+                // ZGC is experimental in java 11.
+                return " -XX:+UseG1GC -XX:MaxGCPauseMillis=50";
+            case FOOTPRINT:
+                return " -XX:+UseSerialGC -XX:MinHeapFreeRatio=10 -XX:MaxHeapFreeRatio=20";
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Checks if the given jar is a runtime library of the ballerina distribution in use. Every package built with the
+     * distribution resolves the same runtime libraries, so they can be shared through the runtime base image.
+     *
+     * @param jarPath jar file path
+     * @return true if the jar is located within the runtime libraries of the ballerina home
+     */
+    public static boolean isRuntimeJar(Path jarPath) {
+        String ballerinaHome = System.getProperty(DockerGenConstants.BALLERINA_HOME_PROPERTY);
+        if (isBlank(ballerinaHome)) {
+            return false;
+        }
+        Path runtimeLibs = Paths.get(ballerinaHome).toAbsolutePath().normalize().resolve("bre").resolve("lib");
+        return jarPath.toAbsolutePath().normalize().startsWith(runtimeLibs);
+    }
+
+    /**
+     * Get the tag of the runtime base image. The runtime image content only depends on the distribution and the java
+     * version it runs on, so services built with the same distribution share the image and its layers.
+     *
+     * @param javaVersion java version of the runtime
+     * @return runtime image tag
+     */
+    public static String getRuntimeImageTag(int javaVersion) {
+        return RepoUtils.getBallerinaVersion() + "-java" + javaVersion;
+    }
+
     /**
      * Write content to a File. Create the required directories if they don't not exists.
      *
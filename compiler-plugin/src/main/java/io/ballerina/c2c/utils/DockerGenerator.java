@@ -28,6 +28,10 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
@@ -36,7 +40,9 @@ import static io.ballerina.c2c.DockerGenConstants.REGISTRY_SEPARATOR;
 import static io.ballerina.c2c.DockerGenConstants.TAG_SEPARATOR;
 import static io.ballerina.c2c.KubernetesConstants.LINE_SEPARATOR;
 import static io.ballerina.c2c.utils.DockerGenUtils.copyFileOrDirectory;
+import static io.ballerina.c2c.utils.DockerGenUtils.getGcOptions;
 import static io.ballerina.c2c.utils.DockerGenUtils.isBlank;
+import static io.ballerina.c2c.utils.DockerGenUtils.isJvmRuntimeBaseImage;
 import static io.ballerina.c2c.utils.DockerGenUtils.printDebug;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FILE_NAME_PERIOD_SEPERATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
@@ -92,6 +98,11 @@ public class DockerGenerator {
         }
         copyNativeJars(outputDir);
         try {
+            boolean buildRuntimeImage = isRuntimeImageEnabled() && !isImageAvailable(getRuntimeImage(),
+                    isPushed());
+            if (buildRuntimeImage) {
+                createRuntimeImageArtifacts(outputDir);
+            }
             DockerGenUtils.writeToFile(dockerContent, outputDir.resolve("Dockerfile"));
             Path jarLocation = outputDir.resolve(DockerGenUtils.extractJarName(jarFilePath) + EXECUTABLE_JAR);
             copyFileOrDirectory(jarFilePath, jarLocation);
@@ -108,6 +119,10 @@ public class DockerGenerator {
             //check image build is enabled.
             
             if (this.dockerModel.isBuildImage()) {
+                if (buildRuntimeImage) {
+                    outStream.println("\nBuilding the runtime base image\n");
+                    buildImage(getRuntimeImage(), outputDir.resolve(DockerGenConstants.RUNTIME_IMAGE_DIR));
+                }
                 outStream.println("\nBuilding the docker image\n");
                 buildImage(outputDir);
                 outStream.println();
@@ -118,7 +133,7 @@ public class DockerGenerator {
     }
 
     private void copyNativeJars(Path outputDir) throws DockerGenException {
-        for (Path jarPath : this.dockerModel.getDependencyJarPaths()) {
+        for (Path jarPath : getPackageJarPaths()) {
             // Copy jar files
             Path target = outputDir.resolve(jarPath.getFileName());
             Path sourcePath = jarPath;
@@ -129,18 +144,129 @@ public class DockerGenerator {
         }
     }
 
+    /**
+     * Get the jars that need to be copied to the image. Distribution jars are left out when they are provided by the
+     * runtime base image.
+     *
+     * @return jar paths
+     */
+    private Set<Path> getPackageJarPaths() {
+        if (!isRuntimeImageEnabled()) {
+            return this.dockerModel.getDependencyJarPaths();
+        }
+        return this.dockerModel.getDependencyJarPaths().stream()
+                .filter(path -> !this.dockerModel.getRuntimeJarPaths().contains(path))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Check whether the package image is built on the runtime base image. The runtime image has to be resolvable by
+     * the package build, so a multi-platform build, which can only be exported as an archive without a repository,
+     * uses the plain base image instead.
+     *
+     * @return true if the runtime base image is used
+     */
+    private boolean isRuntimeImageEnabled() {
+        return !isBlank(this.dockerModel.getRuntimeImage()) && !isWindowsBuild() &&
+                isJvmRuntimeBaseImage(this.dockerModel.getBaseImage()) &&
+                (this.dockerModel.getPlatforms().size() <= 1 || !isBlank(this.dockerModel.getRegistry()));
+    }
+
+    /**
+     * Check whether the images are pushed to the repository instead of being loaded to the local image store.
+     *
+     * @return true if the images are pushed
+     */
+    public boolean isPushed() {
+        return this.dockerModel.getPlatforms().size() > 1 && !isBlank(this.dockerModel.getRegistry());
+    }
+
+    /**
+     * Get the runtime base image name which contains the user setup and the distribution jars.
+     *
+     * @return runtime image name with the tag
+     */
+    public String getRuntimeImage() {
+        String registry = this.dockerModel.getRegistry();
+        String imageName = !isBlank(registry) ? registry + REGISTRY_SEPARATOR + this.dockerModel.getRuntimeImage() :
+                this.dockerModel.getRuntimeImage();
+        return imageName + TAG_SEPARATOR + DockerGenUtils.getRuntimeImageTag(this.dockerModel.getJavaVersion());
+    }
+
+    /**
+     * Write the Dockerfile and the runtime jars of the runtime base image. The runtime image is only built once per
+     * distribution and java version, so it is kept out of the build context of the package image.
+     *
+     * @param outputDir dockerfile directory of the package image
+     */
+    private void createRuntimeImageArtifacts(Path outputDir) throws DockerGenException, IOException {
+        Path runtimeDir = outputDir.resolve(DockerGenConstants.RUNTIME_IMAGE_DIR);
+        for (Path jarPath : this.dockerModel.getRuntimeJarPaths()) {
+            copyFileOrDirectory(jarPath.toAbsolutePath(), runtimeDir.resolve("jars").resolve(jarPath.getFileName()));
+        }
+        DockerGenUtils.writeToFile(generateRuntimeImageDockerfile(), runtimeDir.resolve("Dockerfile"));
+        DockerGenUtils.writeToFile(DockerGenConstants.RUNTIME_IMAGE_DIR + LINE_SEPARATOR,
+                outputDir.resolve(".dockerignore"));
+    }
+
+    private String generateRuntimeImageDockerfile() {
+        StringBuilder dockerfileContent = new StringBuilder();
+        dockerfileContent.append("# Auto Generated Dockerfile").append(LINE_SEPARATOR);
+        dockerfileContent.append("FROM ").append(this.dockerModel.getBaseImage()).append(LINE_SEPARATOR);
+        dockerfileContent.append(LINE_SEPARATOR);
+        dockerfileContent.append("LABEL maintainer=\"dev@ballerina.io\"").append(LINE_SEPARATOR);
+        appendUser(dockerfileContent);
+        dockerfileContent.append("COPY jars/ ").append(getWorkDir()).append("/jars/").append(LINE_SEPARATOR);
+        dockerfileContent.append("WORKDIR ").append(getWorkDir()).append(LINE_SEPARATOR);
+        dockerfileContent.append("USER ballerina").append(LINE_SEPARATOR);
+        return dockerfileContent.toString();
+    }
+
+    /**
+     * Check whether an image is available in the local image store.
+     *
+     * @param imageName image name with the tag
+     * @return true if the image exists locally
+     */
+    public static boolean isImageAvailable(String imageName) {
+        return isImageAvailable(imageName, false);
+    }
+
+    /**
+     * Check whether an image is available. Pushed multi-platform images are manifest lists, which never reach the
+     * local image store, so they are looked up in the repository.
+     *
+     * @param imageName image name with the tag
+     * @param pushed    whether the image is pushed to the repository
+     * @return true if the image exists
+     */
+    public static boolean isImageAvailable(String imageName, boolean pushed) {
+        List<String> command = pushed ? Arrays.asList("docker", "buildx", "imagetools", "inspect", imageName) :
+                Arrays.asList("docker", "image", "inspect", imageName);
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+            return process.waitFor() == 0;
+        } catch (IOException | InterruptedException e) {
+            return false;
+        }
+    }
+
     /**
      * Create docker image.
      *
      * @param dockerDir dockerfile directory
      */
     public void buildImage(Path dockerDir) throws DockerGenException {
+        buildImage(this.dockerModel.getName(), dockerDir);
+    }
+
+    private void buildImage(String imageName, Path dockerDir) throws DockerGenException {
         // validate docker image name
-        DockerImageName.validate(this.dockerModel.getName());
+        DockerImageName.validate(imageName);
 
-        printDebug("building docker image `" + this.dockerModel.getName() + "` from directory `" + dockerDir + "`.");
-        ProcessBuilder pb = new ProcessBuilder("docker", "build", "--no-cache", "--force-rm", "-t",
-                this.dockerModel.getName(), dockerDir.toFile().toString());
+        printDebug("building docker image `" + imageName + "` from directory `" + dockerDir + "`.");
+        ProcessBuilder pb = new ProcessBuilder(getBuildCommand(imageName, dockerDir));
         pb.inheritIO();
         
         try {
@@ -155,6 +281,43 @@ public class DockerGenerator {
         }
     }
 
+    /**
+     * Get the docker command used to build the image. A plain `docker build` is used unless target platforms are
+     * given, in which case the image is built with buildx. A multi-platform build produces a manifest list, which
+     * cannot be loaded into the local image store; it is pushed when a repository is configured and exported as an
+     * OCI archive to the docker directory otherwise. Single platform builds on the runtime base image use the
+     * default builder, since builders of the docker-container driver cannot see the locally loaded runtime image.
+     *
+     * @param dockerDir dockerfile directory
+     * @return build command
+     */
+    public List<String> getBuildCommand(Path dockerDir) {
+        return getBuildCommand(this.dockerModel.getName(), dockerDir);
+    }
+
+    private List<String> getBuildCommand(String imageName, Path dockerDir) {
+        Set<String> platforms = this.dockerModel.getPlatforms();
+        List<String> command = new ArrayList<>();
+        command.add("docker");
+        if (platforms.isEmpty()) {
+            command.addAll(Arrays.asList("build", "--no-cache", "--force-rm"));
+        } else {
+            command.addAll(Arrays.asList("buildx", "build", "--no-cache", "--platform", String.join(",", platforms)));
+            if (platforms.size() == 1 && isRuntimeImageEnabled()) {
+                command.addAll(Arrays.asList("--builder", "default", "--load"));
+            } else if (platforms.size() == 1) {
+                command.add("--load");
+            } else if (!isBlank(this.dockerModel.getRegistry())) {
+                command.add("--push");
+            } else {
+                command.addAll(Arrays.asList("--output",
+                        "type=oci,dest=" + dockerDir.resolve(DockerGenConstants.OCI_IMAGE_ARCHIVE)));
+            }
+        }
+        command.addAll(Arrays.asList("-t", imageName, dockerDir.toFile().toString()));
+        return command;
+    }
+
     private String getErrorMessage(String message) {
         switch (message) {
             case "Cannot run program \"docker\": error=2, No such file or directory":
@@ -170,14 +333,15 @@ public class DockerGenerator {
      *
      * @return Dockerfile content as a string
      */
-    private String generateThinJarDockerfile() {
+    private String generateThinJarDockerfile() throws DockerGenException {
         StringBuilder dockerfileContent = new StringBuilder();
         dockerfileContent.append("# Auto Generated Dockerfile").append(LINE_SEPARATOR);
-        dockerfileContent.append("FROM ").append(this.dockerModel.getBaseImage()).append(LINE_SEPARATOR);
+        dockerfileContent.append("FROM ").append(isRuntimeImageEnabled() ? getRuntimeImage() :
+                this.dockerModel.getBaseImage()).append(LINE_SEPARATOR);
         dockerfileContent.append(LINE_SEPARATOR);
         dockerfileContent.append("LABEL maintainer=\"dev@ballerina.io\"").append(LINE_SEPARATOR);
         // Append Jar copy instructions without observability jar and executable jar
-        this.dockerModel.getDependencyJarPaths()
+        getPackageJarPaths()
                 .stream()
                 .map(Path::getFileName)
                 .filter(path -> !(path.toString().endsWith("-observability-symbols.jar") ||
@@ -206,7 +370,9 @@ public class DockerGenerator {
                     }
                 }
                                                         );
-        appendUser(dockerfileContent);
+        if (!isRuntimeImageEnabled()) {
+            appendUser(dockerfileContent);
+        }
         dockerfileContent.append("WORKDIR ").append(getWorkDir()).append(LINE_SEPARATOR);
         appendCommonCommands(dockerfileContent);
         if (isBlank(this.dockerModel.getCmd())) {
@@ -214,13 +380,13 @@ public class DockerGenerator {
             final String mainClass = getModuleLevelClassName(packageID.orgName.value, packageID.name.value,
                     packageID.version.value);
             if (this.dockerModel.isEnableDebug()) {
-                dockerfileContent.append("CMD java -Xdiag -agentlib:jdwp=transport=dt_socket,server=y,suspend=n," +
-                        "address='*:")
+                dockerfileContent.append("CMD java -Xdiag").append(getJvmOptions())
+                        .append(" -agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address='*:")
                         .append(this.dockerModel.getDebugPort()).append("' -cp \"")
                         .append(this.dockerModel.getJarFileName()).append(":jars/*\" ").append(mainClass);
             } else {
-                dockerfileContent.append("CMD java -Xdiag -cp \"").append(this.dockerModel.getJarFileName())
-                        .append(":jars/*\" ").append(mainClass);
+                dockerfileContent.append("CMD java -Xdiag").append(getJvmOptions()).append(" -cp \"")
+                        .append(this.dockerModel.getJarFileName()).append(":jars/*\" ").append(mainClass);
             }
         } else {
             dockerfileContent.append(this.dockerModel.getCmd());
@@ -234,7 +400,7 @@ public class DockerGenerator {
     }
 
     protected void appendUser(StringBuilder dockerfileContent) {
-        if (this.dockerModel.getBaseImage().equals(DockerGenConstants.OPENJDK_11_JRE_SLIM_BASE)) {
+        if (isJvmRuntimeBaseImage(this.dockerModel.getBaseImage())) {
             dockerfileContent.append("RUN addgroup troupe \\").append(LINE_SEPARATOR);
             dockerfileContent.append("    && adduser -S -s /bin/bash -g 'ballerina' -G troupe -D ballerina \\")
                     .append(LINE_SEPARATOR);
@@ -266,12 +432,13 @@ public class DockerGenerator {
             final String mainClass = getModuleLevelClassName(packageID.orgName.value, packageID.name.value,
                     packageID.version.value);
             if (this.dockerModel.isEnableDebug()) {
-                dockerfileContent.append("CMD java -Xdiag -agentlib:jdwp=transport=dt_socket,server=y,suspend=n," +
-                        "address='*:").append(this.dockerModel.getDebugPort()).append("' -cp \"")
+                dockerfileContent.append("CMD java -Xdiag").append(getJvmOptions())
+                        .append(" -agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address='*:")
+                        .append(this.dockerModel.getDebugPort()).append("' -cp \"")
                         .append(this.dockerModel.getJarFileName()).append(":jars/*\" ").append(mainClass);
             } else {
-                dockerfileContent.append("CMD java -Xdiag -cp \"").append(this.dockerModel.getJarFileName())
-                        .append(":jars/*\" ").append(mainClass);
+                dockerfileContent.append("CMD java -Xdiag").append(getJvmOptions()).append(" -cp \"")
+                        .append(this.dockerModel.getJarFileName()).append(":jars/*\" ").append(mainClass);
             }
         } else {
             dockerfileContent.append(this.dockerModel.getCmd());
@@ -306,12 +473,28 @@ public class DockerGenerator {
             this.dockerModel.getPorts().forEach(port -> dockerfileContent.append(" ").append(port));
         }
         dockerfileContent.append(LINE_SEPARATOR);
-        if (this.dockerModel.getBaseImage().equals(DockerGenConstants.OPENJDK_11_JRE_SLIM_BASE)) {
+        if (isJvmRuntimeBaseImage(this.dockerModel.getBaseImage())) {
             dockerfileContent.append("USER ballerina").append(LINE_SEPARATOR);
             dockerfileContent.append(LINE_SEPARATOR);
         }
     }
 
+    private String getJvmOptions() {
+        String runtimeOptions = getGcOptions(this.dockerModel.getGcProfile(), this.dockerModel.getJavaVersion());
+        if (this.dockerModel.getTmpDir() != null) {
+            runtimeOptions += DockerGenConstants.TMP_DIR_JVM_OPTION + this.dockerModel.getTmpDir();
+        }
+        if (this.dockerModel.isFixedHeap()) {
+            // Size the heap once from the container memory limit and touch its pages before serving requests.
+            return DockerGenConstants.FIXED_HEAP_JVM_OPTIONS + runtimeOptions;
+        }
+        if (this.dockerModel.isContainerHeap()) {
+            // The default heap is a quarter of the container memory, which starves memory bound batch workloads.
+            return DockerGenConstants.CONTAINER_HEAP_JVM_OPTIONS + runtimeOptions;
+        }
+        return runtimeOptions;
+    }
+
     private boolean isWindowsBuild() {
         return Boolean.parseBoolean(System.getenv(DockerGenConstants.ENABLE_WINDOWS_BUILD));
     }
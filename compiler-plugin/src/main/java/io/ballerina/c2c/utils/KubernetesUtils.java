@@ -19,6 +19,8 @@
 package io.ballerina.c2c.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
@@ -40,25 +42,37 @@ import io.ballerina.tools.diagnostics.DiagnosticFactory;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.fabric8.kubernetes.api.model.ContainerPort;
+import io.fabric8.kubernetes.api.model.Quantity;
 import org.ballerinalang.model.elements.PackageID;
 import org.wso2.ballerinalang.compiler.util.Name;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static io.ballerina.c2c.KubernetesConstants.DEPENDENCY_GRAPH_DIR_POSTFIX;
 import static io.ballerina.c2c.KubernetesConstants.DEPLOYMENT_POSTFIX;
 import static io.ballerina.c2c.KubernetesConstants.EXECUTABLE_JAR;
+import static io.ballerina.c2c.KubernetesConstants.HEADLESS_SVC_POSTFIX;
 import static io.ballerina.c2c.KubernetesConstants.JOB_POSTFIX;
+import static io.ballerina.c2c.KubernetesConstants.KUBERNETES_ARCH_KEY;
+import static io.ballerina.c2c.KubernetesConstants.SVC_POSTFIX;
 import static io.ballerina.c2c.KubernetesConstants.YAML;
 import static io.ballerina.c2c.utils.DockerGenUtils.extractJarName;
 
@@ -162,6 +176,20 @@ public class KubernetesUtils {
         ERR.println("error [k8s plugin]: " + msg);
     }
 
+    /**
+     * Prints a Warning message.
+     *
+     * @param msg message to be printed
+     */
+    public static void printWarning(String msg) {
+        KubernetesContext context = KubernetesContext.getInstance();
+        if (!context.addWarning(msg)) {
+            return;
+        }
+        String profile = context.getProfile();
+        ERR.println("warning [k8s plugin]: " + (profile == null ? "" : "profile `" + profile + "`: ") + msg);
+    }
+
     /**
      * Prints an Instruction message.
      *
@@ -232,6 +260,73 @@ public class KubernetesUtils {
         return name;
     }
 
+    /**
+     * Returns the name of the kubernetes service which exposes the deployment.
+     *
+     * @param deploymentModel Deployment model
+     * @return service name
+     */
+    public static String getServiceName(DeploymentModel deploymentModel) {
+        if (deploymentModel.getInternalDomainName() != null) {
+            return deploymentModel.getInternalDomainName();
+        }
+        return getValidName(deploymentModel.getName().replace(DEPLOYMENT_POSTFIX, "")
+                + SVC_POSTFIX);
+    }
+
+    /**
+     * Returns the name of the headless service which governs the network identity of the stateful set pods. The
+     * service which exposes the workload is reused when it is already headless.
+     *
+     * @param deploymentModel Deployment model
+     * @param exposed         whether the workload is exposed through a service
+     * @return governing service name
+     */
+    public static String getGoverningServiceName(DeploymentModel deploymentModel, boolean exposed) {
+        if (exposed && deploymentModel.isHeadlessService()) {
+            return getServiceName(deploymentModel);
+        }
+        return getValidName(deploymentModel.getName().replace(DEPLOYMENT_POSTFIX, "") + HEADLESS_SVC_POSTFIX);
+    }
+
+    /**
+     * Returns the directory of the service dependency graph. The graph is kept next to the kubernetes artifacts by
+     * default, since kubectl would try to apply the json files of the graph along with the artifacts.
+     *
+     * @param dataHolder data holder of the package
+     * @param graphDir   graph directory of the Cloud.toml relative to the source root, or null if not configured
+     * @return graph directory
+     */
+    public static Path getDependencyGraphDir(KubernetesDataHolder dataHolder, String graphDir) {
+        if (graphDir == null) {
+            Path outputPath = dataHolder.getK8sArtifactOutputPath();
+            return outputPath.resolveSibling(outputPath.getFileName() + DEPENDENCY_GRAPH_DIR_POSTFIX);
+        }
+        return dataHolder.getSourceRoot().resolve(graphDir).normalize();
+    }
+
+    /**
+     * Returns the number of CPU cores of a kubernetes CPU quantity such as `500m` or `2`.
+     *
+     * @param cpu CPU quantity
+     * @return number of CPU cores
+     */
+    public static BigDecimal getCpuCores(Quantity cpu) {
+        return Quantity.getAmountInBytes(cpu);
+    }
+
+    /**
+     * Returns the size of the strand scheduler pool for a CPU limit. The runtime uses two threads per visible CPU,
+     * which is derived here from the limit instead of the CPUs of the node.
+     *
+     * @param cpuLimit CPU limit of the container
+     * @return scheduler pool size
+     */
+    public static int getSchedulerPoolSize(Quantity cpuLimit) {
+        int cpus = getCpuCores(cpuLimit).setScale(0, RoundingMode.CEILING).max(BigDecimal.ONE).intValue();
+        return cpus * KubernetesConstants.SCHEDULER_THREADS_PER_CPU;
+    }
+
     public static PackageID getProjectID(Package currentPackage) {
         return new PackageID(new Name(currentPackage.packageOrg().value()),
                 new Name(currentPackage.packageName().value()),
@@ -247,9 +342,21 @@ public class KubernetesUtils {
             dockerModel
                     .setRegistry(TomlHelper.getString(toml, containerImage + ".repository", null));
             dockerModel.setTag(TomlHelper.getString(toml, containerImage + ".tag", dockerModel.getTag()));
+            resolveJvmToml(dockerModel, toml);
             dockerModel.setBaseImage(TomlHelper.getString(toml, containerImage + ".base", dockerModel.getBaseImage()));
             dockerModel.setJarFileName(extractJarName(dataHolder.getJarPath()) + EXECUTABLE_JAR);
             dockerModel.setCmd(TomlHelper.getString(toml, containerImage + ".cmd", dockerModel.getCmd()));
+            dockerModel.setRuntimeImage(TomlHelper.getString(toml, "container.runtime.name",
+                    dockerModel.getRuntimeImage()));
+            if (!dockerModel.isWindowsBuild()) {
+                dockerModel.setPlatforms(new LinkedHashSet<>(TomlHelper.getStringArray(toml,
+                        containerImage + ".platforms")));
+            }
+            if (!isBlank(dockerModel.getRuntimeImage()) && dockerModel.getPlatforms().size() > 1 &&
+                    isBlank(dockerModel.getRegistry())) {
+                printWarning("`container.runtime` is ignored for multi-platform images without a " +
+                        "`container.image.repository`, as the runtime image cannot be loaded locally");
+            }
             if (model instanceof DeploymentModel) {
 
                 dockerModel.setName(TomlHelper.getString(toml, containerImage + ".name",
@@ -265,6 +372,7 @@ public class KubernetesUtils {
                         dockerModel.getName() + ":" + dockerModel.getTag() :
                         dockerModel.getRegistry() + "/" + dockerModel.getName() + ":" + dockerModel.getTag();
                 ((JobModel) model).setImage(imageName);
+                ((JobModel) model).setBaseImage(dockerModel.getBaseImage());
             }
             dockerModel.setBuildImage(TomlHelper.getBoolean(toml, "settings.buildImage", true));
             Set<CopyFileModel> copyFiles = new HashSet<>();
@@ -285,6 +393,42 @@ public class KubernetesUtils {
         }
     }
 
+    private static void resolveJvmToml(DockerModel dockerModel, Toml toml) throws KubernetesPluginException {
+        final String containerJvm = "container.jvm";
+        int javaVersion = Math.toIntExact(TomlHelper.getLong(toml, containerJvm + ".version",
+                dockerModel.getJavaVersion()));
+        if (javaVersion != 11 && javaVersion != 17 && javaVersion != 21) {
+            Diagnostic diagnostic = C2CDiagnosticCodes.createDiagnostic(C2CDiagnosticCodes.INVALID_JAVA_VERSION,
+                    new NullLocation(), javaVersion);
+            throw new KubernetesPluginException(diagnostic);
+        }
+        dockerModel.setJavaVersion(javaVersion);
+        if (!dockerModel.isWindowsBuild()) {
+            dockerModel.setBaseImage(DockerGenUtils.getJvmRuntimeBaseImage(javaVersion));
+        }
+        dockerModel.setGcProfile(TomlHelper.getString(toml, containerJvm + ".gc_profile",
+                dockerModel.getGcProfile()));
+    }
+
+    /**
+     * Returns the node selector that pins pods to the architecture of the image when it is built for a single
+     * platform. Multi-platform images can be scheduled on any node and yield an empty selector.
+     *
+     * @param dockerModel Docker model
+     * @return node selector map
+     */
+    public static Map<String, String> getArchNodeSelector(DockerModel dockerModel) {
+        Map<String, String> nodeSelector = new LinkedHashMap<>();
+        if (dockerModel.getPlatforms().size() == 1) {
+            String platform = dockerModel.getPlatforms().iterator().next();
+            String[] segments = platform.split("/");
+            if (segments.length > 1) {
+                nodeSelector.put(KUBERNETES_ARCH_KEY, segments[1]);
+            }
+        }
+        return nodeSelector;
+    }
+
     /**
      * Creates docker model from Deployment Model object.
      *
@@ -322,6 +466,55 @@ public class KubernetesUtils {
     }
 
 
+    /**
+     * Read the kubernetes resources generated to a directory, keyed by {@link #getResourceKey(Map)}.
+     *
+     * @param outputDir artifact directory
+     * @return resources in the order of the files and the documents
+     * @throws IOException if a file cannot be read or parsed
+     */
+    public static Map<String, Map<String, Object>> readResources(Path outputDir) throws IOException {
+        Map<String, Map<String, Object>> resources = new LinkedHashMap<>();
+        if (!Files.isDirectory(outputDir)) {
+            return resources;
+        }
+        List<Path> yamlFiles;
+        try (Stream<Path> paths = Files.list(outputDir)) {
+            yamlFiles = paths.filter(path -> path.toString().endsWith(YAML)).sorted().collect(Collectors.toList());
+        }
+        for (Path yamlFile : yamlFiles) {
+            try (MappingIterator<Map<String, Object>> documents = YAML_MAPPER
+                    .readerFor(new TypeReference<Map<String, Object>>() { }).readValues(yamlFile.toFile())) {
+                while (documents.hasNext()) {
+                    Map<String, Object> document = documents.next();
+                    if (document != null && !document.isEmpty()) {
+                        resources.put(getResourceKey(document), document);
+                    }
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("unable to parse " + yamlFile, e);
+            }
+        }
+        return resources;
+    }
+
+    /**
+     * Get the key identifying a kubernetes resource within the cluster.
+     *
+     * @param resource resource read from the generated yaml
+     * @return kind, namespace and name of the resource
+     */
+    public static String getResourceKey(Map<String, Object> resource) {
+        Object metadata = resource.get("metadata");
+        Object name = null;
+        Object namespace = null;
+        if (metadata instanceof Map) {
+            name = ((Map<?, ?>) metadata).get("name");
+            namespace = ((Map<?, ?>) metadata).get("namespace");
+        }
+        return resource.get("kind") + "/" + (namespace == null ? "" : namespace + "/") + name;
+    }
+
     public static <T> String asYaml(T object) throws KubernetesPluginException {
         try {
             return YAML_MAPPER.writeValueAsString(object);
@@ -21,6 +21,7 @@ package io.ballerina.c2c.utils;
 import io.ballerina.projects.TomlDocument;
 import io.ballerina.toml.api.Toml;
 import io.ballerina.toml.semantic.TomlType;
+import io.ballerina.toml.semantic.ast.TomlArrayValueNode;
 import io.ballerina.toml.semantic.ast.TomlBooleanValueNode;
 import io.ballerina.toml.semantic.ast.TomlLongValueNode;
 import io.ballerina.toml.semantic.ast.TomlStringValueNode;
@@ -32,6 +33,10 @@ import io.ballerina.toml.semantic.diagnostics.TomlNodeLocation;
 import io.ballerina.toml.syntax.tree.SyntaxTree;
 import io.ballerina.tools.diagnostics.Diagnostic;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
@@ -43,6 +48,8 @@ import java.util.TreeSet;
  */
 public class TomlHelper {
 
+    public static final String PROFILES = "cloud.profiles";
+
     public static String getString(Toml toml, String key) {
         Optional<TomlValueNode> valueNode = toml.get(key);
         if (valueNode.isEmpty()) {
@@ -95,6 +102,161 @@ public class TomlHelper {
         return defaultValue;
     }
 
+    public static List<String> getStringArray(Toml toml, String key) {
+        List<String> output = new ArrayList<>();
+        Optional<TomlValueNode> valueNode = toml.get(key);
+        if (valueNode.isEmpty() || valueNode.get().kind() != TomlType.ARRAY) {
+            return output;
+        }
+        for (TomlValueNode element : ((TomlArrayValueNode) valueNode.get()).elements()) {
+            if (element.kind() == TomlType.STRING) {
+                output.add(((TomlStringValueNode) element).getValue());
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Get the keys of a table, e.g. the names of the profiles under {@code cloud.profiles}.
+     *
+     * @param toml toml
+     * @param key  dotted key of the table
+     * @return keys of the table, or an empty set if there is no such table
+     */
+    public static Set<String> getTableKeys(Toml toml, String key) {
+        Optional<Toml> table = toml.getTable(key);
+        if (table.isEmpty()) {
+            return new TreeSet<>();
+        }
+        return new TreeSet<>(table.get().toMap().keySet());
+    }
+
+    /**
+     * Get the Cloud.toml of a profile, which is the Cloud.toml without its profiles overridden by the tables of the
+     * profile.
+     *
+     * @param ballerinaCloud Cloud.toml
+     * @param profile        profile name
+     * @return Cloud.toml of the profile
+     */
+    @SuppressWarnings("unchecked")
+    public static Toml getProfileToml(Toml ballerinaCloud, String profile) {
+        Map<String, Object> profileToml = new LinkedHashMap<>(ballerinaCloud.toMap());
+        Map<String, Object> cloud = new LinkedHashMap<>((Map<String, Object>) profileToml.get("cloud"));
+        cloud.remove("profiles");
+        profileToml.put("cloud", cloud);
+        ballerinaCloud.getTable(PROFILES + "." + profile).ifPresent(table -> merge(profileToml, table.toMap()));
+        return Toml.read(toToml(profileToml));
+    }
+
+    /**
+     * Merge the entries of a table over another. Tables are merged key by key, while any other value, including an
+     * array of tables, replaces the value it overrides.
+     *
+     * @param base     table to be overridden, which is updated
+     * @param override table with the overriding entries
+     */
+    @SuppressWarnings("unchecked")
+    public static void merge(Map<String, Object> base, Map<String, Object> override) {
+        for (Map.Entry<String, Object> entry : override.entrySet()) {
+            Object value = base.get(entry.getKey());
+            if (value instanceof Map && entry.getValue() instanceof Map) {
+                Map<String, Object> table = new LinkedHashMap<>((Map<String, Object>) value);
+                merge(table, (Map<String, Object>) entry.getValue());
+                base.put(entry.getKey(), table);
+            } else {
+                base.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Write a table read with {@link Toml#toMap()} back to toml.
+     *
+     * @param table table
+     * @return toml content
+     */
+    public static String toToml(Map<String, Object> table) {
+        StringBuilder toml = new StringBuilder();
+        appendTable(toml, "", table);
+        return toml.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void appendTable(StringBuilder toml, String path, Map<String, Object> table) {
+        // Key values of a table have to precede its sub tables.
+        for (Map.Entry<String, Object> entry : table.entrySet()) {
+            if (!(entry.getValue() instanceof Map) && !isTableArray(entry.getValue())) {
+                toml.append(toKey(entry.getKey())).append(" = ").append(toValue(entry.getValue())).append("\n");
+            }
+        }
+        for (Map.Entry<String, Object> entry : table.entrySet()) {
+            String entryPath = path.isEmpty() ? toKey(entry.getKey()) : path + "." + toKey(entry.getKey());
+            if (entry.getValue() instanceof Map) {
+                toml.append("\n[").append(entryPath).append("]\n");
+                appendTable(toml, entryPath, (Map<String, Object>) entry.getValue());
+            } else if (isTableArray(entry.getValue())) {
+                for (Object element : (List<Object>) entry.getValue()) {
+                    toml.append("\n[[").append(entryPath).append("]]\n");
+                    appendTable(toml, entryPath, (Map<String, Object>) element);
+                }
+            }
+        }
+    }
+
+    private static boolean isTableArray(Object value) {
+        return value instanceof List && !((List<?>) value).isEmpty() &&
+                ((List<?>) value).stream().allMatch(element -> element instanceof Map);
+    }
+
+    private static String toKey(String key) {
+        return key.matches("[A-Za-z0-9_-]+") ? key : quote(key);
+    }
+
+    private static String toValue(Object value) {
+        if (value instanceof List) {
+            List<String> elements = new ArrayList<>();
+            for (Object element : (List<?>) value) {
+                elements.add(toValue(element));
+            }
+            return "[" + String.join(", ", elements) + "]";
+        }
+        if (value instanceof String) {
+            return quote((String) value);
+        }
+        return String.valueOf(value);
+    }
+
+    private static String quote(String value) {
+        StringBuilder string = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    string.append("\\\"");
+                    break;
+                case '\\':
+                    string.append("\\\\");
+                    break;
+                case '\n':
+                    string.append("\\n");
+                    break;
+                case '\r':
+                    string.append("\\r");
+                    break;
+                case '\t':
+                    string.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        string.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        string.append(c);
+                    }
+            }
+        }
+        return string.append("\"").toString();
+    }
+
     public static Toml createK8sTomlFromProject(TomlDocument tomlDocument) {
         TomlTableNode astNode = tomlDocument.toml().rootNode();
         astNode.clearDiagnostics();